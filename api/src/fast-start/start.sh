@@ -0,0 +1,14 @@
+#!/usr/bin/env sh
+# Starts the fast-start api: AOT-generated bean definitions instead of classpath scanning, and classes mapped from
+# the api.jsa archive written by train.sh instead of being loaded and verified one by one. Without an archive, or
+# with one dumped from a different build, the api still starts, just without class-data sharing.
+# Arguments are passed to the application, e.g. ./start.sh --server.port=8121
+cd "$(dirname "$0")"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+exec "$JAVA" -XX:SharedArchiveFile=api.jsa -Xshare:auto \
+    -Dspring.aot.enabled=true \
+    @modules.args \
+    $JAVA_OPTS \
+    @classpath.args \
+    com.reliaquest.api.ApiApplication "$@"
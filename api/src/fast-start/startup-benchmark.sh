@@ -0,0 +1,59 @@
+#!/usr/bin/env sh
+# Compares the time from launching the api to its first successful response, a liveness probe, with and without
+# fast start. Both modes run the same jars; the baseline scans the classpath and loads classes from the jars.
+# Usage: ./startup-benchmark.sh [runs] [port]
+set -e
+cd "$(dirname "$0")"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+RUNS="${1:-5}"
+PORT="${2:-8191}"
+URL="http://localhost:$PORT/actuator/health/liveness"
+
+if [ ! -f api.jsa ]; then
+    echo "api.jsa not found, run ./train.sh first" >&2
+    exit 1
+fi
+
+now_millis() {
+    echo $(($(date +%s%N) / 1000000))
+}
+
+# Launches the api with the given JVM options and prints the milliseconds until it first answers
+time_to_first_response() {
+    start=$(now_millis)
+    "$JAVA" "$@" @modules.args @classpath.args com.reliaquest.api.ApiApplication \
+        --server.port="$PORT" --api.cache.refresh.enabled=false >/dev/null 2>&1 &
+    pid=$!
+    until curl -fs -o /dev/null "$URL"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "api exited before answering" >&2
+            exit 1
+        fi
+        sleep 0.02
+    done
+    echo $(($(now_millis) - start))
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+# Prints the median of the numbers read from standard input
+median() {
+    sort -n | awk '{ values[NR] = $1 }
+        END { print (NR % 2) ? values[(NR + 1) / 2] : (values[NR / 2] + values[NR / 2 + 1]) / 2 }'
+}
+
+for mode in baseline fast-start; do
+    results=""
+    i=0
+    while [ "$i" -lt "$RUNS" ]; do
+        if [ "$mode" = baseline ]; then
+            millis=$(time_to_first_response -Xshare:auto)
+        else
+            millis=$(time_to_first_response -XX:SharedArchiveFile=api.jsa -Xshare:auto -Dspring.aot.enabled=true)
+        fi
+        results="$results$millis
+"
+        i=$((i + 1))
+    done
+    echo "$mode: median $(printf '%s' "$results" | median) ms over $RUNS runs ($(echo $results) ms)"
+done
@@ -0,0 +1,15 @@
+#!/usr/bin/env sh
+# Training run for the fast-start api: starts the application context with its AOT-generated bean definitions,
+# stops it once the context is refreshed (before the web server starts or anything calls upstream) and dumps every
+# class loaded along the way into api.jsa.
+set -e
+cd "$(dirname "$0")"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+rm -f api.jsa
+"$JAVA" -XX:ArchiveClassesAtExit=api.jsa \
+    -Dspring.aot.enabled=true \
+    -Dspring.context.exit=onRefresh \
+    @modules.args \
+    @classpath.args \
+    com.reliaquest.api.ApiApplication "$@"
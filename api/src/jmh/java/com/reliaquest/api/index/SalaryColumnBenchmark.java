@@ -0,0 +1,127 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.dto.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares salary aggregates over the boxed roster, as the service computed them before, with the scalar and the
+ * vector kernels over a {@link SalaryColumn}. Salaries are uniform over the mock server's range. The vector kernels
+ * are only built with {@code -PvectorKernels}; without it the vector benchmarks measure the scalar kernels again.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SalaryColumnBenchmark {
+
+    private static final int MIN_SALARY = 30_000;
+
+    private static final int MAX_SALARY = 500_000;
+
+    @Param({"1000", "100000", "1000000"})
+    private int rosterSize;
+
+    private List<Employee> roster;
+
+    private SalaryColumn scalar;
+
+    private SalaryColumn vector;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        roster = new ArrayList<>(rosterSize);
+        for (int i = 0; i < rosterSize; i++) {
+            Employee employee = new Employee();
+            employee.setName("Employee " + i);
+            employee.setSalary(MIN_SALARY + random.nextInt(MAX_SALARY - MIN_SALARY));
+            roster.add(employee);
+        }
+        scalar = SalaryColumn.of(roster, new ScalarSalaryKernels());
+        vector = SalaryColumn.of(roster, SalaryKernels.best());
+    }
+
+    @Benchmark
+    public Optional<Integer> maxBoxed() {
+        return roster.stream().map(Employee::getSalary).max(Integer::compareTo);
+    }
+
+    @Benchmark
+    public OptionalInt maxScalar() {
+        return scalar.max();
+    }
+
+    @Benchmark
+    public OptionalInt maxVector() {
+        return vector.max();
+    }
+
+    @Benchmark
+    public long sumBoxed() {
+        return roster.stream().mapToLong(Employee::getSalary).sum();
+    }
+
+    @Benchmark
+    public long sumScalar() {
+        return scalar.sum();
+    }
+
+    @Benchmark
+    public long sumVector() {
+        return vector.sum();
+    }
+
+    @Benchmark
+    public long countInRangeBoxed() {
+        return roster.stream()
+                .filter(employee -> employee.getSalary() >= 100_000 && employee.getSalary() <= 200_000)
+                .count();
+    }
+
+    @Benchmark
+    public int countInRangeScalar() {
+        return scalar.countInRange(100_000, 200_000);
+    }
+
+    @Benchmark
+    public int countInRangeVector() {
+        return vector.countInRange(100_000, 200_000);
+    }
+
+    @Benchmark
+    public List<Employee> topTenBoxed() {
+        return roster.stream()
+                .sorted(Comparator.comparing(Employee::getSalary).reversed())
+                .limit(10)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Employee> topTenScalar() {
+        return scalar.topK(10);
+    }
+
+    @Benchmark
+    public List<Employee> topTenVector() {
+        return vector.topK(10);
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.api.admission;
+
+import com.reliaquest.api.cache.LastKnownGoodRoster;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.controller.EmployeeAnalyticsController;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.write.WriteBehind;
+import com.reliaquest.api.write.WriteBehindQueue;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Load shedding in front of the employee endpoints.
+ * <p>
+ * A request that can be answered without the upstream api is always let through: reads while the roster is cached,
+ * or while a last known good roster can stand in for it, and writes queued in write-behind mode. Any other request is
+ * passed to {@link UpstreamAdmission}, which rejects it at once with 429 or 503 and a {@code Retry-After} if the
+ * upstream could not serve it in time.
+ */
+@Component
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+    private static final Set<Class<?>> GUARDED_CONTROLLERS =
+            Set.of(EmployeeController.class, EmployeeAnalyticsController.class);
+
+    private final UpstreamAdmission upstreamAdmission;
+
+    private final RosterCache rosterCache;
+
+    private final LastKnownGoodRoster lastKnownGoodRoster;
+
+    private final WriteBehindQueue writeBehindQueue;
+
+    public AdmissionInterceptor(
+            final UpstreamAdmission upstreamAdmission,
+            final RosterCache rosterCache,
+            final LastKnownGoodRoster lastKnownGoodRoster,
+            final WriteBehindQueue writeBehindQueue) {
+        this.upstreamAdmission = upstreamAdmission;
+        this.rosterCache = rosterCache;
+        this.lastKnownGoodRoster = lastKnownGoodRoster;
+        this.writeBehindQueue = writeBehindQueue;
+    }
+
+    @Override
+    public boolean preHandle(
+            final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !GUARDED_CONTROLLERS.contains(handlerMethod.getBeanType())) {
+            return true;
+        }
+        switch (request.getMethod()) {
+            case "GET" -> {
+                // Without a cached roster this costs a stat of the snapshot file, whose decoded roster is reused
+                if (rosterCache.peek() == null && !lastKnownGoodRoster.isAvailable()) {
+                    upstreamAdmission.admit(ApiClient.FETCH);
+                }
+            }
+            case "POST" -> {
+                if (!isQueued(handlerMethod)) {
+                    upstreamAdmission.admit(ApiClient.CREATE);
+                }
+            }
+            case "DELETE" -> {
+                if (!isQueued(handlerMethod)) {
+                    upstreamAdmission.admit(ApiClient.DELETE);
+                }
+            }
+            default -> {}
+        }
+        return true;
+    }
+
+    private boolean isQueued(final HandlerMethod handlerMethod) {
+        return writeBehindQueue.isEnabled() && handlerMethod.hasMethodAnnotation(WriteBehind.class);
+    }
+}
@@ -0,0 +1,163 @@
+package com.reliaquest.api.admission;
+
+import com.reliaquest.api.exception.AdmissionRejectedException;
+import com.reliaquest.api.exception.RateLimitException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Knows when the upstream api cannot take a call, so that callers are turned away at once instead of waiting
+ * through retries.
+ * <p>
+ * The state is learned from the Resilience4j circuit breakers. A call rejected with 429 marks the upstream as
+ * throttling for its {@code Retry-After}, or for {@code api.admission.throttle-backoff} if it gave none, and the
+ * next call the upstream answers successfully clears it. {@code ApiClient} reports those calls through
+ * {@link #onUpstreamSuccess()}: the circuit breakers also count reads answered from the roster cache as successes,
+ * which say nothing about the upstream. An instance whose circuit opens is unavailable for the circuit's wait
+ * duration in the open state. While {@code api.admission.enabled} is set, {@link #admit(String)} rejects calls in
+ * either state.
+ */
+@Component
+public class UpstreamAdmission implements RegistryEventConsumer<CircuitBreaker> {
+
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamAdmission.class);
+
+    private final boolean enabled;
+
+    private final long throttleBackoffMillis;
+
+    private final AtomicLong throttledUntilMillis = new AtomicLong();
+
+    private final Map<String, Long> openUntilMillis = new ConcurrentHashMap<>();
+
+    public UpstreamAdmission(
+            @Value("${api.admission.enabled:true}") final boolean enabled,
+            @Value("${api.admission.throttle-backoff:5s}") final Duration throttleBackoff) {
+        this.enabled = enabled;
+        this.throttleBackoffMillis = throttleBackoff.toMillis();
+    }
+
+    /**
+     * Admits a call to the upstream api.
+     *
+     * @param instance the Resilience4j instance the call goes through, e.g. {@code employeeFetch}
+     * @throws AdmissionRejectedException with 503 while the instance's circuit is open, or with 429 while the
+     *     upstream is throttling
+     */
+    public void admit(final String instance) {
+        if (enabled) {
+            check(instance, System.currentTimeMillis());
+        }
+    }
+
+    void check(final String instance, final long nowMillis) {
+        Long openUntil = openUntilMillis.get(instance);
+        if (openUntil != null && nowMillis < openUntil) {
+            throw new AdmissionRejectedException(
+                    "The external service is temporarily unavailable. Please try again later.",
+                    HttpStatus.SERVICE_UNAVAILABLE,
+                    secondsUntil(openUntil, nowMillis));
+        }
+        long throttledUntil = throttledUntilMillis.get();
+        if (nowMillis < throttledUntil) {
+            throw new AdmissionRejectedException(
+                    "The external service is rate limiting requests. Please try again later.",
+                    HttpStatus.TOO_MANY_REQUESTS,
+                    secondsUntil(throttledUntil, nowMillis));
+        }
+    }
+
+    /**
+     * Time left until the circuit of an instance lets a call through again, for the {@code Retry-After} of calls
+     * its open circuit rejected.
+     *
+     * @param instance the Resilience4j instance name
+     * @return the seconds left, at least one, or empty if the circuit was not seen opening
+     */
+    public OptionalLong secondsUntilHalfOpen(final String instance) {
+        return secondsUntilHalfOpen(instance, System.currentTimeMillis());
+    }
+
+    OptionalLong secondsUntilHalfOpen(final String instance, final long nowMillis) {
+        Long openUntil = openUntilMillis.get(instance);
+        return openUntil != null ? OptionalLong.of(secondsUntil(openUntil, nowMillis)) : OptionalLong.empty();
+    }
+
+    void onRateLimited(final Integer retryAfterSeconds, final long nowMillis) {
+        long backoffMillis =
+                retryAfterSeconds != null ? TimeUnit.SECONDS.toMillis(retryAfterSeconds) : throttleBackoffMillis;
+        throttledUntilMillis.accumulateAndGet(nowMillis + backoffMillis, Math::max);
+    }
+
+    /**
+     * Clears the throttle after the upstream answered a call successfully.
+     */
+    public void onUpstreamSuccess() {
+        throttledUntilMillis.set(0);
+    }
+
+    void onOpened(final String instance, final Duration waitDuration, final long nowMillis) {
+        openUntilMillis.put(instance, nowMillis + waitDuration.toMillis());
+    }
+
+    void onLeftOpen(final String instance) {
+        openUntilMillis.remove(instance);
+    }
+
+    private static long secondsUntil(final long untilMillis, final long nowMillis) {
+        return Math.max(1, (untilMillis - nowMillis + 999) / 1000);
+    }
+
+    @Override
+    public void onEntryAddedEvent(final EntryAddedEvent<CircuitBreaker> entryAddedEvent) {
+        register(entryAddedEvent.getAddedEntry());
+    }
+
+    @Override
+    public void onEntryRemovedEvent(final EntryRemovedEvent<CircuitBreaker> entryRemoveEvent) {
+        onLeftOpen(entryRemoveEvent.getRemovedEntry().getName());
+    }
+
+    @Override
+    public void onEntryReplacedEvent(final EntryReplacedEvent<CircuitBreaker> entryReplacedEvent) {
+        onLeftOpen(entryReplacedEvent.getOldEntry().getName());
+        register(entryReplacedEvent.getNewEntry());
+    }
+
+    private void register(final CircuitBreaker circuitBreaker) {
+        String name = circuitBreaker.getName();
+        circuitBreaker
+                .getEventPublisher()
+                .onError(event -> {
+                    if (event.getThrowable() instanceof RateLimitException rateLimit) {
+                        onRateLimited(rateLimit.getRetryAfterSeconds(), System.currentTimeMillis());
+                    }
+                })
+                .onStateTransition(event -> {
+                    if (event.getStateTransition().getToState() == CircuitBreaker.State.OPEN) {
+                        Duration waitDuration = Duration.ofMillis(circuitBreaker
+                                .getCircuitBreakerConfig()
+                                .getWaitIntervalFunctionInOpenState()
+                                .apply(1));
+                        logger.warn("Circuit {} opened, rejecting its calls for {} ms", name, waitDuration.toMillis());
+                        onOpened(name, waitDuration, System.currentTimeMillis());
+                    } else {
+                        onLeftOpen(name);
+                    }
+                });
+    }
+}
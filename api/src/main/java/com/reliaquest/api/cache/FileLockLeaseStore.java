@@ -0,0 +1,84 @@
+package com.reliaquest.api.cache;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link LeaseStore} for nodes on one host, backed by an exclusive lock on a local file.
+ * <p>
+ * The operating system releases the lock when the holding process exits, so a crashed leader is replaced on the
+ * next election without waiting for the lease to expire.
+ */
+public class FileLockLeaseStore implements LeaseStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileLockLeaseStore.class);
+
+    private final Path path;
+
+    private FileChannel channel;
+
+    private FileLock lock;
+
+    public FileLockLeaseStore(final Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public synchronized boolean tryAcquire(final String holder, final Duration duration) {
+        if (lock != null && lock.isValid()) {
+            return true;
+        }
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // Held by another store in this JVM
+            lock = null;
+        } catch (IOException e) {
+            logger.warn("Failed to lock {}: {}", path, e.getMessage());
+            lock = null;
+        }
+        if (lock == null) {
+            closeChannel();
+            return false;
+        }
+        logger.info("{} acquired the refresh lease {}", holder, path);
+        return true;
+    }
+
+    @Override
+    public synchronized void release(final String holder) {
+        if (lock == null) {
+            return;
+        }
+        try {
+            lock.release();
+            logger.info("{} released the refresh lease {}", holder, path);
+        } catch (IOException e) {
+            logger.warn("Failed to release lock on {}: {}", path, e.getMessage());
+        }
+        lock = null;
+        closeChannel();
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close {}: {}", path, e.getMessage());
+        }
+        channel = null;
+    }
+}
@@ -0,0 +1,109 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.exception.AdmissionRejectedException;
+import com.reliaquest.api.exception.ApiClientException;
+import com.reliaquest.api.exception.RateLimitException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Degraded mode for roster reads.
+ * <p>
+ * When loading the roster fails because the upstream api is unavailable (rate limited, erroring, unreachable, or
+ * shut off by the circuit breaker or bulkhead), reads are answered from the most recent roster this process knows
+ * of, as long as it is no older than {@code api.cache.degraded.max-staleness}. Such responses carry an
+ * {@value #DATA_AGE_HEADER} header with the roster's age in seconds and a {@code Warning: 110} header.
+ */
+@Component
+public class LastKnownGoodRoster {
+
+    public static final String DATA_AGE_HEADER = "X-Data-Age";
+
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    private static final Logger logger = LoggerFactory.getLogger(LastKnownGoodRoster.class);
+
+    private final RosterCache rosterCache;
+
+    private final boolean enabled;
+
+    private final Duration maxStaleness;
+
+    public LastKnownGoodRoster(
+            final RosterCache rosterCache,
+            @Value("${api.cache.degraded.enabled:true}") final boolean enabled,
+            @Value("${api.cache.degraded.max-staleness:15m}") final Duration maxStaleness) {
+        this.rosterCache = rosterCache;
+        this.enabled = enabled;
+        this.maxStaleness = maxStaleness;
+    }
+
+    /**
+     * Recovers from a failed roster load.
+     *
+     * @param failure the exception thrown while loading the roster
+     * @return the last known good roster
+     * @throws RuntimeException the original failure if it does not indicate an unavailable upstream, degraded mode
+     *     is disabled, or no roster within the staleness bound is known
+     */
+    public List<Employee> recover(final RuntimeException failure) {
+        if (!enabled || !isUpstreamUnavailable(failure)) {
+            throw failure;
+        }
+
+        Optional<RosterSnapshot> lastKnownGood = rosterCache.lastKnownGood(maxStaleness);
+        if (lastKnownGood.isEmpty()) {
+            logger.warn("Upstream unavailable and no roster within {} to fall back on", maxStaleness);
+            throw failure;
+        }
+
+        RosterSnapshot snapshot = lastKnownGood.get();
+        long ageSeconds = snapshot.ageMillis(System.currentTimeMillis()) / 1000;
+        logger.warn(
+                "Upstream unavailable ({}); serving roster v{} from {} s ago",
+                failure.getClass().getSimpleName(),
+                snapshot.version(),
+                ageSeconds);
+        markStale(ageSeconds);
+        return snapshot.employees();
+    }
+
+    /**
+     * @return whether a roster load failing now because the upstream is unavailable would be answered from a last
+     *     known good roster
+     */
+    public boolean isAvailable() {
+        return enabled && rosterCache.lastKnownGood(maxStaleness).isPresent();
+    }
+
+    static boolean isUpstreamUnavailable(final RuntimeException failure) {
+        return failure instanceof RateLimitException
+                || failure instanceof AdmissionRejectedException
+                || failure instanceof ApiClientException
+                || failure instanceof CallNotPermittedException
+                || failure instanceof BulkheadFullException
+                || failure instanceof ResourceAccessException;
+    }
+
+    private static void markStale(final long ageSeconds) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                && attributes.getResponse() != null) {
+            HttpServletResponse response = attributes.getResponse();
+            response.setHeader(DATA_AGE_HEADER, Long.toString(ageSeconds));
+            response.setHeader(HttpHeaders.WARNING, STALE_WARNING);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.reliaquest.api.cache;
+
+import java.time.Duration;
+
+/**
+ * A shared lease that at most one api node holds at a time, used to elect the node that refreshes the roster from
+ * the upstream api.
+ * <p>
+ * Implementations decide what the lease lives on, e.g. a file lock for nodes on one host or a row in a shared
+ * store for nodes on several hosts. Providing a {@code LeaseStore} bean replaces the default
+ * {@link FileLockLeaseStore}.
+ */
+public interface LeaseStore {
+
+    /**
+     * Acquires the lease, or renews it if {@code holder} already holds it.
+     *
+     * @param holder a unique id of the calling node
+     * @param duration how long the lease stays valid without renewal; stores whose leases end with the holding
+     *     process, such as file locks, may ignore it
+     * @return whether {@code holder} holds the lease
+     */
+    boolean tryAcquire(String holder, Duration duration);
+
+    /**
+     * Gives the lease up if {@code holder} holds it.
+     *
+     * @param holder the id the lease was acquired with
+     */
+    void release(String holder);
+}
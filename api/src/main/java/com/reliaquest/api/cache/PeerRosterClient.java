@@ -0,0 +1,129 @@
+package com.reliaquest.api.cache;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Fills roster cache misses from the caches of peer api instances.
+ * <p>
+ * Every peer is asked for the roster it holds in memory, through its internal snapshot endpoint. Of the snapshots
+ * that decode with a supported format version and are younger than {@code api.cache.snapshot.max-age}, the most
+ * recently loaded wins; only when no peer has one does the caller go to the upstream api. The last snapshot
+ * received from each peer is sent back as {@code If-None-Match}, so a peer whose roster has not changed answers
+ * with 304 instead of the whole roster. Peers answer from memory only, so a miss on every instance never turns
+ * into requests between them.
+ */
+@Component
+public class PeerRosterClient implements RosterSnapshotSource {
+
+    public static final String SNAPSHOT_PATH = "/internal/v1/roster/snapshot";
+
+    private static final Logger logger = LoggerFactory.getLogger(PeerRosterClient.class);
+
+    private final boolean enabled;
+
+    private final List<String> peerUrls;
+
+    private final Duration maxAge;
+
+    /**
+     * Snapshots of different writers are ordered by when their roster was loaded, patches of one roster by version.
+     */
+    private static final Comparator<RosterSnapshot> FRESHNESS =
+            Comparator.comparingLong(RosterSnapshot::writtenAtMillis).thenComparingLong(RosterSnapshot::version);
+
+    private final RestClient restClient;
+
+    private final Map<String, RosterSnapshot> lastReceived = new ConcurrentHashMap<>();
+
+    public PeerRosterClient(
+            @Value("${api.cache.peers.enabled:false}") final boolean enabled,
+            @Value("${api.cache.peers.urls:}") final List<String> peerUrls,
+            @Value("${api.cache.peers.timeout:300ms}") final Duration timeout,
+            @Value("${api.cache.snapshot.max-age:2m}") final Duration maxAge) {
+        this.enabled = enabled;
+        this.peerUrls = List.copyOf(peerUrls);
+        this.maxAge = maxAge;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) timeout.toMillis());
+        requestFactory.setReadTimeout((int) timeout.toMillis());
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Optional<RosterSnapshot> read() {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return peerUrls.stream().map(this::readFrom).flatMap(Optional::stream).max(FRESHNESS);
+    }
+
+    private Optional<RosterSnapshot> readFrom(final String peerUrl) {
+        RosterSnapshot held = lastReceived.get(peerUrl);
+        ResponseEntity<byte[]> response;
+        try {
+            response = restClient
+                    .get()
+                    .uri(peerUrl + SNAPSHOT_PATH)
+                    .accept(RosterSnapshotCodec.MEDIA_TYPE)
+                    .headers(headers -> {
+                        if (held != null) {
+                            headers.setIfNoneMatch(held.etag());
+                        }
+                    })
+                    .retrieve()
+                    .toEntity(byte[].class);
+        } catch (RestClientException e) {
+            logger.debug("Peer {} did not provide a roster snapshot: {}", peerUrl, e.getMessage());
+            return Optional.empty();
+        }
+
+        RosterSnapshot snapshot;
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && held != null) {
+            snapshot = held;
+        } else if (response.getBody() == null || response.getBody().length == 0) {
+            lastReceived.remove(peerUrl);
+            return Optional.empty();
+        } else {
+            try {
+                snapshot = RosterSnapshotCodec.decode(ByteBuffer.wrap(response.getBody()));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Ignoring roster snapshot from peer {}: {}", peerUrl, e.getMessage());
+                return Optional.empty();
+            }
+            lastReceived.put(peerUrl, snapshot);
+            logger.info(
+                    "Received roster snapshot v{} with {} employees from peer {}",
+                    snapshot.version(),
+                    snapshot.employees().size(),
+                    peerUrl);
+        }
+
+        long ageMillis = snapshot.ageMillis(System.currentTimeMillis());
+        if (ageMillis > maxAge.toMillis()) {
+            logger.debug(
+                    "Ignoring roster snapshot v{} from peer {}: {} ms old", snapshot.version(), peerUrl, ageMillis);
+            return Optional.empty();
+        }
+        return Optional.of(snapshot);
+    }
+}
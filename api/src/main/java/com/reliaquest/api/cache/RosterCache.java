@@ -0,0 +1,180 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.Employee;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+
+/**
+ * Programmatic access to the roster held in the {@code employees} cache.
+ * <p>
+ * The roster is loaded through {@code ApiClient.fetchAllEmployees()}. After a successful create or delete the
+ * cached roster is patched with the change rather than evicted, so the next read does not cost an upstream
+ * request and derived indexes can follow the change incrementally through {@link RosterChangeListener}s. A patch
+ * only replaces the very roster it was made from and does not extend how long that roster stays cached.
+ */
+@Component
+public class RosterCache {
+
+    public static final String CACHE_NAME = "employees";
+
+    /**
+     * Key of the roster entry; {@code fetchAllEmployees()} takes no arguments.
+     */
+    public static final Object ROSTER_KEY = SimpleKey.EMPTY;
+
+    private static final Logger logger = LoggerFactory.getLogger(RosterCache.class);
+
+    private final CacheManager cacheManager;
+
+    private final List<RosterChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    public RosterCache(final CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Returns the cached roster without loading it.
+     *
+     * @return the cached roster, or null if the cache is empty
+     */
+    @SuppressWarnings("unchecked")
+    public List<Employee> peek() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        return cache == null ? null : (List<Employee>) cache.get(ROSTER_KEY, List.class);
+    }
+
+    /**
+     * Returns the roster held in memory with its snapshot metadata, without loading it from anywhere.
+     *
+     * @return the in-memory snapshot, or empty if there is none or the cache is not snapshot-backed
+     */
+    public Optional<RosterSnapshot> localSnapshot() {
+        return cacheManager.getCache(CACHE_NAME) instanceof SnapshotTieredCache tieredCache
+                ? tieredCache.localSnapshot()
+                : Optional.empty();
+    }
+
+    /**
+     * Returns the most recent roster known to this process, even if it has expired from the cache, for serving
+     * reads while the upstream api is unavailable.
+     *
+     * @param maxAge the oldest roster to return
+     * @return the last known good roster, or empty if there is none or it is older than {@code maxAge}
+     */
+    public Optional<RosterSnapshot> lastKnownGood(final Duration maxAge) {
+        if (!(cacheManager.getCache(CACHE_NAME) instanceof SnapshotTieredCache tieredCache)) {
+            return Optional.empty();
+        }
+        return tieredCache
+                .lastKnownGood(maxAge)
+                .filter(snapshot -> snapshot.ageMillis(System.currentTimeMillis()) <= maxAge.toMillis());
+    }
+
+    /**
+     * Replaces the cached roster with a snapshot published by another node, unless the cache holds a fresher one.
+     * Listeners are not notified; this is a reload rather than a patch.
+     *
+     * @param snapshot the published snapshot
+     * @return the roster now cached
+     */
+    public List<Employee> adopt(final RosterSnapshot snapshot) {
+        if (cacheManager.getCache(CACHE_NAME) instanceof SnapshotTieredCache tieredCache) {
+            return tieredCache.adopt(snapshot);
+        }
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.put(ROSTER_KEY, snapshot.employees());
+        }
+        return snapshot.employees();
+    }
+
+    /**
+     * Registers a listener for roster patches.
+     *
+     * @param listener the listener
+     */
+    public void addListener(final RosterChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Adds a newly created employee to the cached roster.
+     *
+     * @param employee the created employee
+     */
+    public void applyCreated(final Employee employee) {
+        apply(List.of(employee), List.of());
+    }
+
+    /**
+     * Removes deleted employees from the cached roster.
+     *
+     * @param employees the deleted employees, matched by id
+     */
+    public void applyDeleted(final Collection<Employee> employees) {
+        apply(List.of(), employees);
+    }
+
+    private synchronized void apply(final Collection<Employee> added, final Collection<Employee> deleted) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        Set<String> deletedIds = new HashSet<>();
+        deleted.forEach(employee -> deletedIds.add(employee.getId()));
+
+        // A reload racing the patch replaces the roster it was made from, so patch the reloaded roster instead
+        List<Employee> previous;
+        while ((previous = peek()) != null) {
+            Set<String> existingIds = new HashSet<>(previous.size() * 2);
+            List<Employee> patched = new ArrayList<>(previous.size() + added.size());
+            List<Employee> removed = new ArrayList<>(deleted.size());
+            for (Employee employee : previous) {
+                if (deletedIds.contains(employee.getId())) {
+                    removed.add(employee);
+                } else {
+                    patched.add(employee);
+                    existingIds.add(employee.getId());
+                }
+            }
+            // A concurrent reload may already contain the new employee
+            List<Employee> appended = new ArrayList<>(added.size());
+            for (Employee employee : added) {
+                if (existingIds.add(employee.getId())) {
+                    patched.add(employee);
+                    appended.add(employee);
+                }
+            }
+            if (removed.isEmpty() && appended.isEmpty()) {
+                return;
+            }
+
+            List<Employee> current = Collections.unmodifiableList(patched);
+            if (cache instanceof SnapshotTieredCache tieredCache) {
+                if (!tieredCache.replace(previous, current)) {
+                    continue;
+                }
+            } else {
+                cache.put(ROSTER_KEY, current);
+            }
+            logger.debug("Patched cached roster: {} added, {} removed", appended.size(), removed.size());
+            for (RosterChangeListener listener : listeners) {
+                listener.onRosterChanged(previous, current, appended, removed);
+            }
+            return;
+        }
+    }
+}
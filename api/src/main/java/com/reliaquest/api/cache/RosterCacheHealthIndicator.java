@@ -0,0 +1,33 @@
+package com.reliaquest.api.cache;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the roster cache as out of service until {@link RosterRefresher} has primed it. Part of the readiness
+ * group, so traffic is only routed to an instance that can serve it from the cache.
+ */
+@Component
+public class RosterCacheHealthIndicator implements HealthIndicator {
+
+    private final RosterRefresher refresher;
+
+    public RosterCacheHealthIndicator(final RosterRefresher refresher) {
+        this.refresher = refresher;
+    }
+
+    @Override
+    public Health health() {
+        if (!refresher.isPrimed()) {
+            return Health.outOfService()
+                    .withDetail("reason", "Roster cache is not primed yet")
+                    .build();
+        }
+        Health.Builder health = Health.up().withDetail("employees", refresher.getRosterSize());
+        if (refresher.getLastLoad() != null) {
+            health.withDetail("lastLoad", refresher.getLastLoad().toString());
+        }
+        return health.build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.Employee;
+import java.util.List;
+
+/**
+ * Notified when the cached roster is patched after a successful write.
+ */
+@FunctionalInterface
+public interface RosterChangeListener {
+
+    /**
+     * @param previous the roster before the change
+     * @param current the roster after the change, now in the cache
+     * @param added employees that were added
+     * @param removed employees that were removed, as they appeared in {@code previous}
+     */
+    void onRosterChanged(List<Employee> previous, List<Employee> current, List<Employee> added, List<Employee> removed);
+}
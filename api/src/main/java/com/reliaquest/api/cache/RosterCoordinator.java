@@ -0,0 +1,84 @@
+package com.reliaquest.api.cache;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Elects one api node to refresh the roster from the upstream api when {@code api.cache.coordination.enabled} is
+ * set.
+ * <p>
+ * The leader is the node holding the {@link LeaseStore} lease; it refreshes as usual and publishes every roster
+ * through the snapshot file and its peer endpoint. Followers never refresh from the upstream api and instead
+ * adopt the leader's published snapshot, so upstream traffic stays constant however many nodes run. Without
+ * coordination every node is its own leader.
+ */
+@Component
+public class RosterCoordinator {
+
+    private static final Logger logger = LoggerFactory.getLogger(RosterCoordinator.class);
+
+    private final boolean enabled;
+
+    private final LeaseStore leaseStore;
+
+    private final Duration leaseDuration;
+
+    private final RosterSnapshotStore snapshotStore;
+
+    private final PeerRosterClient peerRosterClient;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean leader;
+
+    public RosterCoordinator(
+            @Value("${api.cache.coordination.enabled:false}") final boolean enabled,
+            final LeaseStore leaseStore,
+            @Value("${api.cache.coordination.lease-duration:3m}") final Duration leaseDuration,
+            final RosterSnapshotStore snapshotStore,
+            final PeerRosterClient peerRosterClient) {
+        this.enabled = enabled;
+        this.leaseStore = leaseStore;
+        this.leaseDuration = leaseDuration;
+        this.snapshotStore = snapshotStore;
+        this.peerRosterClient = peerRosterClient;
+    }
+
+    /**
+     * Acquires or renews the refresh lease.
+     *
+     * @return whether this node should refresh from the upstream api
+     */
+    public boolean tryLead() {
+        if (!enabled) {
+            return true;
+        }
+        boolean leading = leaseStore.tryAcquire(nodeId, leaseDuration);
+        if (leading != leader) {
+            logger.info("Node {} is now the roster refresh {}", nodeId, leading ? "leader" : "follower");
+            leader = leading;
+        }
+        return leading;
+    }
+
+    /**
+     * @return a fresh roster published by the leader, from the snapshot file or else from a peer
+     */
+    public Optional<RosterSnapshot> readPublished() {
+        Optional<RosterSnapshot> snapshot = snapshotStore.read();
+        return snapshot.isPresent() ? snapshot : peerRosterClient.read();
+    }
+
+    @PreDestroy
+    void release() {
+        if (enabled) {
+            leaseStore.release(nodeId);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.Employee;
+import java.util.List;
+
+/**
+ * A component holding indexes derived from the roster, which can build them ahead of the first request that
+ * needs them.
+ */
+public interface RosterIndex {
+
+    /**
+     * Builds the indexes for the given roster if they are not built yet.
+     *
+     * @param roster the roster that is now cached
+     */
+    void prepare(List<Employee> roster);
+}
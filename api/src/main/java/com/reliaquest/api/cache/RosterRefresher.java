@@ -0,0 +1,210 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.dto.Employee;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Primes the roster cache at startup and keeps it fresh in the background.
+ * <p>
+ * Priming loads the roster through the cache, so a fresh snapshot file costs no upstream request, and builds every
+ * {@link RosterIndex}. Until it succeeds the {@code rosterCache} health indicator keeps the readiness group out of
+ * service. Afterwards the roster is reloaded every {@code api.cache.refresh.interval}, shifted by a random amount
+ * of up to {@code api.cache.refresh.jitter} so that instances started together do not reload together. The
+ * interval is shorter than the cache expiry, so requests do not see misses in steady state. Failures are retried
+ * with jittered exponential backoff capped at the interval.
+ * <p>
+ * With coordination enabled only the {@link RosterCoordinator} leader loads from the upstream api; followers prime
+ * and refresh by adopting the roster the leader published.
+ */
+@Component
+public class RosterRefresher {
+
+    private static final Logger logger = LoggerFactory.getLogger(RosterRefresher.class);
+
+    private final ApiClient apiClient;
+
+    private final RosterCache rosterCache;
+
+    private final RosterCoordinator coordinator;
+
+    private final List<RosterIndex> indexes;
+
+    private final boolean enabled;
+
+    private final Duration interval;
+
+    private final Duration jitter;
+
+    private final Duration retryDelay;
+
+    private final ScheduledExecutorService scheduler;
+
+    private volatile boolean primed;
+
+    private volatile Instant lastLoad;
+
+    private volatile int rosterSize;
+
+    private int consecutiveFailures;
+
+    public RosterRefresher(
+            final ApiClient apiClient,
+            final RosterCache rosterCache,
+            final RosterCoordinator coordinator,
+            final List<RosterIndex> indexes,
+            @Value("${api.cache.refresh.enabled:true}") final boolean enabled,
+            @Value("${api.cache.refresh.interval:90s}") final Duration interval,
+            @Value("${api.cache.refresh.jitter:15s}") final Duration jitter,
+            @Value("${api.cache.refresh.retry-delay:2s}") final Duration retryDelay) {
+        this.apiClient = apiClient;
+        this.rosterCache = rosterCache;
+        this.coordinator = coordinator;
+        this.indexes = indexes;
+        this.enabled = enabled;
+        this.interval = interval;
+        this.jitter = jitter;
+        this.retryDelay = retryDelay;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "roster-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        if (enabled) {
+            scheduler.execute(this::prime);
+        } else {
+            logger.info("Roster cache priming and refresh are disabled");
+        }
+    }
+
+    /**
+     * @return whether the roster and its indexes have been loaded, or priming is disabled
+     */
+    public boolean isPrimed() {
+        return primed || !enabled;
+    }
+
+    /**
+     * @return when the roster was last loaded by this refresher, or null if it never was
+     */
+    public Instant getLastLoad() {
+        return lastLoad;
+    }
+
+    /**
+     * @return the size of the roster last loaded by this refresher
+     */
+    public int getRosterSize() {
+        return rosterSize;
+    }
+
+    void prime() {
+        boolean loaded = coordinator.tryLead()
+                ? load(apiClient::fetchAllEmployees, "prime")
+                : load(this::adoptPublished, "prime from leader");
+        if (loaded) {
+            primed = true;
+        }
+    }
+
+    void refresh() {
+        if (coordinator.tryLead()) {
+            load(apiClient::refreshAllEmployees, "refresh");
+        } else {
+            load(this::adoptPublished, "refresh from leader");
+        }
+    }
+
+    private List<Employee> adoptPublished() {
+        RosterSnapshot published = coordinator
+                .readPublished()
+                .orElseThrow(() -> new IllegalStateException("The refresh leader has not published a fresh roster"));
+        return rosterCache.adopt(published);
+    }
+
+    private boolean load(final RosterLoader loader, final String action) {
+        boolean loaded;
+        Duration nextDelay;
+        try {
+            List<Employee> roster = loader.load();
+            prepareIndexes(roster);
+            lastLoad = Instant.now();
+            rosterSize = roster.size();
+            consecutiveFailures = 0;
+            logger.info("Roster cache {} completed with {} employees", action, roster.size());
+            loaded = true;
+            nextDelay = jittered(interval, jitter);
+        } catch (RuntimeException e) {
+            consecutiveFailures++;
+            nextDelay = backoff(retryDelay, interval, consecutiveFailures);
+            logger.warn(
+                    "Roster cache {} failed ({} in a row), retrying in {} ms: {}",
+                    action,
+                    consecutiveFailures,
+                    nextDelay.toMillis(),
+                    e.getMessage());
+            loaded = false;
+        }
+
+        Runnable next = loaded || primed ? this::refresh : this::prime;
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(next, nextDelay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return loaded;
+    }
+
+    private void prepareIndexes(final List<Employee> roster) {
+        for (RosterIndex index : indexes) {
+            try {
+                index.prepare(roster);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to prepare {}: {}", index.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return {@code base} shifted by a uniformly random amount between {@code -jitter} and {@code +jitter}
+     */
+    static Duration jittered(final Duration base, final Duration jitter) {
+        long jitterMillis = jitter.toMillis();
+        long offset = jitterMillis <= 0 ? 0 : ThreadLocalRandom.current().nextLong(-jitterMillis, jitterMillis + 1);
+        return Duration.ofMillis(Math.max(0, base.toMillis() + offset));
+    }
+
+    /**
+     * @return a delay between half and all of {@code initial * 2^(failures - 1)}, capped at {@code max}
+     */
+    static Duration backoff(final Duration initial, final Duration max, final int failures) {
+        long exponential = initial.toMillis() << Math.min(failures - 1, 20);
+        long capped = Math.max(1, Math.min(exponential, max.toMillis()));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(capped / 2, capped + 1));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @FunctionalInterface
+    private interface RosterLoader {
+        List<Employee> load();
+    }
+}
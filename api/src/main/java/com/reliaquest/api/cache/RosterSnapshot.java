@@ -0,0 +1,29 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.Employee;
+import java.util.List;
+
+/**
+ * A roster together with the metadata needed to share it outside the local cache.
+ *
+ * @param version the writer's sequence number; later snapshots of the same writer have higher versions
+ * @param writtenAtMillis when the roster was put into the writer's cache, in epoch milliseconds
+ * @param employees the roster
+ */
+public record RosterSnapshot(long version, long writtenAtMillis, List<Employee> employees) {
+
+    /**
+     * @param nowMillis the current time in epoch milliseconds
+     * @return the age of the snapshot in milliseconds
+     */
+    public long ageMillis(final long nowMillis) {
+        return Math.max(0, nowMillis - writtenAtMillis);
+    }
+
+    /**
+     * @return the HTTP entity tag identifying this snapshot
+     */
+    public String etag() {
+        return "\"" + version + "-" + writtenAtMillis + "\"";
+    }
+}
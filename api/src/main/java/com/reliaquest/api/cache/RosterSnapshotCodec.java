@@ -0,0 +1,146 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.Employee;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import org.springframework.http.MediaType;
+
+/**
+ * Versioned binary encoding of a {@link RosterSnapshot}.
+ * <p>
+ * Layout, big-endian: magic {@code ROST}, format version (short), snapshot version (long), written-at millis
+ * (long), employee count (int), the employees, and a CRC32 (int) of everything before it. Each employee is its id,
+ * name, salary, age, title and email; strings are a length (int, -1 for null) followed by UTF-8 bytes, integers a
+ * presence byte followed by the value.
+ */
+public final class RosterSnapshotCodec {
+
+    /**
+     * Media type of encoded snapshots exchanged between api instances.
+     */
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType("application/vnd.roster-snapshot");
+
+    static final int MAGIC = 0x524F5354;
+
+    static final short FORMAT_VERSION = 1;
+
+    private RosterSnapshotCodec() {}
+
+    /**
+     * @param snapshot the snapshot to encode
+     * @return the encoded bytes
+     */
+    public static byte[] encode(final RosterSnapshot snapshot) {
+        List<Employee> employees = snapshot.employees();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + employees.size() * 128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+            out.writeLong(snapshot.version());
+            out.writeLong(snapshot.writtenAtMillis());
+            out.writeInt(employees.size());
+            for (Employee employee : employees) {
+                writeString(out, employee.getId());
+                writeString(out, employee.getName());
+                writeInteger(out, employee.getSalary());
+                writeInteger(out, employee.getAge());
+                writeString(out, employee.getTitle());
+                writeString(out, employee.getEmail());
+            }
+            CRC32 crc = new CRC32();
+            crc.update(bytes.toByteArray());
+            out.writeInt((int) crc.getValue());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a snapshot from the buffer's remaining bytes. The buffer's position is not changed.
+     *
+     * @param buffer the encoded snapshot, e.g. a mapped file
+     * @return the snapshot, with an unmodifiable roster
+     * @throws IllegalArgumentException if the bytes are not a complete snapshot of a supported format version
+     */
+    public static RosterSnapshot decode(final ByteBuffer buffer) {
+        ByteBuffer in = buffer.slice();
+        try {
+            if (in.remaining() < 4 || in.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a roster snapshot");
+            }
+            short format = in.getShort();
+            if (format != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported roster snapshot format " + format);
+            }
+            int checksumAt = in.limit() - Integer.BYTES;
+            CRC32 crc = new CRC32();
+            crc.update(in.duplicate().position(0).limit(checksumAt));
+            if ((int) crc.getValue() != in.getInt(checksumAt)) {
+                throw new IllegalArgumentException("Roster snapshot checksum mismatch");
+            }
+            in.limit(checksumAt);
+
+            long version = in.getLong();
+            long writtenAtMillis = in.getLong();
+            int count = in.getInt();
+            if (count < 0) {
+                throw new IllegalArgumentException("Invalid roster snapshot size " + count);
+            }
+            List<Employee> employees = new ArrayList<>(Math.min(count, in.remaining() / 12));
+            for (int i = 0; i < count; i++) {
+                Employee employee = new Employee();
+                employee.setId(readString(in));
+                employee.setName(readString(in));
+                employee.setSalary(readInteger(in));
+                employee.setAge(readInteger(in));
+                employee.setTitle(readString(in));
+                employee.setEmail(readString(in));
+                employees.add(employee);
+            }
+            return new RosterSnapshot(version, writtenAtMillis, Collections.unmodifiableList(employees));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated roster snapshot", e);
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static void writeInteger(final DataOutputStream out, final Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        out.writeInt(value == null ? 0 : value);
+    }
+
+    private static String readString(final ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] utf8 = new byte[length];
+        in.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static Integer readInteger(final ByteBuffer in) {
+        boolean present = in.get() != 0;
+        int value = in.getInt();
+        return present ? value : null;
+    }
+}
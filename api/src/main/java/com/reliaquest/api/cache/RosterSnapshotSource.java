@@ -0,0 +1,14 @@
+package com.reliaquest.api.cache;
+
+import java.util.Optional;
+
+/**
+ * A place outside the local cache that a roster can be filled from before falling back to the upstream api.
+ */
+public interface RosterSnapshotSource {
+
+    /**
+     * @return a snapshot that is fresh enough to serve, or empty if the source has none
+     */
+    Optional<RosterSnapshot> read();
+}
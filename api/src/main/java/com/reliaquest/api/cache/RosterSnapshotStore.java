@@ -0,0 +1,225 @@
+package com.reliaquest.api.cache;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * L2 roster tier: a snapshot file on the local disk, shared by restarts and by sibling api processes on the host.
+ * <p>
+ * Snapshots are written in the background after the roster is put into the cache. Only the latest pending roster
+ * is written, into a temporary file that is then atomically moved over the snapshot, so readers never see a
+ * partial file. Reads map the file with a {@link MappedByteBuffer} and ignore snapshots older than
+ * {@code api.cache.snapshot.max-age}. The last snapshot read is kept decoded in memory and reused for as long as the
+ * file has not been replaced since, so repeated reads only cost a file stat.
+ */
+@Component
+public class RosterSnapshotStore implements RosterSnapshotSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(RosterSnapshotStore.class);
+
+    private final boolean enabled;
+
+    private final Path path;
+
+    private final Duration maxAge;
+
+    private final AtomicLong lastVersion = new AtomicLong();
+
+    private final AtomicReference<RosterSnapshot> pending = new AtomicReference<>();
+
+    private volatile DecodedSnapshot decoded;
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "roster-snapshot-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RosterSnapshotStore(
+            @Value("${api.cache.snapshot.enabled:true}") final boolean enabled,
+            @Value("${api.cache.snapshot.path:${java.io.tmpdir}/employee-api/roster.snapshot}") final Path path,
+            @Value("${api.cache.snapshot.max-age:2m}") final Duration maxAge) {
+        this.enabled = enabled;
+        this.path = path;
+        this.maxAge = maxAge;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Reads the snapshot file.
+     *
+     * @return the snapshot, or empty if the tier is disabled or the file is missing, unreadable or older than
+     *     {@code api.cache.snapshot.max-age}
+     */
+    @Override
+    public Optional<RosterSnapshot> read() {
+        return read(maxAge);
+    }
+
+    /**
+     * Reads the snapshot file, accepting snapshots up to the given age.
+     *
+     * @param maxAge the oldest snapshot to accept
+     * @return the snapshot, or empty if the tier is disabled or the file is missing, unreadable or too old
+     */
+    public Optional<RosterSnapshot> read(final Duration maxAge) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        RosterSnapshot snapshot;
+        boolean reused;
+        try {
+            // Stat before opening, so that a replacement in between is at worst decoded again on the next read
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            DecodedSnapshot last = decoded;
+            reused = last != null && last.matches(attributes);
+            if (reused) {
+                snapshot = last.snapshot();
+            } else {
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    snapshot = RosterSnapshotCodec.decode(buffer);
+                }
+                decoded = new DecodedSnapshot(attributes, snapshot);
+            }
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("Ignoring unreadable roster snapshot {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+
+        lastVersion.accumulateAndGet(snapshot.version(), Math::max);
+        long ageMillis = snapshot.ageMillis(System.currentTimeMillis());
+        if (ageMillis > maxAge.toMillis()) {
+            logger.debug("Ignoring roster snapshot v{}: {} ms old", snapshot.version(), ageMillis);
+            return Optional.empty();
+        }
+        if (!reused) {
+            logger.info(
+                    "Loaded roster snapshot v{} with {} employees, {} ms old",
+                    snapshot.version(),
+                    snapshot.employees().size(),
+                    ageMillis);
+        }
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * @return a version higher than that of any snapshot this store has written or read
+     */
+    public long nextVersion() {
+        return lastVersion.incrementAndGet();
+    }
+
+    /**
+     * Schedules the snapshot to be written to the file. Snapshots that are superseded before the writer gets to
+     * them are skipped.
+     *
+     * @param snapshot the snapshot
+     */
+    public void write(final RosterSnapshot snapshot) {
+        if (!enabled) {
+            return;
+        }
+        if (pending.getAndSet(snapshot) == null) {
+            writer.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Deletes the snapshot file so that no process loads it again.
+     */
+    public void delete() {
+        if (!enabled) {
+            return;
+        }
+        pending.set(null);
+        decoded = null;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Failed to delete roster snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void writePending() {
+        RosterSnapshot snapshot = pending.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temporary, RosterSnapshotCodec.encode(snapshot), StandardOpenOption.SYNC);
+                move(temporary);
+                decoded = null;
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+            logger.debug(
+                    "Wrote roster snapshot v{} with {} employees to {}",
+                    snapshot.version(),
+                    snapshot.employees().size(),
+                    path);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to write roster snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void move(final Path temporary) throws IOException {
+        try {
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        writer.shutdown();
+        if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+            logger.warn("Roster snapshot writer did not finish in time");
+        }
+    }
+
+    /**
+     * A snapshot together with the attributes of the file it was decoded from. An atomic move gives
+     * the file a new file key, so any replacement of the file is detected even within the timestamp resolution.
+     */
+    private record DecodedSnapshot(BasicFileAttributes attributes, RosterSnapshot snapshot) {
+
+        boolean matches(final BasicFileAttributes current) {
+            return Objects.equals(attributes.fileKey(), current.fileKey())
+                    && attributes.lastModifiedTime().equals(current.lastModifiedTime())
+                    && attributes.size() == current.size();
+        }
+    }
+}
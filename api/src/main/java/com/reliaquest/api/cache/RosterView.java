@@ -0,0 +1,75 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.Employee;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * A value derived from the cached roster, such as an index, that is rebuilt only when the roster changes.
+ * <p>
+ * Rosters are immutable once cached, so the view is keyed by roster identity: asking for the same roster instance
+ * returns the value built for it without any comparison work. {@link #advance(List, List, UnaryOperator)} lets
+ * the owner carry the value over to a patched roster incrementally instead of rebuilding it.
+ *
+ * @param <T> the type of the derived value
+ */
+public final class RosterView<T> {
+
+    private final Function<List<Employee>, T> builder;
+
+    private volatile Entry<T> entry;
+
+    public RosterView(final Function<List<Employee>, T> builder) {
+        this.builder = builder;
+    }
+
+    /**
+     * Returns the value derived from the given roster, building it if the roster differs from the last one seen.
+     *
+     * @param roster the current roster
+     * @return the derived value
+     */
+    public T get(final List<Employee> roster) {
+        Entry<T> current = entry;
+        if (current != null && current.roster() == roster) {
+            return current.value();
+        }
+        synchronized (this) {
+            current = entry;
+            if (current == null || current.roster() != roster) {
+                current = new Entry<>(roster, builder.apply(roster));
+                entry = current;
+            }
+            return current.value();
+        }
+    }
+
+    /**
+     * Returns the value of the last roster seen without building anything.
+     *
+     * @return the last derived value, or null if none was built yet
+     */
+    public T peek() {
+        Entry<T> current = entry;
+        return current == null ? null : current.value();
+    }
+
+    /**
+     * Moves the view from {@code previous} to {@code current} by applying a delta to the existing value. If the
+     * view was not built for {@code previous}, nothing happens and the value is rebuilt lazily on next access.
+     *
+     * @param previous the roster before the change
+     * @param current the roster after the change
+     * @param delta the incremental update
+     */
+    public synchronized void advance(
+            final List<Employee> previous, final List<Employee> current, final UnaryOperator<T> delta) {
+        Entry<T> existing = entry;
+        if (existing != null && existing.roster() == previous) {
+            entry = new Entry<>(current, delta.apply(existing.value()));
+        }
+    }
+
+    private record Entry<T>(List<Employee> roster, T value) {}
+}
@@ -0,0 +1,164 @@
+package com.reliaquest.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.scan.ParallelScanner;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of name search results, keyed by the lower-cased query.
+ * <p>
+ * Results are stamped with a roster version rather than holding the roster they were computed from. The version
+ * advances whenever a search or reload brings a roster instance other than the current one, so a reload or patch
+ * invalidates every result without a flush, and only the current roster is referenced. Admission is decided by
+ * Caffeine's W-TinyLFU policy: a count-min frequency sketch of recent queries lets a new query into a full cache
+ * only if it is asked more often than the entry it would evict, so one-off searches cannot push out the popular
+ * ones. After a full reload the {@code api.cache.search.warm-count} hottest queries are recomputed against the new
+ * roster on a background thread; after a patch they are recomputed lazily by the next search that asks for them.
+ */
+@Component
+public class SearchResultCache implements RosterIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchResultCache.class);
+
+    private final ParallelScanner scanner;
+
+    private final Cache<String, Result> results;
+
+    private final int warmCount;
+
+    private final ExecutorService warmer;
+
+    private volatile Generation generation = new Generation(null, 0);
+
+    public SearchResultCache(
+            final ParallelScanner scanner,
+            @Value("${api.cache.search.max-size:1000}") final int maxSize,
+            @Value("${api.cache.search.warm-count:100}") final int warmCount) {
+        this.scanner = scanner;
+        this.results = Caffeine.newBuilder().maximumSize(maxSize).build();
+        this.warmCount = warmCount;
+        this.warmer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-cache-warmer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void prepare(final List<Employee> roster) {
+        warm(roster);
+    }
+
+    /**
+     * Returns the employees whose names contain the query, ignoring case.
+     *
+     * @param roster the roster to search
+     * @param query the text to search for
+     * @return the matching employees in roster order
+     */
+    public List<Employee> search(final List<Employee> roster, final String query) {
+        long version = versionOf(roster);
+        String key = normalize(query);
+        Result cached = results.getIfPresent(key);
+        if (cached != null && cached.version() == version) {
+            return cached.matches();
+        }
+
+        List<Employee> matches = match(roster, key);
+        results.put(key, new Result(version, matches));
+        return matches;
+    }
+
+    /**
+     * @return the cached result of the query if it was computed from this roster instance
+     */
+    Optional<List<Employee>> peek(final List<Employee> roster, final String query) {
+        Generation current = generation;
+        Result cached = results.asMap().get(normalize(query));
+        return current.roster() == roster && cached != null && cached.version() == current.version()
+                ? Optional.of(cached.matches())
+                : Optional.empty();
+    }
+
+    /**
+     * Recomputes the hottest cached queries against a reloaded roster in the background.
+     */
+    void warm(final List<Employee> roster) {
+        Generation current = generation;
+        if (current.roster() == roster) {
+            return;
+        }
+        long version = versionOf(roster);
+        warmer.execute(() -> {
+            Map<String, Result> hottest = results.policy()
+                    .eviction()
+                    .map(eviction -> eviction.hottest(warmCount))
+                    .orElse(Map.of());
+            int warmed = 0;
+            for (String key : hottest.keySet()) {
+                if (generation.version() != version) {
+                    return;
+                }
+                results.asMap()
+                        .computeIfPresent(
+                                key,
+                                (ignored, result) ->
+                                        result.version() == version ? result : new Result(version, match(roster, key)));
+                warmed++;
+            }
+            logger.debug("Re-materialized {} hot search results for a roster of {}", warmed, roster.size());
+        });
+    }
+
+    /**
+     * Returns the version of the given roster, advancing it if the roster is not the current one. The roster cache
+     * only ever hands out its latest roster, so an unknown instance is taken to be newer; a request still holding
+     * an older one merely misses.
+     */
+    private long versionOf(final List<Employee> roster) {
+        Generation current = generation;
+        if (current.roster() == roster) {
+            return current.version();
+        }
+        synchronized (this) {
+            current = generation;
+            if (current.roster() != roster) {
+                current = new Generation(roster, current.version() + 1);
+                generation = current;
+            }
+            return current.version();
+        }
+    }
+
+    static String normalize(final String query) {
+        return query.toLowerCase(Locale.ROOT);
+    }
+
+    private List<Employee> match(final List<Employee> roster, final String key) {
+        return scanner.filter(
+                roster,
+                employee -> employee.getName() != null
+                        && employee.getName().toLowerCase(Locale.ROOT).contains(key));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        warmer.shutdownNow();
+    }
+
+    private record Result(long version, List<Employee> matches) {}
+
+    private record Generation(List<Employee> roster, long version) {}
+}
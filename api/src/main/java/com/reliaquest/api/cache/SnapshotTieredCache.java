@@ -0,0 +1,302 @@
+package com.reliaquest.api.cache;
+
+import com.github.benmanes.caffeine.cache.Policy.FixedExpiration;
+import com.reliaquest.api.dto.Employee;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * The {@code employees} cache: an in-memory L1 cache backed by {@link RosterSnapshotSource}s such as the
+ * {@link RosterSnapshotStore} file and peer api instances.
+ * <p>
+ * An L1 miss on the roster key is filled from the first source with a fresh enough snapshot before the caller
+ * falls through to the upstream api. Every roster put into L1, whether loaded or patched, is written to the file
+ * for other processes on the host. A filled roster keeps the write time of its source, so copying it around does
+ * not make it look fresher; it does get a full L1 lifetime, so the oldest data served is the snapshot max age
+ * plus the L1 expiry. A patched roster keeps both the write time and the L1 lifetime of the roster it was patched
+ * from, so that steady writes cannot keep a roster cached forever.
+ */
+public class SnapshotTieredCache implements Cache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotTieredCache.class);
+
+    private final Cache l1;
+
+    private final RosterSnapshotStore snapshotStore;
+
+    private final List<RosterSnapshotSource> sources;
+
+    /**
+     * The {@code expireAfterWrite} of L1, enforced from {@link #loadedAtNanos} as patches reset it in Caffeine.
+     */
+    private final Duration l1Lifetime;
+
+    private volatile RosterSnapshot current;
+
+    /**
+     * When the roster of {@link #current} was loaded, filled or adopted into L1; patches keep it.
+     */
+    private volatile long loadedAtNanos;
+
+    /**
+     * @param l1 the in-memory cache
+     * @param snapshotStore the snapshot file, written after every put
+     * @param sources where to fill L1 misses from, in order of preference
+     */
+    public SnapshotTieredCache(
+            final Cache l1, final RosterSnapshotStore snapshotStore, final List<RosterSnapshotSource> sources) {
+        this.l1 = l1;
+        this.snapshotStore = snapshotStore;
+        this.sources = List.copyOf(sources);
+        this.l1Lifetime = l1.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine
+                ? caffeine.policy()
+                        .expireAfterWrite()
+                        .map(FixedExpiration::getExpiresAfter)
+                        .orElse(null)
+                : null;
+    }
+
+    /**
+     * Returns the roster held in L1 with its snapshot metadata. Never loads anything, so it is safe to serve to
+     * peers without risking request loops between instances.
+     *
+     * @return the snapshot of the L1 roster, or empty if L1 holds none
+     */
+    public Optional<RosterSnapshot> localSnapshot() {
+        RosterSnapshot snapshot = current;
+        ValueWrapper cached = l1Roster();
+        if (snapshot == null || cached == null || cached.get() != snapshot.employees()) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * Returns the most recent roster this process has held or can read from the snapshot file, even if it has
+     * expired from L1. Never calls the upstream api or peers.
+     *
+     * @param maxAge the oldest snapshot file to consider
+     * @return the freshest known roster, or empty if there is none
+     */
+    public Optional<RosterSnapshot> lastKnownGood(final Duration maxAge) {
+        RosterSnapshot held = current;
+        Optional<RosterSnapshot> file = snapshotStore.read(maxAge);
+        if (file.isPresent() && (held == null || file.get().writtenAtMillis() > held.writtenAtMillis())) {
+            return file;
+        }
+        return Optional.ofNullable(held);
+    }
+
+    /**
+     * Replaces the L1 roster with a snapshot published elsewhere, keeping its metadata, unless L1 already holds an
+     * equally fresh or fresher roster. The snapshot is not written back to the file.
+     *
+     * @param snapshot the published snapshot
+     * @return the roster now held in L1
+     */
+    public synchronized List<Employee> adopt(final RosterSnapshot snapshot) {
+        Optional<RosterSnapshot> local = localSnapshot();
+        if (local.isPresent() && local.get().writtenAtMillis() >= snapshot.writtenAtMillis()) {
+            return local.get().employees();
+        }
+        l1.put(RosterCache.ROSTER_KEY, snapshot.employees());
+        loaded(snapshot);
+        logger.debug("Adopted published roster snapshot v{}", snapshot.version());
+        return snapshot.employees();
+    }
+
+    /**
+     * Replaces the L1 roster with a patched copy, if L1 still holds the very roster the patch was made from. The
+     * patched roster is written to the file under a new version but keeps the write time of the original.
+     *
+     * @param expected the roster the patch was made from
+     * @param patched the patched roster
+     * @return whether L1 held {@code expected} and now holds {@code patched}
+     */
+    public boolean replace(final List<Employee> expected, final List<Employee> patched) {
+        RosterSnapshot[] replaced = new RosterSnapshot[1];
+        l1Map().computeIfPresent(RosterCache.ROSTER_KEY, (key, value) -> {
+            if (value != expected) {
+                return value;
+            }
+            RosterSnapshot previous = current;
+            long writtenAtMillis = previous != null && previous.employees() == expected
+                    ? previous.writtenAtMillis()
+                    : System.currentTimeMillis();
+            replaced[0] = new RosterSnapshot(snapshotStore.nextVersion(), writtenAtMillis, patched);
+            current = replaced[0];
+            return patched;
+        });
+        if (replaced[0] == null) {
+            return false;
+        }
+        snapshotStore.write(replaced[0]);
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return l1.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l1.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(final Object key) {
+        if (!RosterCache.ROSTER_KEY.equals(key)) {
+            return l1.get(key);
+        }
+        ValueWrapper cached = l1Roster();
+        if (cached != null) {
+            return cached;
+        }
+        for (RosterSnapshotSource source : sources) {
+            Optional<RosterSnapshot> snapshot = source.read();
+            if (snapshot.isPresent()) {
+                return fill(key, snapshot.get(), source);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value = l1.get(key, valueLoader);
+        recordPut(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        l1.put(key, value);
+        recordPut(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(final Object key, final Object value) {
+        ValueWrapper existing = l1.putIfAbsent(key, value);
+        if (existing == null) {
+            recordPut(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(final Object key) {
+        l1.evict(key);
+        if (RosterCache.ROSTER_KEY.equals(key)) {
+            snapshotStore.delete();
+        }
+    }
+
+    @Override
+    public boolean evictIfPresent(final Object key) {
+        boolean evicted = l1.evictIfPresent(key);
+        if (RosterCache.ROSTER_KEY.equals(key)) {
+            snapshotStore.delete();
+        }
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        l1.clear();
+        snapshotStore.delete();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = l1.invalidate();
+        snapshotStore.delete();
+        return invalidated;
+    }
+
+    private ValueWrapper fill(final Object key, final RosterSnapshot snapshot, final RosterSnapshotSource source) {
+        ValueWrapper existing = l1.putIfAbsent(key, snapshot.employees());
+        if (existing != null) {
+            return existing;
+        }
+        loaded(snapshot);
+        if (source != snapshotStore) {
+            snapshotStore.write(snapshot);
+        }
+        logger.debug(
+                "Filled roster cache from {} with snapshot v{}",
+                source.getClass().getSimpleName(),
+                snapshot.version());
+        return new SimpleValueWrapper(snapshot.employees());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void recordPut(final Object key, final Object value) {
+        if (RosterCache.ROSTER_KEY.equals(key) && value instanceof List<?> employees) {
+            RosterSnapshot snapshot = new RosterSnapshot(
+                    snapshotStore.nextVersion(), System.currentTimeMillis(), (List<Employee>) employees);
+            loaded(snapshot);
+            snapshotStore.write(snapshot);
+        }
+    }
+
+    private void loaded(final RosterSnapshot snapshot) {
+        loadedAtNanos = System.nanoTime();
+        current = snapshot;
+    }
+
+    /**
+     * Returns the L1 roster, dropping it first if it has outlived its L1 lifetime through patches.
+     */
+    private ValueWrapper l1Roster() {
+        ValueWrapper cached = l1.get(RosterCache.ROSTER_KEY);
+        RosterSnapshot snapshot = current;
+        if (cached == null
+                || l1Lifetime == null
+                || snapshot == null
+                || cached.get() != snapshot.employees()
+                || System.nanoTime() - loadedAtNanos < l1Lifetime.toNanos()) {
+            return cached;
+        }
+        Object expired = cached.get();
+        l1Map().computeIfPresent(RosterCache.ROSTER_KEY, (key, value) -> value == expired ? null : value);
+        logger.debug("Dropped patched roster snapshot v{} at the end of its L1 lifetime", snapshot.version());
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ConcurrentMap<Object, Object> l1Map() {
+        Object nativeCache = l1.getNativeCache();
+        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            return (ConcurrentMap<Object, Object>) caffeine.asMap();
+        }
+        if (nativeCache instanceof ConcurrentMap<?, ?> map) {
+            return (ConcurrentMap<Object, Object>) map;
+        }
+        throw new IllegalStateException(
+                "Unsupported L1 cache: " + nativeCache.getClass().getName());
+    }
+}
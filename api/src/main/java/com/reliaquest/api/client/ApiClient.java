@@ -1,68 +1,130 @@
 package com.reliaquest.api.client;
 
+import com.reliaquest.api.admission.UpstreamAdmission;
+import com.reliaquest.api.cache.RosterCache;
 import com.reliaquest.api.dto.ApiResponse;
 import com.reliaquest.api.dto.CreateEmployeeRequest;
 import com.reliaquest.api.dto.Employee;
 import com.reliaquest.api.exception.ApiClientException;
 import com.reliaquest.api.exception.RateLimitException;
 import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.timing.RequestTimings;
+import com.reliaquest.api.timing.RequestTimings.Phase;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
 /**
  * Client for communicating with the mock employee API.
+ * <p>
+ * Reads go through the {@code employees} cache. Writes leave the cache alone; callers patch the cached roster
+ * through {@link RosterCache} once a write succeeds.
  */
 @Component
 public class ApiClient {
 
     private static final Logger logger = LoggerFactory.getLogger(ApiClient.class);
 
+    /**
+     * Resilience4j instance names: reads, creates and deletes each have their own retry, circuit breaker and
+     * bulkhead, so that one kind of upstream traffic cannot starve or trip the others.
+     */
+    public static final String FETCH = "employeeFetch";
+
+    public static final String CREATE = "employeeCreate";
+
+    public static final String DELETE = "employeeDelete";
+
     private final RestClient restClient;
 
-    public ApiClient(final RestClient restClient) {
+    private final UpstreamAdmission upstreamAdmission;
+
+    private final RetryBudget retryBudget;
+
+    public ApiClient(
+            final RestClient restClient, final UpstreamAdmission upstreamAdmission, final RetryBudget retryBudget) {
         this.restClient = restClient;
+        this.upstreamAdmission = upstreamAdmission;
+        this.retryBudget = retryBudget;
     }
 
-    @Cacheable(value = "employees", unless = "#result == null || #result.isEmpty()")
-    @Retry(name = "employeeAPI")
-    @CircuitBreaker(name = "employeeAPI")
+    @Cacheable(value = RosterCache.CACHE_NAME, unless = "#result == null || #result.isEmpty()")
+    @Retry(name = FETCH)
+    @CircuitBreaker(name = FETCH)
+    @Bulkhead(name = FETCH)
     public List<Employee> fetchAllEmployees() {
         logger.info("Fetching all employees from mock API");
+        return loadAllEmployees();
+    }
+
+    /**
+     * Reloads all employees from the mock API and replaces the cached roster, without reading the cache first.
+     *
+     * @return the reloaded roster
+     */
+    @CachePut(value = RosterCache.CACHE_NAME, unless = "#result == null || #result.isEmpty()")
+    @Retry(name = FETCH)
+    @CircuitBreaker(name = FETCH)
+    @Bulkhead(name = FETCH)
+    public List<Employee> refreshAllEmployees() {
+        logger.info("Refreshing all employees from mock API");
+        return loadAllEmployees();
+    }
 
+    /**
+     * Loads the roster from the mock API. While the upstream is known to be throttling, the load is rejected before
+     * sending anything, so a retry does not spend its attempt on a certain 429 and the caller can fall back on the
+     * last known good roster at once.
+     */
+    private List<Employee> loadAllEmployees() {
+        upstreamAdmission.admit(FETCH);
         try {
             final ParameterizedTypeReference<ApiResponse<List<Employee>>> responseType =
                     new ParameterizedTypeReference<>() {};
 
-            ApiResponse<List<Employee>> apiResponse = restClient
-                    .get()
-                    .retrieve()
-                    .onStatus(HttpStatusCode::is4xxClientError, (request, response) -> {
-                        if (response.getStatusCode().value() == 429) {
-                            logger.warn("Rate limit exceeded while fetching employees");
-                            throw new RateLimitException(
-                                    "Rate limit exceeded while fetching employees. Please try again later.");
-                        } else if (response.getStatusCode().value() == 404) {
-                            logger.warn("Employees endpoint not found");
-                            throw new ResourceNotFoundException("Employee endpoint not found");
-                        }
-                        logger.error("Client error while fetching employees: {}", response.getStatusCode());
-                        throw new ApiClientException("Failed to fetch employees: HTTP " + response.getStatusCode());
-                    })
-                    .onStatus(HttpStatusCode::is5xxServerError, (request, response) -> {
-                        logger.error("Server error while fetching employees: {}", response.getStatusCode());
-                        throw new ApiClientException(
-                                "External API server error while fetching employees: " + response.getStatusCode());
-                    })
-                    .body(responseType);
+            ApiResponse<List<Employee>> apiResponse;
+            try (RequestTimings.Span ignored = RequestTimings.start(Phase.UPSTREAM)) {
+                apiResponse = restClient
+                        .get()
+                        .retrieve()
+                        .onStatus(HttpStatusCode::is4xxClientError, (request, response) -> {
+                            if (response.getStatusCode().value() == 429) {
+                                logger.warn("Rate limit exceeded while fetching employees");
+                                throw new RateLimitException(
+                                        "Rate limit exceeded while fetching employees. Please try again later.",
+                                        retryAfterSeconds(response.getHeaders()));
+                            } else if (response.getStatusCode().value() == 404) {
+                                logger.warn("Employees endpoint not found");
+                                throw new ResourceNotFoundException("Employee endpoint not found");
+                            }
+                            logger.error("Client error while fetching employees: {}", response.getStatusCode());
+                            throw new ApiClientException("Failed to fetch employees: HTTP " + response.getStatusCode());
+                        })
+                        .onStatus(HttpStatusCode::is5xxServerError, (request, response) -> {
+                            logger.error("Server error while fetching employees: {}", response.getStatusCode());
+                            throw new ApiClientException(
+                                    "External API server error while fetching employees: " + response.getStatusCode());
+                        })
+                        .body(responseType);
+            }
+            upstreamSucceeded();
 
             if (apiResponse == null || apiResponse.getData() == null) {
                 logger.error("Received empty or invalid API response while fetching employees");
@@ -84,9 +146,9 @@ public class ApiClient {
         }
     }
 
-    @CacheEvict(value = "employees", allEntries = true)
-    @Retry(name = "employeeAPI")
-    @CircuitBreaker(name = "employeeAPI")
+    @Retry(name = CREATE)
+    @CircuitBreaker(name = CREATE)
+    @Bulkhead(name = CREATE)
     public Employee createEmployee(final CreateEmployeeRequest employeeRequest) {
         logger.info("Creating employee in mock API: {}", employeeRequest.getName());
 
@@ -94,34 +156,40 @@ public class ApiClient {
             final ParameterizedTypeReference<ApiResponse<Employee>> responseType =
                     new ParameterizedTypeReference<>() {};
 
-            ApiResponse<Employee> apiResponse = restClient
-                    .post()
-                    .body(employeeRequest)
-                    .retrieve()
-                    .onStatus(HttpStatusCode::is4xxClientError, (request, response) -> {
-                        if (response.getStatusCode().value() == 429) {
-                            logger.warn("Rate limit exceeded while creating employee: {}", employeeRequest.getName());
-                            throw new RateLimitException(
-                                    "Rate limit exceeded while creating employee. Please try again later.");
-                        } else if (response.getStatusCode().value() == 400) {
-                            logger.warn("Bad request while creating employee: {}", employeeRequest.getName());
-                            throw new ApiClientException("Invalid employee data provided");
-                        }
-                        logger.error(
-                                "Client error while creating employee {}: {}",
-                                employeeRequest.getName(),
-                                response.getStatusCode());
-                        throw new ApiClientException("Failed to create employee: HTTP " + response.getStatusCode());
-                    })
-                    .onStatus(HttpStatusCode::is5xxServerError, (request, response) -> {
-                        logger.error(
-                                "Server error while creating employee {}: {}",
-                                employeeRequest.getName(),
-                                response.getStatusCode());
-                        throw new ApiClientException(
-                                "External API server error while creating employee: " + response.getStatusCode());
-                    })
-                    .body(responseType);
+            ApiResponse<Employee> apiResponse;
+            try (RequestTimings.Span ignored = RequestTimings.start(Phase.UPSTREAM)) {
+                apiResponse = restClient
+                        .post()
+                        .body(employeeRequest)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::is4xxClientError, (request, response) -> {
+                            if (response.getStatusCode().value() == 429) {
+                                logger.warn(
+                                        "Rate limit exceeded while creating employee: {}", employeeRequest.getName());
+                                throw new RateLimitException(
+                                        "Rate limit exceeded while creating employee. Please try again later.",
+                                        retryAfterSeconds(response.getHeaders()));
+                            } else if (response.getStatusCode().value() == 400) {
+                                logger.warn("Bad request while creating employee: {}", employeeRequest.getName());
+                                throw new ApiClientException("Invalid employee data provided");
+                            }
+                            logger.error(
+                                    "Client error while creating employee {}: {}",
+                                    employeeRequest.getName(),
+                                    response.getStatusCode());
+                            throw new ApiClientException("Failed to create employee: HTTP " + response.getStatusCode());
+                        })
+                        .onStatus(HttpStatusCode::is5xxServerError, (request, response) -> {
+                            logger.error(
+                                    "Server error while creating employee {}: {}",
+                                    employeeRequest.getName(),
+                                    response.getStatusCode());
+                            throw new ApiClientException(
+                                    "External API server error while creating employee: " + response.getStatusCode());
+                        })
+                        .body(responseType);
+            }
+            upstreamSucceeded();
 
             if (apiResponse == null || apiResponse.getData() == null) {
                 logger.error(
@@ -150,48 +218,205 @@ public class ApiClient {
         }
     }
 
-    @CacheEvict(value = "employees", allEntries = true)
-    @Retry(name = "employeeAPI")
-    @CircuitBreaker(name = "employeeAPI")
-    public boolean deleteEmployee(final String name) {
-        logger.info("Deleting employee from mock API: {}", name);
+    /**
+     * Creates several employees with a single upstream request.
+     *
+     * @param employeeRequests the employees to create
+     * @return one result per request, in request order; failed items carry an error instead of data
+     */
+    @Retry(name = CREATE)
+    @CircuitBreaker(name = CREATE)
+    @Bulkhead(name = CREATE)
+    public List<ApiResponse<Employee>> createEmployees(final List<CreateEmployeeRequest> employeeRequests) {
+        logger.info("Creating {} employees in mock API", employeeRequests.size());
 
         try {
-            final ParameterizedTypeReference<ApiResponse<Boolean>> responseType = new ParameterizedTypeReference<>() {};
-
-            // Create request body matching DeleteMockEmployeeInput
-            var deleteRequest = new java.util.HashMap<String, String>();
-            deleteRequest.put("name", name);
-
-            ApiResponse<Boolean> apiResponse = restClient
-                    .method(org.springframework.http.HttpMethod.DELETE)
-                    .body(deleteRequest)
-                    .retrieve()
-                    .onStatus(HttpStatusCode::is4xxClientError, (request, response) -> {
-                        if (response.getStatusCode().value() == 429) {
-                            logger.warn("Rate limit exceeded while deleting employee: {}", name);
-                            throw new RateLimitException(
-                                    "Rate limit exceeded while deleting employee. Please try again later.");
-                        } else if (response.getStatusCode().value() == 404) {
-                            logger.warn("Employee not found for deletion: {}", name);
-                            throw new ResourceNotFoundException("Employee '" + name + "' not found");
-                        }
-                        logger.error("Client error while deleting employee {}: {}", name, response.getStatusCode());
-                        throw new ApiClientException("Failed to delete employee: HTTP " + response.getStatusCode());
-                    })
-                    .onStatus(HttpStatusCode::is5xxServerError, (request, response) -> {
-                        logger.error("Server error while deleting employee {}: {}", name, response.getStatusCode());
-                        throw new ApiClientException(
-                                "External API server error while deleting employee: " + response.getStatusCode());
-                    })
-                    .body(responseType);
+            final ParameterizedTypeReference<ApiResponse<List<ApiResponse<Employee>>>> responseType =
+                    new ParameterizedTypeReference<>() {};
+
+            ApiResponse<List<ApiResponse<Employee>>> apiResponse;
+            try (RequestTimings.Span ignored = RequestTimings.start(Phase.UPSTREAM)) {
+                apiResponse = restClient
+                        .post()
+                        .uri("/bulk")
+                        .body(employeeRequests)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::is4xxClientError, (request, response) -> {
+                            if (response.getStatusCode().value() == 429) {
+                                logger.warn("Rate limit exceeded while creating {} employees", employeeRequests.size());
+                                throw new RateLimitException(
+                                        "Rate limit exceeded while creating employees. Please try again later.",
+                                        retryAfterSeconds(response.getHeaders()));
+                            } else if (response.getStatusCode().value() == 400) {
+                                logger.warn("Bad request while creating {} employees", employeeRequests.size());
+                                throw new ApiClientException("Invalid employee data provided");
+                            }
+                            logger.error(
+                                    "Client error while creating {} employees: {}",
+                                    employeeRequests.size(),
+                                    response.getStatusCode());
+                            throw new ApiClientException(
+                                    "Failed to create employees: HTTP " + response.getStatusCode());
+                        })
+                        .onStatus(HttpStatusCode::is5xxServerError, (request, response) -> {
+                            logger.error(
+                                    "Server error while creating {} employees: {}",
+                                    employeeRequests.size(),
+                                    response.getStatusCode());
+                            throw new ApiClientException(
+                                    "External API server error while creating employees: " + response.getStatusCode());
+                        })
+                        .body(responseType);
+            }
+            upstreamSucceeded();
+
+            if (apiResponse == null
+                    || apiResponse.getData() == null
+                    || apiResponse.getData().size() != employeeRequests.size()) {
+                logger.error(
+                        "Received empty or invalid API response while creating {} employees", employeeRequests.size());
+                throw new ApiClientException("No employee data received after bulk creation");
+            }
+
+            logger.debug("Successfully processed bulk creation of {} employees", employeeRequests.size());
+            return apiResponse.getData();
+
+        } catch (Exception e) {
+            if (e instanceof ApiClientException
+                    || e instanceof RateLimitException
+                    || e instanceof ResourceNotFoundException) {
+                throw e;
+            }
+            logger.error(
+                    "Error communicating with external API while creating {} employees: {}",
+                    employeeRequests.size(),
+                    e.getMessage(),
+                    e);
+            throw new ApiClientException("Failed to communicate with external API", e);
+        }
+    }
+
+    /**
+     * Deletes an employee by id with a single upstream request.
+     *
+     * @param id the id of the employee to delete
+     * @return the deleted employee
+     * @throws ResourceNotFoundException if no employee has the given id
+     */
+    @Retry(name = DELETE)
+    @CircuitBreaker(name = DELETE)
+    @Bulkhead(name = DELETE)
+    public Employee deleteEmployeeById(final String id) {
+        logger.info("Deleting employee from mock API: {}", id);
+
+        try {
+            final ParameterizedTypeReference<ApiResponse<Employee>> responseType =
+                    new ParameterizedTypeReference<>() {};
+
+            ApiResponse<Employee> apiResponse;
+            try (RequestTimings.Span ignored = RequestTimings.start(Phase.UPSTREAM)) {
+                apiResponse = restClient
+                        .delete()
+                        .uri("/{id}", id)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::is4xxClientError, (request, response) -> {
+                            if (response.getStatusCode().value() == 429) {
+                                logger.warn("Rate limit exceeded while deleting employee: {}", id);
+                                throw new RateLimitException(
+                                        "Rate limit exceeded while deleting employee. Please try again later.",
+                                        retryAfterSeconds(response.getHeaders()));
+                            } else if (response.getStatusCode().value() == 404) {
+                                logger.warn("Employee not found for deletion: {}", id);
+                                throw new ResourceNotFoundException("Employee", id);
+                            }
+                            logger.error("Client error while deleting employee {}: {}", id, response.getStatusCode());
+                            throw new ApiClientException("Failed to delete employee: HTTP " + response.getStatusCode());
+                        })
+                        .onStatus(HttpStatusCode::is5xxServerError, (request, response) -> {
+                            logger.error("Server error while deleting employee {}: {}", id, response.getStatusCode());
+                            throw new ApiClientException(
+                                    "External API server error while deleting employee: " + response.getStatusCode());
+                        })
+                        .body(responseType);
+            }
+            upstreamSucceeded();
 
             if (apiResponse == null || apiResponse.getData() == null) {
-                logger.error("Received empty or invalid API response while deleting employee: {}", name);
+                logger.error("Received empty or invalid API response while deleting employee: {}", id);
                 throw new ApiClientException("No confirmation received from delete operation");
             }
 
-            logger.debug("Successfully deleted employee: {}", name);
+            logger.debug("Successfully deleted employee: {}", id);
+            return apiResponse.getData();
+
+        } catch (Exception e) {
+            if (e instanceof ApiClientException
+                    || e instanceof RateLimitException
+                    || e instanceof ResourceNotFoundException) {
+                throw e;
+            }
+            logger.error("Error communicating with external API while deleting employee {}: {}", id, e.getMessage(), e);
+            throw new ApiClientException("Failed to communicate with external API", e);
+        }
+    }
+
+    /**
+     * Deletes several employees by id with a single upstream request.
+     *
+     * @param ids the ids of the employees to delete
+     * @return one result per id, in request order; ids that matched no employee carry an error instead of data
+     */
+    @Retry(name = DELETE)
+    @CircuitBreaker(name = DELETE)
+    @Bulkhead(name = DELETE)
+    public List<ApiResponse<Employee>> deleteEmployeesByIds(final List<String> ids) {
+        logger.info("Deleting {} employees from mock API", ids.size());
+
+        try {
+            final ParameterizedTypeReference<ApiResponse<List<ApiResponse<Employee>>>> responseType =
+                    new ParameterizedTypeReference<>() {};
+
+            ApiResponse<List<ApiResponse<Employee>>> apiResponse;
+            try (RequestTimings.Span ignored = RequestTimings.start(Phase.UPSTREAM)) {
+                apiResponse = restClient
+                        .method(HttpMethod.DELETE)
+                        .uri("/bulk")
+                        .body(Map.of("ids", ids))
+                        .retrieve()
+                        .onStatus(HttpStatusCode::is4xxClientError, (request, response) -> {
+                            if (response.getStatusCode().value() == 429) {
+                                logger.warn("Rate limit exceeded while deleting {} employees", ids.size());
+                                throw new RateLimitException(
+                                        "Rate limit exceeded while deleting employees. Please try again later.",
+                                        retryAfterSeconds(response.getHeaders()));
+                            }
+                            logger.error(
+                                    "Client error while deleting {} employees: {}",
+                                    ids.size(),
+                                    response.getStatusCode());
+                            throw new ApiClientException(
+                                    "Failed to delete employees: HTTP " + response.getStatusCode());
+                        })
+                        .onStatus(HttpStatusCode::is5xxServerError, (request, response) -> {
+                            logger.error(
+                                    "Server error while deleting {} employees: {}",
+                                    ids.size(),
+                                    response.getStatusCode());
+                            throw new ApiClientException(
+                                    "External API server error while deleting employees: " + response.getStatusCode());
+                        })
+                        .body(responseType);
+            }
+            upstreamSucceeded();
+
+            if (apiResponse == null
+                    || apiResponse.getData() == null
+                    || apiResponse.getData().size() != ids.size()) {
+                logger.error("Received empty or invalid API response while deleting {} employees", ids.size());
+                throw new ApiClientException("No confirmation received from bulk delete operation");
+            }
+
+            logger.debug("Successfully processed bulk deletion of {} employees", ids.size());
             return apiResponse.getData();
 
         } catch (Exception e) {
@@ -201,8 +426,50 @@ public class ApiClient {
                 throw e;
             }
             logger.error(
-                    "Error communicating with external API while deleting employee {}: {}", name, e.getMessage(), e);
+                    "Error communicating with external API while deleting {} employees: {}",
+                    ids.size(),
+                    e.getMessage(),
+                    e);
             throw new ApiClientException("Failed to communicate with external API", e);
         }
     }
+
+    /**
+     * Records a call the upstream answered successfully, which clears its throttle and refills the retry budget.
+     * The circuit breakers cannot tell these apart from reads answered by the roster cache, which they also see as
+     * successes.
+     */
+    private void upstreamSucceeded() {
+        upstreamAdmission.onUpstreamSuccess();
+        retryBudget.deposit();
+    }
+
+    /**
+     * Reads the {@code Retry-After} header of a 429 response, given either in seconds or as an HTTP date.
+     *
+     * @param headers the response headers
+     * @return the seconds to wait before the next call, or {@code null} if the header is missing or malformed
+     */
+    static Integer retryAfterSeconds(final HttpHeaders headers) {
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return null;
+        }
+        String value = retryAfter.trim();
+        if (value.chars().allMatch(Character::isDigit)) {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                return Integer.MAX_VALUE;
+            }
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            long millis = Duration.between(Instant.now(), date.toInstant()).toMillis();
+            return (int) Math.min(Integer.MAX_VALUE, Math.max(0, (millis + 999) / 1000));
+        } catch (DateTimeParseException e) {
+            logger.debug("Ignoring malformed Retry-After header: {}", retryAfter);
+            return null;
+        }
+    }
 }
@@ -0,0 +1,253 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.dto.ApiResponse;
+import com.reliaquest.api.dto.CreateEmployeeRequest;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.exception.ApiClientException;
+import com.reliaquest.api.timing.RequestTimings;
+import com.reliaquest.api.timing.RequestTimings.Phase;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Micro-batches concurrent employee creations into single upstream bulk requests.
+ * <p>
+ * The first request of a batch opens a short collection window. Requests arriving within the window join the
+ * batch, which is sent when the window closes or the batch is full. Each caller gets the result of its own item.
+ * A caller whose item is still queued after {@code api.batch.create.timeout} withdraws it and gives up; once the
+ * item is sent, the caller waits for its outcome, since the upstream may create the employee however late it
+ * answers. A burst of creates thereby consumes one upstream request per batch instead of one per employee.
+ * <p>
+ * Batches are sent by as many threads as the {@code employeeCreate} bulkhead admits, so a batch held up in
+ * retries does not delay the ones behind it. At most as many batches again wait for a sender; beyond that a batch
+ * is failed at once.
+ */
+@Component
+public class EmployeeCreateBatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeCreateBatcher.class);
+
+    private final ApiClient apiClient;
+
+    private final Duration window;
+
+    private final int maxBatchSize;
+
+    private final Duration timeout;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final ExecutorService senders;
+
+    private final Object lock = new Object();
+
+    private List<PendingCreate> pending = new ArrayList<>();
+
+    private ScheduledFuture<?> scheduledFlush;
+
+    public EmployeeCreateBatcher(
+            final ApiClient apiClient,
+            @Value("${api.batch.create.window:25ms}") final Duration window,
+            @Value("${api.batch.create.max-size:50}") final int maxBatchSize,
+            @Value("${resilience4j.bulkhead.instances.employeeCreate.maxConcurrentCalls:4}") final int senderCount,
+            @Value("${api.batch.create.timeout:10s}") final Duration timeout) {
+        this.apiClient = apiClient;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.timeout = timeout;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-create-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger senderNumber = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(
+                senderCount, senderCount, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(senderCount), runnable -> {
+                    Thread thread = new Thread(runnable, "employee-create-sender-" + senderNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Creates an employee as part of the current batch and waits for its result.
+     *
+     * @param employeeRequest the employee to create
+     * @param onCreated called with the created employee before this method returns it; it is called even if the
+     *     caller stopped waiting, e.g. because it was interrupted
+     * @return the created employee
+     * @throws ApiClientException if the employee could not be created, or its batch was not sent in time
+     */
+    public Employee create(final CreateEmployeeRequest employeeRequest, final Consumer<Employee> onCreated) {
+        PendingCreate pendingCreate = enqueue(employeeRequest);
+        CompletableFuture<Employee> result = pendingCreate.result().thenApply(employee -> {
+            onCreated.accept(employee);
+            return employee;
+        });
+        try (RequestTimings.Span ignored = RequestTimings.start(Phase.UPSTREAM)) {
+            try {
+                return result.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (pendingCreate.withdraw()) {
+                    logger.warn(
+                            "Employee {} not sent within {} ms, giving up",
+                            employeeRequest.getName(),
+                            timeout.toMillis());
+                    throw new ApiClientException("Timed out waiting for the external API to create employee", e);
+                }
+                logger.debug("Employee {} already sent, waiting for the outcome", employeeRequest.getName());
+                return result.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ApiClientException("Failed to create employee", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiClientException("Interrupted while waiting for the external API to create employee", e);
+        }
+    }
+
+    /**
+     * Adds an employee to the current batch.
+     *
+     * @param employeeRequest the employee to create
+     * @return a future completed with the created employee, or exceptionally if its item failed
+     */
+    public CompletableFuture<Employee> submit(final CreateEmployeeRequest employeeRequest) {
+        return enqueue(employeeRequest).result();
+    }
+
+    private PendingCreate enqueue(final CreateEmployeeRequest employeeRequest) {
+        PendingCreate pendingCreate =
+                new PendingCreate(employeeRequest, new CompletableFuture<>(), new AtomicBoolean());
+        List<PendingCreate> fullBatch = null;
+        synchronized (lock) {
+            pending.add(pendingCreate);
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = drain();
+            } else if (pending.size() == 1) {
+                scheduledFlush = scheduler.schedule(this::flush, window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        return pendingCreate;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        scheduler.shutdown();
+        senders.shutdown();
+    }
+
+    private void flush() {
+        List<PendingCreate> batch;
+        synchronized (lock) {
+            batch = drain();
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(final List<PendingCreate> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            senders.execute(() -> send(batch));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Too many batches waiting to be sent, failing {} employee creations", batch.size());
+            ApiClientException failure = new ApiClientException("Too many employee creations in progress", e);
+            batch.forEach(pendingCreate -> pendingCreate.result().completeExceptionally(failure));
+        }
+    }
+
+    private List<PendingCreate> drain() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        List<PendingCreate> batch = pending;
+        pending = new ArrayList<>();
+        return batch;
+    }
+
+    private void send(final List<PendingCreate> dispatched) {
+        List<PendingCreate> batch =
+                dispatched.stream().filter(PendingCreate::markSent).toList();
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            if (batch.size() == 1) {
+                PendingCreate single = batch.get(0);
+                single.result().complete(apiClient.createEmployee(single.request()));
+                return;
+            }
+
+            logger.debug("Sending batch of {} employee creations", batch.size());
+            List<ApiResponse<Employee>> results = apiClient.createEmployees(
+                    batch.stream().map(PendingCreate::request).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                complete(batch.get(i), results.get(i));
+            }
+        } catch (RuntimeException e) {
+            batch.forEach(pendingCreate -> pendingCreate.result().completeExceptionally(e));
+        }
+    }
+
+    private void complete(final PendingCreate pendingCreate, final ApiResponse<Employee> result) {
+        if (result != null && result.getData() != null) {
+            pendingCreate.result().complete(result.getData());
+            return;
+        }
+        String error = result != null && result.getError() != null ? result.getError() : "no data received";
+        logger.warn(
+                "Failed to create employee {} in batch: {}",
+                pendingCreate.request().getName(),
+                error);
+        pendingCreate.result().completeExceptionally(new ApiClientException("Failed to create employee: " + error));
+    }
+
+    /**
+     * An employee waiting to be created. It is either sent or withdrawn by its caller, whichever comes first.
+     */
+    private record PendingCreate(
+            CreateEmployeeRequest request, CompletableFuture<Employee> result, AtomicBoolean taken) {
+
+        boolean markSent() {
+            return taken.compareAndSet(false, true);
+        }
+
+        boolean withdraw() {
+            if (!taken.compareAndSet(false, true)) {
+                return false;
+            }
+            result.completeExceptionally(new ApiClientException("Withdrawn before it was sent"));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.reliaquest.api.client;
+
+import io.github.resilience4j.common.retry.configuration.RetryConfigCustomizer;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Retry budget shared by all {@link ApiClient} operations, so that a throttling upstream does not get two extra
+ * attempts for every failing call.
+ * <p>
+ * The budget is a token bucket holding up to {@code api.retry.budget.max-tokens} tokens, full at start. Every
+ * call the upstream answers successfully adds {@code api.retry.budget.token-ratio} of a token, as reported by
+ * {@link ApiClient}; reads answered from the roster cache add nothing. Every failure of a kind the retry config
+ * retries takes one away, on the last attempt too; retries are only allowed while more than half of
+ * the bucket is left. Retries are thereby capped at the token ratio of recent successful calls, with a small
+ * allowance for bursts. Denied retries are counted in {@code api.retry.budget.denied}, per Resilience4j instance,
+ * and the tokens left are reported as {@code api.retry.budget.tokens}.
+ */
+@Component
+public class RetryBudget {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryBudget.class);
+
+    /**
+     * Tokens are kept in thousandths, so that adding the token ratio does not accumulate rounding errors.
+     */
+    private static final long MILLIS_PER_TOKEN = 1000;
+
+    private final boolean enabled;
+
+    private final long maxMilliTokens;
+
+    private final long depositMilliTokens;
+
+    private final MeterRegistry meterRegistry;
+
+    private long milliTokens;
+
+    public RetryBudget(
+            @Value("${api.retry.budget.enabled:true}") final boolean enabled,
+            @Value("${api.retry.budget.max-tokens:10}") final int maxTokens,
+            @Value("${api.retry.budget.token-ratio:0.1}") final double tokenRatio,
+            final MeterRegistry meterRegistry) {
+        if (maxTokens < 2) {
+            throw new IllegalArgumentException("api.retry.budget.max-tokens must be at least 2");
+        }
+        if (tokenRatio < 0.001) {
+            throw new IllegalArgumentException("api.retry.budget.token-ratio must be at least 0.001");
+        }
+        this.enabled = enabled;
+        this.maxMilliTokens = maxTokens * MILLIS_PER_TOKEN;
+        this.depositMilliTokens = Math.round(tokenRatio * MILLIS_PER_TOKEN);
+        this.meterRegistry = meterRegistry;
+        this.milliTokens = maxMilliTokens;
+        Gauge.builder("api.retry.budget.tokens", this, RetryBudget::tokens)
+                .description("Tokens left in the retry budget shared by upstream calls")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Puts the retries of a Resilience4j instance under this budget: a failure is retried only if the configured
+     * retry exceptions match it and the budget allows a retry.
+     *
+     * @param instance the Resilience4j instance name
+     * @return the customizer to apply to the instance's retry config
+     */
+    public RetryConfigCustomizer customizer(final String instance) {
+        Counter denied = Counter.builder("api.retry.budget.denied")
+                .tag("name", instance)
+                .description("Retries of upstream calls denied by the retry budget")
+                .register(meterRegistry);
+        return RetryConfigCustomizer.of(instance, builder -> budget(builder, instance, denied));
+    }
+
+    /**
+     * Folds the instance's configured retry predicate into the budget check. The customizer hands over a raw
+     * builder, which is taken as a wildcard so that its calls stay checked.
+     */
+    private void budget(final RetryConfig.Builder<?> builder, final String instance, final Counter denied) {
+        Predicate<Throwable> retryable = builder.build().getExceptionPredicate();
+        Predicate<Throwable> budgeted = failure -> {
+            if (!retryable.test(failure)) {
+                return false;
+            }
+            if (withdraw()) {
+                return true;
+            }
+            denied.increment();
+            logger.debug("Retry budget exhausted, not retrying {} after {}", instance, failure.toString());
+            return false;
+        };
+        // Failures matching the retry exceptions would be retried without consulting the predicate, so that list
+        // is reset; it is already part of the retryable predicate. The ignore exceptions are kept as configured.
+        builder.retryExceptions((Class<? extends Throwable>[]) null).retryOnException(budgeted);
+    }
+
+    /**
+     * Takes a token for a failure that would be retried.
+     *
+     * @return whether the retry is allowed
+     */
+    synchronized boolean withdraw() {
+        if (!enabled) {
+            return true;
+        }
+        milliTokens = Math.max(0, milliTokens - MILLIS_PER_TOKEN);
+        return milliTokens > maxMilliTokens / 2;
+    }
+
+    /**
+     * Adds the token ratio for a call the upstream answered successfully.
+     */
+    synchronized void deposit() {
+        milliTokens = Math.min(maxMilliTokens, milliTokens + depositMilliTokens);
+    }
+
+    synchronized double tokens() {
+        return (double) milliTokens / MILLIS_PER_TOKEN;
+    }
+}
@@ -1,8 +1,10 @@
 package com.reliaquest.api.config;
 
+import java.util.Locale;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.web.client.RestClient;
 
 /**
@@ -14,13 +16,30 @@ public class AppConfig {
     @Value("${api.mock.base-url}")
     private String mockApiBaseUrl;
 
+    @Value("${api.mock.wire-format:json}")
+    private String mockApiWireFormat;
+
     /**
      * Creates a RestClient bean for making HTTP requests to the mock employee API.
+     * <p>
+     * With {@code api.mock.wire-format=cbor}, the CBOR converter is put ahead of JSON: request bodies are sent as
+     * {@code application/cbor} and CBOR is preferred in {@code Accept}, while JSON responses are still read.
      *
      * @return a RestClient instance configured with the base URL
+     * @throws IllegalArgumentException if the wire format is neither json nor cbor
      */
     @Bean
     public RestClient restClient() {
-        return RestClient.builder().baseUrl(mockApiBaseUrl).build();
+        RestClient.Builder builder = RestClient.builder().baseUrl(mockApiBaseUrl);
+        switch (mockApiWireFormat.toLowerCase(Locale.ROOT)) {
+            case "json" -> {}
+            case "cbor" -> builder.messageConverters(converters -> {
+                converters.removeIf(MappingJackson2CborHttpMessageConverter.class::isInstance);
+                converters.add(0, new MappingJackson2CborHttpMessageConverter());
+            });
+            default -> throw new IllegalArgumentException(
+                    "Unknown api.mock.wire-format '" + mockApiWireFormat + "', expected one of: json, cbor");
+        }
+        return builder.build();
     }
 }
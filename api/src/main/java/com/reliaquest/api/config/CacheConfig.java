@@ -1,12 +1,82 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.cache.FileLockLeaseStore;
+import com.reliaquest.api.cache.LeaseStore;
+import com.reliaquest.api.cache.PeerRosterClient;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterSnapshotStore;
+import com.reliaquest.api.cache.SnapshotTieredCache;
+import java.nio.file.Path;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
 /**
  * Configuration for enabling caching in the application.
- * Uses Caffeine as the cache provider for efficient in-memory caching.
+ * Uses Caffeine as the cache provider for efficient in-memory caching, with the {@code employees} cache backed by
+ * an on-disk roster snapshot shared across restarts and, optionally, by the caches of peer api instances.
  */
 @Configuration
 @EnableCaching
-public class CacheConfig {}
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    /**
+     * Creates the Caffeine cache manager from the {@code spring.cache} properties and layers the snapshot file and
+     * peer tiers under the {@code employees} cache.
+     *
+     * @param cacheProperties the {@code spring.cache} properties
+     * @param snapshotStore the roster snapshot file
+     * @param peerRosterClient the peer api instances
+     * @return the cache manager
+     */
+    @Bean
+    public CacheManager cacheManager(
+            final CacheProperties cacheProperties,
+            final RosterSnapshotStore snapshotStore,
+            final PeerRosterClient peerRosterClient) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(
+                    final String name, final com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                Cache l1 = super.adaptCaffeineCache(name, cache);
+                return RosterCache.CACHE_NAME.equals(name)
+                        ? new SnapshotTieredCache(l1, snapshotStore, List.of(snapshotStore, peerRosterClient))
+                        : l1;
+            }
+        };
+        String spec = cacheProperties.getCaffeine().getSpec();
+        if (StringUtils.hasText(spec)) {
+            cacheManager.setCacheSpecification(spec);
+        }
+        if (!cacheProperties.getCacheNames().isEmpty()) {
+            cacheManager.setCacheNames(cacheProperties.getCacheNames());
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Creates the lease store used to elect the roster refresh leader when coordination is enabled: a file lock,
+     * which suits nodes on one host. To coordinate across hosts, set {@code api.cache.coordination.lease-store} to
+     * another value and define that {@link LeaseStore} bean.
+     *
+     * @param lockPath the lock file
+     * @return the lease store
+     */
+    @Bean
+    @ConditionalOnProperty(name = "api.cache.coordination.lease-store", havingValue = "file", matchIfMissing = true)
+    public LeaseStore leaseStore(
+            @Value("${api.cache.coordination.lock-path:${java.io.tmpdir}/employee-api/refresh.lock}")
+                    final Path lockPath) {
+        return new FileLockLeaseStore(lockPath);
+    }
+}
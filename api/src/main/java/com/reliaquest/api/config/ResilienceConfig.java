@@ -0,0 +1,29 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.client.RetryBudget;
+import io.github.resilience4j.common.retry.configuration.RetryConfigCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Resilience4j customizations that cannot be expressed in {@code application.yml}.
+ */
+@Configuration
+public class ResilienceConfig {
+
+    @Bean
+    public RetryConfigCustomizer employeeFetchRetryBudget(final RetryBudget retryBudget) {
+        return retryBudget.customizer(ApiClient.FETCH);
+    }
+
+    @Bean
+    public RetryConfigCustomizer employeeCreateRetryBudget(final RetryBudget retryBudget) {
+        return retryBudget.customizer(ApiClient.CREATE);
+    }
+
+    @Bean
+    public RetryConfigCustomizer employeeDeleteRetryBudget(final RetryBudget retryBudget) {
+        return retryBudget.customizer(ApiClient.DELETE);
+    }
+}
@@ -0,0 +1,80 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.HistogramBucket;
+import com.reliaquest.api.dto.TitleStatistics;
+import com.reliaquest.api.index.EmployeeMetric;
+import com.reliaquest.api.service.EmployeeAnalyticsService;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for aggregate salary and age queries.
+ * <p>
+ * {@code metric} path segments accept {@code salary} or {@code age}.
+ */
+@RestController
+@RequestMapping("/api/v1/analytics")
+public class EmployeeAnalyticsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeAnalyticsController.class);
+
+    private final EmployeeAnalyticsService analyticsService;
+
+    public EmployeeAnalyticsController(final EmployeeAnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @GetMapping("/salary/top")
+    public ResponseEntity<List<Employee>> getTopEarners(@RequestParam(defaultValue = "10") int n) {
+        logger.debug("Received request to get top {} earners", n);
+        return ResponseEntity.ok(analyticsService.getTopEarners(n));
+    }
+
+    @GetMapping("/{metric}/percentiles")
+    public ResponseEntity<Map<String, Integer>> getPercentiles(
+            @PathVariable String metric,
+            @RequestParam(name = "p", defaultValue = "50,90,99") List<Double> percentiles) {
+        logger.debug("Received request to get {} percentiles {}", metric, percentiles);
+        return ResponseEntity.ok(analyticsService.getPercentiles(EmployeeMetric.fromName(metric), percentiles));
+    }
+
+    @GetMapping("/{metric}/histogram")
+    public ResponseEntity<List<HistogramBucket>> getHistogram(
+            @PathVariable String metric, @RequestParam(defaultValue = "10") int buckets) {
+        logger.debug("Received request to get {} histogram with {} buckets", metric, buckets);
+        return ResponseEntity.ok(analyticsService.getHistogram(EmployeeMetric.fromName(metric), buckets));
+    }
+
+    @GetMapping("/{metric}/count")
+    public ResponseEntity<Integer> countInRange(
+            @PathVariable String metric,
+            @RequestParam(required = false) Integer min,
+            @RequestParam(required = false) Integer max) {
+        logger.debug("Received request to count employees with {} between {} and {}", metric, min, max);
+        return ResponseEntity.ok(analyticsService.countInRange(EmployeeMetric.fromName(metric), min, max));
+    }
+
+    @GetMapping("/titles")
+    public ResponseEntity<List<TitleStatistics>> getTitleStatistics() {
+        logger.debug("Received request to get salary statistics for all titles");
+        return ResponseEntity.ok(analyticsService.getTitleStatistics());
+    }
+
+    @GetMapping("/titles/{title}")
+    public ResponseEntity<TitleStatistics> getTitleStatistics(@PathVariable String title) {
+        logger.debug("Received request to get salary statistics for title '{}'", title);
+        return analyticsService
+                .getTitleStatistics(title)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -2,14 +2,30 @@ package com.reliaquest.api.controller;
 
 import com.reliaquest.api.dto.CreateEmployeeRequest;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeFilter;
+import com.reliaquest.api.encoding.PreEncoded;
+import com.reliaquest.api.idempotency.IdempotencyCache;
+import com.reliaquest.api.service.EmployeeAutocompleteService;
+import com.reliaquest.api.service.EmployeeFilterService;
+import com.reliaquest.api.service.EmployeeFuzzySearchService;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.write.QueuedEmployee;
+import com.reliaquest.api.write.WriteBehind;
+import com.reliaquest.api.write.WriteBehindQueue;
+import com.reliaquest.api.write.WriteStatus;
+import java.net.URI;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -24,13 +40,35 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
 
     private final EmployeeService employeeService;
 
-    public EmployeeController(final EmployeeService employeeService) {
+    private final EmployeeFilterService employeeFilterService;
+
+    private final EmployeeAutocompleteService autocompleteService;
+
+    private final EmployeeFuzzySearchService fuzzySearchService;
+
+    private final WriteBehindQueue writeBehindQueue;
+
+    private final IdempotencyCache idempotencyCache;
+
+    public EmployeeController(
+            final EmployeeService employeeService,
+            final EmployeeFilterService employeeFilterService,
+            final EmployeeAutocompleteService autocompleteService,
+            final EmployeeFuzzySearchService fuzzySearchService,
+            final WriteBehindQueue writeBehindQueue,
+            final IdempotencyCache idempotencyCache) {
         this.employeeService = employeeService;
+        this.employeeFilterService = employeeFilterService;
+        this.autocompleteService = autocompleteService;
+        this.fuzzySearchService = fuzzySearchService;
+        this.writeBehindQueue = writeBehindQueue;
+        this.idempotencyCache = idempotencyCache;
     }
 
     @Override
+    @PreEncoded
     public ResponseEntity<List<Employee>> getAllEmployees() {
-        logger.info("Received request to get all employees");
+        logger.debug("Received request to get all employees");
         List<Employee> employees = employeeService.getAllEmployees();
         logger.debug("Returning {} employees", employees.size());
         return ResponseEntity.ok(employees);
@@ -38,15 +76,61 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
 
     @Override
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(String searchString) {
-        logger.info("Received request to search employees by name: {}", searchString);
+        logger.debug("Received request to search employees by name: {}", searchString);
         List<Employee> employees = employeeService.searchEmployeesByName(searchString);
         logger.debug("Found {} employees matching '{}'", employees.size(), searchString);
         return ResponseEntity.ok(employees);
     }
 
+    /**
+     * Filters employees by salary range, age range, titles and email domains, e.g.
+     * {@code /filter?minSalary=50000&maxAge=40&title=Engineer,Manager&emailDomain=example.com}.
+     *
+     * @param filter the criteria bound from query parameters
+     * @return the employees matching every given criterion
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<List<Employee>> filterEmployees(EmployeeFilter filter) {
+        logger.debug("Received request to filter employees by {}", filter);
+        List<Employee> employees = employeeFilterService.filterEmployees(filter);
+        logger.debug("Filter matched {} employees", employees.size());
+        return ResponseEntity.ok(employees);
+    }
+
+    /**
+     * Searches employees by name, tolerating typos, e.g. {@code /fuzzy-search?name=jhon&maxDistance=1}.
+     *
+     * @param name the name or name words to look for
+     * @param maxDistance the edit distance allowed per word; the configured default if absent
+     * @return the matching employees, closest first
+     */
+    @GetMapping("/fuzzy-search")
+    public ResponseEntity<List<Employee>> fuzzySearchEmployees(
+            @RequestParam String name, @RequestParam(required = false) Integer maxDistance) {
+        logger.debug("Received request to fuzzy search employees by name: {}", name);
+        List<Employee> employees = fuzzySearchService.search(name, maxDistance);
+        logger.debug("Found {} employees close to '{}'", employees.size(), name);
+        return ResponseEntity.ok(employees);
+    }
+
+    /**
+     * Suggests employee names for type-ahead.
+     *
+     * @param prefix the typed prefix, matched against the start of each word of a name
+     * @param limit the number of suggestions
+     * @return the best ranked matching names
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<String>> autocomplete(
+            @RequestParam String prefix, @RequestParam(defaultValue = "10") int limit) {
+        logger.debug("Received request to autocomplete '{}'", prefix);
+        List<String> names = autocompleteService.autocomplete(prefix, limit);
+        return ResponseEntity.ok(names);
+    }
+
     @Override
     public ResponseEntity<Employee> getEmployeeById(String id) {
-        logger.info("Received request to get employee by id: {}", id);
+        logger.debug("Received request to get employee by id: {}", id);
         Employee employee = employeeService.getEmployeeById(id);
         if (employee == null) {
             logger.warn("Employee with id {} not found", id);
@@ -56,8 +140,9 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     }
 
     @Override
+    @PreEncoded
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
-        logger.info("Received request to get highest salary");
+        logger.debug("Received request to get highest salary");
         Optional<Integer> highestSalary = employeeService.getHighestSalary();
         logger.debug("Highest salary: {}", highestSalary);
         return highestSalary.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound()
@@ -65,30 +150,93 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     }
 
     @Override
+    @PreEncoded
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
-        logger.info("Received request to get top 10 highest earning employees");
+        logger.debug("Received request to get top 10 highest earning employees");
         List<String> topEarners = employeeService.getTopTenHighestEarningEmployeeNames();
         logger.debug("Returning {} top earners", topEarners != null ? topEarners.size() : 0);
         return ResponseEntity.ok(topEarners);
     }
 
+    /**
+     * Creates an employee. In write-behind mode the creation is queued and answered with 202, the location of its
+     * status and a {@link QueuedEmployee} instead: the employee as requested, with the state of its write.
+     * <p>
+     * With an {@code Idempotency-Key} header, the employee is created at most once per key: repeated requests share
+     * the first one's response, marked with {@code Idempotent-Replayed: true}.
+     */
     @Override
+    @WriteBehind
     public ResponseEntity<Employee> createEmployee(CreateEmployeeRequest employeeInput) {
-        logger.info("Received request to create employee: {}", employeeInput.getName());
+        logger.debug("Received request to create employee: {}", employeeInput.getName());
+        Optional<String> idempotencyKey = IdempotencyCache.currentKey();
+        if (idempotencyKey.isEmpty()) {
+            return create(employeeInput);
+        }
+
+        IdempotencyCache.Result<ResponseEntity<Employee>> result =
+                idempotencyCache.execute(idempotencyKey.get(), fingerprint(employeeInput), () -> create(employeeInput));
+        if (!result.replayed()) {
+            return result.value();
+        }
+        ResponseEntity<Employee> first = result.value();
+        return ResponseEntity.status(first.getStatusCode())
+                .headers(first.getHeaders())
+                .header(IdempotencyCache.REPLAYED_HEADER, "true")
+                .body(first.getBody());
+    }
+
+    private ResponseEntity<Employee> create(final CreateEmployeeRequest employeeInput) {
+        if (writeBehindQueue.isEnabled()) {
+            WriteStatus write = writeBehindQueue.submitCreate(employeeInput);
+            return ResponseEntity.accepted().location(statusLocation(write)).body(new QueuedEmployee(write));
+        }
         Employee employee = employeeService.createEmployee(employeeInput);
-        logger.info("Successfully created employee with id: {}", employee.getId());
+        logger.debug("Successfully created employee with id: {}", employee.getId());
         return ResponseEntity.ok(employee);
     }
 
+    /**
+     * Deletes an employee. In write-behind mode the deletion is queued and answered with 202, the location of its
+     * status and its tracking id instead.
+     */
     @Override
+    @WriteBehind
     public ResponseEntity<String> deleteEmployeeById(String id) {
-        logger.info("Received request to delete employee by id: {}", id);
+        logger.debug("Received request to delete employee by id: {}", id);
+        if (writeBehindQueue.isEnabled()) {
+            WriteStatus write = writeBehindQueue.submitDelete(id);
+            return ResponseEntity.accepted().location(statusLocation(write)).body(write.id());
+        }
         String deletedEmployeeName = employeeService.deleteEmployeeById(id);
         if (deletedEmployeeName == null) {
             logger.warn("Employee with id {} not found for deletion", id);
             return ResponseEntity.notFound().build();
         }
-        logger.info("Successfully deleted employee: {}", deletedEmployeeName);
+        logger.debug("Successfully deleted employee: {}", deletedEmployeeName);
         return ResponseEntity.ok(deletedEmployeeName);
     }
+
+    /**
+     * Deletes several employees with a single upstream request. This is not queued in write-behind mode.
+     *
+     * @param ids the ids of the employees to delete
+     * @return the names of the deleted employees
+     */
+    @DeleteMapping("/bulk")
+    public ResponseEntity<List<String>> deleteEmployeesByIds(@RequestBody List<String> ids) {
+        logger.debug("Received request to delete {} employees", ids.size());
+        List<String> deletedEmployeeNames = employeeService.deleteEmployeesByIds(ids);
+        logger.debug("Successfully deleted {} employees", deletedEmployeeNames.size());
+        return ResponseEntity.ok(deletedEmployeeNames);
+    }
+
+    private static List<Object> fingerprint(final CreateEmployeeRequest employeeInput) {
+        return Arrays.asList(
+                employeeInput.getName(), employeeInput.getSalary(), employeeInput.getAge(), employeeInput.getTitle());
+    }
+
+    private static URI statusLocation(final WriteStatus write) {
+        return URI.create(WriteStatusController.WRITES_PATH + "/" + write.id());
+    }
 }
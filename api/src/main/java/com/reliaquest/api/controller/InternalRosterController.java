@@ -0,0 +1,75 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.cache.PeerRosterClient;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.cache.RosterSnapshotCodec;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Internal endpoint through which peer api instances fill their roster cache from this one.
+ * <p>
+ * Serves the in-memory roster in the binary snapshot format and never loads it, so instances missing at the same
+ * time cannot send requests back and forth. The ETag identifies the snapshot version, and a matching
+ * {@code If-None-Match} is answered with 304.
+ */
+@RestController
+public class InternalRosterController {
+
+    private static final Logger logger = LoggerFactory.getLogger(InternalRosterController.class);
+
+    private final RosterCache rosterCache;
+
+    private final PeerRosterClient peerRosterClient;
+
+    private volatile EncodedSnapshot lastEncoded;
+
+    public InternalRosterController(final RosterCache rosterCache, final PeerRosterClient peerRosterClient) {
+        this.rosterCache = rosterCache;
+        this.peerRosterClient = peerRosterClient;
+    }
+
+    /**
+     * @param ifNoneMatch the ETag of the snapshot the caller already holds, if any
+     * @return the encoded snapshot; 204 if this instance holds no roster, 404 if peer fill is disabled
+     */
+    @GetMapping(PeerRosterClient.SNAPSHOT_PATH)
+    public ResponseEntity<byte[]> getRosterSnapshot(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (!peerRosterClient.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Optional<RosterSnapshot> snapshot = rosterCache.localSnapshot();
+        if (snapshot.isEmpty()) {
+            logger.debug("No roster snapshot to serve to peer");
+            return ResponseEntity.noContent().build();
+        }
+
+        String etag = snapshot.get().etag();
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        EncodedSnapshot encoded = lastEncoded;
+        if (encoded == null || encoded.snapshot() != snapshot.get()) {
+            encoded = new EncodedSnapshot(snapshot.get(), RosterSnapshotCodec.encode(snapshot.get()));
+            lastEncoded = encoded;
+        }
+        logger.debug("Serving roster snapshot v{} to peer", snapshot.get().version());
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(RosterSnapshotCodec.MEDIA_TYPE)
+                .body(encoded.bytes());
+    }
+
+    private record EncodedSnapshot(RosterSnapshot snapshot, byte[] bytes) {}
+}
@@ -0,0 +1,40 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.write.WriteBehindQueue;
+import com.reliaquest.api.write.WriteStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Reports the outcome of creates and deletes accepted in write-behind mode.
+ */
+@RestController
+@RequestMapping(WriteStatusController.WRITES_PATH)
+public class WriteStatusController {
+
+    public static final String WRITES_PATH = "/api/v1/writes";
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteStatusController.class);
+
+    private final WriteBehindQueue writeBehindQueue;
+
+    public WriteStatusController(final WriteBehindQueue writeBehindQueue) {
+        this.writeBehindQueue = writeBehindQueue;
+    }
+
+    /**
+     * @param id the tracking id returned when the write was accepted
+     * @return the write's state; 404 if the id is unknown or its outcome is no longer retained
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<WriteStatus> getWriteStatus(@PathVariable String id) {
+        logger.debug("Received request for status of write {}", id);
+        return writeBehindQueue.getStatus(id).map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound()
+                .build());
+    }
+}
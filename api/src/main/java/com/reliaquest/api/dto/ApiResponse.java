@@ -14,7 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * }
  * </pre>
  * <p>
- * This class extracts just the "data" field and ignores everything else.
+ * This class extracts the "data" field, plus the "error" message the mock API sets on failed items of bulk
+ * operations, and ignores everything else.
  *
  * @param <T> the type of data contained in the response
  */
@@ -24,6 +25,9 @@ public class ApiResponse<T> {
     @JsonProperty("data")
     private T data;
 
+    @JsonProperty("error")
+    private String error;
+
     public T getData() {
         return data;
     }
@@ -31,4 +35,12 @@ public class ApiResponse<T> {
     public void setData(final T data) {
         this.data = data;
     }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(final String error) {
+        this.error = error;
+    }
 }
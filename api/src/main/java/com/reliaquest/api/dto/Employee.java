@@ -1,6 +1,7 @@
 package com.reliaquest.api.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 /**
  * Data Transfer Object (DTO) representing an employee.
@@ -8,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 public class Employee {
 
     @JsonProperty("id")
+    @JsonDeserialize(using = UuidStringDeserializer.class)
     private String id;
 
     @JsonProperty("employee_name")
@@ -0,0 +1,78 @@
+package com.reliaquest.api.dto;
+
+import java.util.List;
+
+/**
+ * Criteria for filtering employees, bound from query parameters.
+ * <p>
+ * Criteria that are not set do not restrict the result. Ranges are inclusive. Several titles or email domains
+ * match employees with any of them; different criteria must all match.
+ */
+public class EmployeeFilter {
+
+    private Integer minSalary;
+
+    private Integer maxSalary;
+
+    private Integer minAge;
+
+    private Integer maxAge;
+
+    private List<String> title;
+
+    private List<String> emailDomain;
+
+    public Integer getMinSalary() {
+        return minSalary;
+    }
+
+    public void setMinSalary(Integer minSalary) {
+        this.minSalary = minSalary;
+    }
+
+    public Integer getMaxSalary() {
+        return maxSalary;
+    }
+
+    public void setMaxSalary(Integer maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+
+    public Integer getMinAge() {
+        return minAge;
+    }
+
+    public void setMinAge(Integer minAge) {
+        this.minAge = minAge;
+    }
+
+    public Integer getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Integer maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public List<String> getTitle() {
+        return title;
+    }
+
+    public void setTitle(List<String> title) {
+        this.title = title;
+    }
+
+    public List<String> getEmailDomain() {
+        return emailDomain;
+    }
+
+    public void setEmailDomain(List<String> emailDomain) {
+        this.emailDomain = emailDomain;
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeeFilter{" + "minSalary=" + minSalary + ", maxSalary=" + maxSalary + ", minAge=" + minAge
+                + ", maxAge=" + maxAge + ", title=" + title + ", emailDomain=" + emailDomain + '}';
+    }
+}
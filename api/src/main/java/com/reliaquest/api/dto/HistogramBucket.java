@@ -0,0 +1,32 @@
+package com.reliaquest.api.dto;
+
+/**
+ * One bucket of a histogram over an employee metric. The lower bound is inclusive; the upper bound is exclusive
+ * except for the last bucket, which includes the maximum value.
+ */
+public class HistogramBucket {
+
+    private final int from;
+
+    private final int to;
+
+    private final int count;
+
+    public HistogramBucket(int from, int to, int count) {
+        this.from = from;
+        this.to = to;
+        this.count = count;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getTo() {
+        return to;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,45 @@
+package com.reliaquest.api.dto;
+
+/**
+ * Salary statistics for all employees sharing a job title.
+ */
+public class TitleStatistics {
+
+    private final String title;
+
+    private final int count;
+
+    private final int minSalary;
+
+    private final int maxSalary;
+
+    private final double averageSalary;
+
+    public TitleStatistics(String title, int count, int minSalary, int maxSalary, double averageSalary) {
+        this.title = title;
+        this.count = count;
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+        this.averageSalary = averageSalary;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getMinSalary() {
+        return minSalary;
+    }
+
+    public int getMaxSalary() {
+        return maxSalary;
+    }
+
+    public double getAverageSalary() {
+        return averageSalary;
+    }
+}
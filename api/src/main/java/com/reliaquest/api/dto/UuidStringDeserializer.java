@@ -0,0 +1,34 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Reads a UUID into its canonical string form. Besides JSON strings, this accepts the 16 raw bytes that binary
+ * formats such as CBOR use for UUIDs, which the plain string deserializer would turn into Base64.
+ */
+public class UuidStringDeserializer extends StdScalarDeserializer<String> {
+
+    private static final int UUID_BYTES = 16;
+
+    public UuidStringDeserializer() {
+        super(String.class);
+    }
+
+    @Override
+    public String deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_EMBEDDED_OBJECT
+                && parser.getEmbeddedObject() instanceof byte[] bytes
+                && bytes.length == UUID_BYTES) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong()).toString();
+        }
+        return StringDeserializer.instance.deserialize(parser, context);
+    }
+}
@@ -0,0 +1,38 @@
+package com.reliaquest.api.encoding;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A response body value together with its serialized JSON, uncompressed and gzip-compressed.
+ *
+ * @param value the value that was serialized
+ * @param identity the JSON bytes
+ * @param gzip the gzip-compressed JSON bytes
+ */
+record EncodedBody(Object value, byte[] identity, byte[] gzip) {
+
+    static EncodedBody of(final Object value, final byte[] json) {
+        return new EncodedBody(value, json, gzip(json));
+    }
+
+    /**
+     * Whether this body was encoded from {@code candidate}. The cached roster is returned as the same instance until
+     * it changes, so identity settles most lookups; equal values always serialize to equal bytes.
+     */
+    boolean encodes(final Object candidate) {
+        return value == candidate || value.equals(candidate);
+    }
+
+    private static byte[] gzip(final byte[] bytes) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
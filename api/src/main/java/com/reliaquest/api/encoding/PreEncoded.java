@@ -0,0 +1,19 @@
+package com.reliaquest.api.encoding;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller method whose response body is usually the same value on consecutive calls, such as the cached
+ * roster. The serialized JSON of the last body, plus a gzip variant, is kept and written as-is while the method
+ * keeps returning that value.
+ *
+ * @see PreEncodedResponseAdvice
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PreEncoded {}
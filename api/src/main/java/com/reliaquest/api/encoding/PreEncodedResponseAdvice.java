@@ -0,0 +1,142 @@
+package com.reliaquest.api.encoding;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Writes the bodies of {@link PreEncoded} controller methods from bytes serialized once per distinct value.
+ * <p>
+ * The last body of each method is kept with its JSON and gzip encodings. While the method keeps returning the same
+ * value, e.g. until the cached roster changes, the response is a plain copy of those bytes instead of a Jackson
+ * serialization; gzip is chosen when the request's {@code Accept-Encoding} allows it. Only JSON responses are
+ * handled, anything else is left to the regular message converters.
+ */
+@ControllerAdvice
+public class PreEncodedResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PreEncodedResponseAdvice.class);
+
+    private static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Method, EncodedBody> lastBodies = new ConcurrentHashMap<>();
+
+    public PreEncodedResponseAdvice(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean supports(
+            final MethodParameter returnType, final Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(PreEncoded.class)
+                && AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            final Object body,
+            final MethodParameter returnType,
+            final MediaType selectedContentType,
+            final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            final ServerHttpRequest request,
+            final ServerHttpResponse response) {
+        if (body == null || !MediaType.APPLICATION_JSON.isCompatibleWith(selectedContentType)) {
+            return body;
+        }
+
+        EncodedBody encoded = encode(returnType.getMethod(), body);
+        if (encoded == null) {
+            return body;
+        }
+
+        boolean gzip = acceptsGzip(request.getHeaders().get(HttpHeaders.ACCEPT_ENCODING));
+        byte[] bytes = gzip ? encoded.gzip() : encoded.identity();
+        HttpHeaders headers = response.getHeaders();
+        headers.setContentType(selectedContentType);
+        headers.setContentLength(bytes.length);
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        try {
+            response.getBody().write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write pre-encoded response body", e);
+        }
+        // The body is written; a null return tells Spring MVC there is nothing left to convert
+        return null;
+    }
+
+    private EncodedBody encode(final Method method, final Object body) {
+        EncodedBody encoded = lastBodies.get(method);
+        if (encoded != null && encoded.encodes(body)) {
+            return encoded;
+        }
+        try {
+            encoded = EncodedBody.of(body, objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            logger.warn("Could not pre-encode response body of {}: {}", method.getName(), e.getMessage());
+            return null;
+        }
+        lastBodies.put(method, encoded);
+        logger.debug(
+                "Pre-encoded response body of {}: {} bytes, {} gzipped",
+                method.getName(),
+                encoded.identity().length,
+                encoded.gzip().length);
+        return encoded;
+    }
+
+    /**
+     * @param acceptEncoding the {@code Accept-Encoding} header values, may be null
+     * @return whether gzip is acceptable, explicitly or through {@code *}, with a non-zero quality
+     */
+    static boolean acceptsGzip(final List<String> acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String header : acceptEncoding) {
+            for (String coding : header.split(",")) {
+                String[] parts = coding.split(";");
+                String name = parts[0].trim().toLowerCase(Locale.ROOT);
+                if ((name.equals(GZIP) || name.equals("*")) && !hasZeroQuality(parts)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasZeroQuality(final String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) == 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.api.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a request is turned away before reaching the upstream api because it could not be served
+ * in time. Results in HTTP 429 while the upstream is throttling, or 503 while its circuit breaker is open, with a
+ * {@code Retry-After} of the time left.
+ */
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    private final long retryAfterSeconds;
+
+    public AdmissionRejectedException(String message, HttpStatus status, long retryAfterSeconds) {
+        super(message);
+        this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,7 +1,17 @@
 package com.reliaquest.api.exception;
 
+import com.reliaquest.api.admission.UpstreamAdmission;
 import com.reliaquest.api.dto.ErrorResponse;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -23,6 +33,23 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private static final Pattern BULKHEAD_NAME = Pattern.compile("Bulkhead '([^']+)' is full");
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    private final UpstreamAdmission upstreamAdmission;
+
+    public GlobalExceptionHandler(
+            final CircuitBreakerRegistry circuitBreakerRegistry,
+            final BulkheadRegistry bulkheadRegistry,
+            final UpstreamAdmission upstreamAdmission) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.upstreamAdmission = upstreamAdmission;
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
             ResourceNotFoundException ex, HttpServletRequest request) {
@@ -45,6 +72,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(IdempotencyKeyReuseException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReuseException(
+            IdempotencyKeyReuseException ex, HttpServletRequest request) {
+        logger.warn("Idempotency key reused: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                "Unprocessable Entity",
+                ex.getMessage(),
+                request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
+    }
+
     @ExceptionHandler(RateLimitException.class)
     public ResponseEntity<ErrorResponse> handleRateLimitException(RateLimitException ex, HttpServletRequest request) {
         logger.warn("Rate limit exceeded: {}", ex.getMessage());
@@ -61,6 +102,61 @@ public class GlobalExceptionHandler {
         return responseBuilder.body(errorResponse);
     }
 
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleAdmissionRejectedException(
+            AdmissionRejectedException ex, HttpServletRequest request) {
+        logger.warn("Request rejected before reaching upstream: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                ex.getStatus().value(), ex.getStatus().getReasonPhrase(), ex.getMessage(), request.getRequestURI());
+
+        return ResponseEntity.status(ex.getStatus())
+                .header("Retry-After", Long.toString(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> handleBulkheadFullException(
+            BulkheadFullException ex, HttpServletRequest request) {
+        logger.warn("Upstream bulkhead full: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                "Too many concurrent requests to the external service. Please try again later.",
+                request.getRequestURI());
+
+        Duration maxWaitDuration = bulkheadName(ex)
+                .flatMap(bulkheadRegistry::find)
+                .map(bulkhead -> bulkhead.getBulkheadConfig().getMaxWaitDuration())
+                .orElse(Duration.ZERO);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", Long.toString(retryAfterSeconds(maxWaitDuration)))
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(CallNotPermittedException.class)
+    public ResponseEntity<ErrorResponse> handleCallNotPermittedException(
+            CallNotPermittedException ex, HttpServletRequest request) {
+        logger.warn("Upstream circuit breaker open: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                "The external service is temporarily unavailable. Please try again later.",
+                request.getRequestURI());
+
+        String name = ex.getCausingCircuitBreakerName();
+        // The time left until the circuit half-opens; its full open wait if it was not seen opening
+        long retryAfter =
+                upstreamAdmission.secondsUntilHalfOpen(name).orElseGet(() -> retryAfterSeconds(waitInOpenState(name)));
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", Long.toString(retryAfter))
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(ApiClientException.class)
     public ResponseEntity<ErrorResponse> handleApiClientException(ApiClientException ex, HttpServletRequest request) {
         logger.error("API client error: {}", ex.getMessage(), ex);
@@ -144,4 +240,25 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
+
+    private Duration waitInOpenState(final String circuitBreakerName) {
+        return circuitBreakerRegistry
+                .find(circuitBreakerName)
+                .map(CircuitBreaker::getCircuitBreakerConfig)
+                .map(config -> Duration.ofMillis(
+                        config.getWaitIntervalFunctionInOpenState().apply(1)))
+                .orElse(Duration.ZERO);
+    }
+
+    /**
+     * Reads the name of the bulkhead that rejected a call from the exception's message, the only place it is kept.
+     */
+    private static Optional<String> bulkheadName(final BulkheadFullException ex) {
+        Matcher matcher = BULKHEAD_NAME.matcher(String.valueOf(ex.getMessage()));
+        return matcher.find() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
+
+    private static long retryAfterSeconds(final Duration wait) {
+        return Math.max(1, (wait.toMillis() + 999) / 1000);
+    }
 }
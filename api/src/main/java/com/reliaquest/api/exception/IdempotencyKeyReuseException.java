@@ -0,0 +1,12 @@
+package com.reliaquest.api.exception;
+
+/**
+ * Exception thrown when an Idempotency-Key is sent again with a different request.
+ * Typically results in HTTP 422 Unprocessable Entity response.
+ */
+public class IdempotencyKeyReuseException extends RuntimeException {
+
+    public IdempotencyKeyReuseException(String key) {
+        super(String.format("Idempotency-Key '%s' was already used for a different request", key));
+    }
+}
@@ -0,0 +1,155 @@
+package com.reliaquest.api.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.exception.IdempotencyKeyReuseException;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Executes requests carrying an {@code Idempotency-Key} at most once per key.
+ * <p>
+ * The first request with a key runs; requests with the same key that arrive while it is in flight wait for it and
+ * share its outcome, and requests that arrive after it succeeded are answered with its result for
+ * {@code api.idempotency.ttl}. A failure is shared with the waiting requests but not kept, so a later retry with
+ * the same key runs again. Each key remembers the request it was first used with; reusing it for a different
+ * request is rejected.
+ * <p>
+ * Keys in flight are held apart from the bounded cache of outcomes, so neither {@code api.idempotency.max-keys}
+ * nor the ttl can drop a request that is still running and let a retry run it a second time.
+ */
+@Component
+public class IdempotencyCache {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyCache.class);
+
+    private final Cache<String, Entry> entries;
+
+    private final ConcurrentMap<String, Entry> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyCache(
+            @Value("${api.idempotency.ttl:10m}") final Duration ttl,
+            @Value("${api.idempotency.max-keys:10000}") final int maxKeys) {
+        this.entries =
+                Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxKeys).build();
+    }
+
+    /**
+     * Reads the {@code Idempotency-Key} header of the current request.
+     *
+     * @return the key, or empty if there is no current request or it has no key
+     * @throws IllegalArgumentException if the key is blank or longer than 255 characters
+     */
+    public static Optional<String> currentKey() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return Optional.empty();
+        }
+        HttpServletRequest request = attributes.getRequest();
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key == null) {
+            return Optional.empty();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    IDEMPOTENCY_KEY_HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        return Optional.of(key);
+    }
+
+    /**
+     * Runs an action once per key.
+     *
+     * @param key the idempotency key
+     * @param fingerprint identifies the request; a key may only be reused with an equal fingerprint
+     * @param action the action to run if the key is new
+     * @return the result of this or an earlier run of the action
+     * @throws IdempotencyKeyReuseException if the key was used with a different fingerprint
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Result<T> execute(final String key, final Object fingerprint, final Supplier<T> action) {
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null) {
+            entry = claim(key, new Entry(fingerprint, own));
+        }
+        if (!entry.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyReuseException(key);
+        }
+        if (entry.outcome() != own) {
+            logger.debug("Answering request with Idempotency-Key {} from an earlier request", key);
+            return new Result<>((T) join(entry.outcome()), true);
+        }
+
+        try {
+            T value = action.get();
+            own.complete(value);
+            entries.put(key, entry);
+            return new Result<>(value, false);
+        } catch (Throwable e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, entry);
+        }
+    }
+
+    /**
+     * Marks a key as in flight, unless a request with it is in flight already.
+     *
+     * @return the claimed entry, or the entry of the request that holds or completed the key
+     */
+    private Entry claim(final String key, final Entry claimed) {
+        Entry current = inFlight.putIfAbsent(key, claimed);
+        if (current != null) {
+            return current;
+        }
+        // A run that completed since the lookup stored its outcome before it released the key
+        Entry completed = entries.getIfPresent(key);
+        if (completed == null) {
+            return claimed;
+        }
+        inFlight.remove(key, claimed);
+        claimed.outcome().complete(completed.outcome().join());
+        return completed;
+    }
+
+    private static Object join(final CompletableFuture<Object> outcome) {
+        try {
+            return outcome.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @param value the result of the action
+     * @param replayed whether the action ran for an earlier request
+     */
+    public record Result<T>(T value, boolean replayed) {}
+
+    private record Entry(Object fingerprint, CompletableFuture<Object> outcome) {}
+}
@@ -0,0 +1,168 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.dto.Employee;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * Immutable compressed bitmap indexes over one roster, for combining attribute filters with bitwise operations.
+ * <p>
+ * Every employee is identified by its position in the roster. Titles and email domains map to one bitmap per
+ * distinct value; salary and age map to range buckets. Bitmaps returned by this class are either shared and
+ * must not be modified, or the result of an aggregation; callers combine them with the static
+ * {@code RoaringBitmap.and}/{@code or} operations, which never modify their arguments.
+ * <p>
+ * Positions shift when employees are removed, so the index is rebuilt for each roster rather than patched.
+ * Building it is a single pass over the roster.
+ */
+public final class EmployeeBitmapIndex {
+
+    static final int SALARY_BUCKET_WIDTH = 10_000;
+
+    static final int AGE_BUCKET_WIDTH = 1;
+
+    private final Employee[] employees;
+
+    private final RoaringBitmap all;
+
+    private final Map<String, RoaringBitmap> byTitle;
+
+    private final Map<String, RoaringBitmap> byEmailDomain;
+
+    private final RangeBitmapIndex salaries;
+
+    private final RangeBitmapIndex ages;
+
+    private EmployeeBitmapIndex(
+            final Employee[] employees,
+            final Map<String, RoaringBitmap> byTitle,
+            final Map<String, RoaringBitmap> byEmailDomain,
+            final RangeBitmapIndex salaries,
+            final RangeBitmapIndex ages) {
+        this.employees = employees;
+        this.all = RoaringBitmap.bitmapOfRange(0, employees.length);
+        this.byTitle = byTitle;
+        this.byEmailDomain = byEmailDomain;
+        this.salaries = salaries;
+        this.ages = ages;
+    }
+
+    /**
+     * Builds the indexes over the given roster.
+     *
+     * @param roster the employees to index
+     * @return the index
+     */
+    public static EmployeeBitmapIndex of(final List<Employee> roster) {
+        Employee[] employees = roster.toArray(new Employee[0]);
+        Map<String, RoaringBitmap> byTitle = new HashMap<>();
+        Map<String, RoaringBitmap> byEmailDomain = new HashMap<>();
+        for (int position = 0; position < employees.length; position++) {
+            Employee employee = employees[position];
+            if (employee == null) {
+                continue;
+            }
+            if (employee.getTitle() != null) {
+                byTitle.computeIfAbsent(employee.getTitle(), title -> new RoaringBitmap())
+                        .add(position);
+            }
+            String domain = emailDomain(employee.getEmail());
+            if (domain != null) {
+                byEmailDomain
+                        .computeIfAbsent(domain, key -> new RoaringBitmap())
+                        .add(position);
+            }
+        }
+        byTitle.values().forEach(RoaringBitmap::runOptimize);
+        byEmailDomain.values().forEach(RoaringBitmap::runOptimize);
+
+        return new EmployeeBitmapIndex(
+                employees,
+                byTitle,
+                byEmailDomain,
+                RangeBitmapIndex.of(EmployeeMetric.SALARY, SALARY_BUCKET_WIDTH, roster),
+                RangeBitmapIndex.of(EmployeeMetric.AGE, AGE_BUCKET_WIDTH, roster));
+    }
+
+    /**
+     * @return the positions of all employees
+     */
+    public RoaringBitmap all() {
+        return all;
+    }
+
+    /**
+     * @param min the lower bound, inclusive
+     * @param max the upper bound, inclusive
+     * @return the positions of employees whose salary lies in range
+     */
+    public RoaringBitmap salaryBetween(final int min, final int max) {
+        return salaries.between(min, max);
+    }
+
+    /**
+     * @param min the lower bound, inclusive
+     * @param max the upper bound, inclusive
+     * @return the positions of employees whose age lies in range
+     */
+    public RoaringBitmap ageBetween(final int min, final int max) {
+        return ages.between(min, max);
+    }
+
+    /**
+     * @param titles the titles, matched exactly
+     * @return the positions of employees holding any of the titles
+     */
+    public RoaringBitmap titleIn(final Collection<String> titles) {
+        return anyOf(byTitle, titles);
+    }
+
+    /**
+     * @param domains the email domains, matched case-insensitively, e.g. {@code example.com}
+     * @return the positions of employees whose email address is in any of the domains
+     */
+    public RoaringBitmap emailDomainIn(final Collection<String> domains) {
+        List<String> keys = new ArrayList<>(domains.size());
+        domains.forEach(domain -> keys.add(domain.toLowerCase(Locale.ROOT)));
+        return anyOf(byEmailDomain, keys);
+    }
+
+    /**
+     * Resolves positions back to employees.
+     *
+     * @param positions the positions, e.g. the result of a combined filter
+     * @return the employees in roster order
+     */
+    public List<Employee> select(final RoaringBitmap positions) {
+        List<Employee> result = new ArrayList<>(positions.getCardinality());
+        positions.forEach((int position) -> result.add(employees[position]));
+        return result;
+    }
+
+    private static RoaringBitmap anyOf(final Map<String, RoaringBitmap> bitmaps, final Collection<String> keys) {
+        List<RoaringBitmap> matches = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            RoaringBitmap bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                matches.add(bitmap);
+            }
+        }
+        return FastAggregation.or(matches.iterator());
+    }
+
+    private static String emailDomain(final String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.lastIndexOf('@');
+        return at < 0 || at == email.length() - 1
+                ? null
+                : email.substring(at + 1).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,48 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.dto.Employee;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Integer employee attributes that analytics can be computed over.
+ */
+public enum EmployeeMetric {
+    SALARY(Employee::getSalary),
+    AGE(Employee::getAge);
+
+    private final Function<Employee, Integer> getter;
+
+    EmployeeMetric(final Function<Employee, Integer> getter) {
+        this.getter = getter;
+    }
+
+    /**
+     * Resolves a metric from its name as used in request paths, e.g. {@code salary}.
+     *
+     * @param name the metric name, case-insensitive
+     * @return the metric
+     * @throws IllegalArgumentException if no metric has the given name
+     */
+    public static EmployeeMetric fromName(final String name) {
+        for (EmployeeMetric metric : values()) {
+            if (metric.name().equalsIgnoreCase(name)) {
+                return metric;
+            }
+        }
+        throw new IllegalArgumentException("Unknown metric '" + name + "', expected one of: salary, age");
+    }
+
+    public String getName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    boolean hasValue(final Employee employee) {
+        return getter.apply(employee) != null;
+    }
+
+    ToIntFunction<Employee> extractor() {
+        return employee -> getter.apply(employee);
+    }
+}
@@ -0,0 +1,131 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.dto.Employee;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable analytics over one roster: sorted salary and age indexes plus salary aggregates per title.
+ * <p>
+ * Built once per roster and then advanced incrementally with {@link #withChanges(Collection, Collection)} as
+ * employees are created and deleted.
+ */
+public final class EmployeeStats {
+
+    private final SortedIntIndex salaries;
+
+    private final SortedIntIndex ages;
+
+    private final Map<String, TitleSalaryStats> titles;
+
+    private EmployeeStats(
+            final SortedIntIndex salaries, final SortedIntIndex ages, final Map<String, TitleSalaryStats> titles) {
+        this.salaries = salaries;
+        this.ages = ages;
+        this.titles = titles;
+    }
+
+    /**
+     * Builds the analytics for a roster.
+     *
+     * @param roster the employees to index
+     * @return the analytics
+     */
+    public static EmployeeStats of(final List<Employee> roster) {
+        // Two passes so that every title's salaries are sorted once instead of inserted one by one
+        Map<String, int[]> counts = new HashMap<>();
+        for (Employee employee : roster) {
+            if (hasTitleSalary(employee)) {
+                counts.computeIfAbsent(employee.getTitle(), title -> new int[1])[0]++;
+            }
+        }
+        Map<String, int[]> salariesByTitle = new HashMap<>();
+        for (Employee employee : roster) {
+            if (hasTitleSalary(employee)) {
+                int[] salaries =
+                        salariesByTitle.computeIfAbsent(employee.getTitle(), title -> new int[counts.get(title)[0]]);
+                salaries[--counts.get(employee.getTitle())[0]] = employee.getSalary();
+            }
+        }
+        Map<String, TitleSalaryStats> titles = new HashMap<>();
+        salariesByTitle.forEach((title, salaries) -> titles.put(title, TitleSalaryStats.of(title, salaries)));
+
+        return new EmployeeStats(
+                SortedIntIndex.of(EmployeeMetric.SALARY, roster),
+                SortedIntIndex.of(EmployeeMetric.AGE, roster),
+                Collections.unmodifiableMap(titles));
+    }
+
+    /**
+     * @param metric the metric to look up
+     * @return the sorted index for the metric
+     */
+    public SortedIntIndex index(final EmployeeMetric metric) {
+        return metric == EmployeeMetric.SALARY ? salaries : ages;
+    }
+
+    /**
+     * @return salary aggregates keyed by title
+     */
+    public Map<String, TitleSalaryStats> titles() {
+        return titles;
+    }
+
+    /**
+     * @param title the exact title
+     * @return the salary aggregates of the title, if any employee holds it
+     */
+    public Optional<TitleSalaryStats> title(final String title) {
+        return Optional.ofNullable(titles.get(title));
+    }
+
+    /**
+     * Applies roster changes without rebuilding the indexes.
+     *
+     * @param added employees that joined the roster
+     * @param removed employees that left the roster
+     * @return the updated analytics
+     */
+    public EmployeeStats withChanges(final Collection<Employee> added, final Collection<Employee> removed) {
+        SortedIntIndex newSalaries = salaries;
+        SortedIntIndex newAges = ages;
+        Map<String, TitleSalaryStats> newTitles = new HashMap<>(titles);
+        for (Employee employee : removed) {
+            newSalaries = newSalaries.withRemoved(employee);
+            newAges = newAges.withRemoved(employee);
+            removeFromTitles(newTitles, employee);
+        }
+        for (Employee employee : added) {
+            newSalaries = newSalaries.withAdded(employee);
+            newAges = newAges.withAdded(employee);
+            addToTitles(newTitles, employee);
+        }
+        return new EmployeeStats(newSalaries, newAges, Collections.unmodifiableMap(newTitles));
+    }
+
+    private static boolean hasTitleSalary(final Employee employee) {
+        return employee != null && employee.getTitle() != null && employee.getSalary() != null;
+    }
+
+    private static void addToTitles(final Map<String, TitleSalaryStats> titles, final Employee employee) {
+        if (!hasTitleSalary(employee)) {
+            return;
+        }
+        titles.compute(employee.getTitle(), (title, stats) -> (stats == null ? TitleSalaryStats.empty(title) : stats)
+                .withAdded(employee.getSalary()));
+    }
+
+    private static void removeFromTitles(final Map<String, TitleSalaryStats> titles, final Employee employee) {
+        if (!hasTitleSalary(employee)) {
+            return;
+        }
+        titles.computeIfPresent(employee.getTitle(), (title, stats) -> {
+            TitleSalaryStats updated = stats.withRemoved(employee.getSalary());
+            return updated.isEmpty() ? null : updated;
+        });
+    }
+}
@@ -0,0 +1,184 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.dto.Employee;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable typo-tolerant index over the tokens of employee names.
+ * <p>
+ * The distinct name tokens are kept in a BK-tree keyed by Levenshtein distance. By the triangle inequality, a
+ * subtree whose edge distance differs from the query's distance to its parent by more than the allowed edit
+ * distance cannot contain a match, so a lookup only computes distances along the surviving branches rather than
+ * against every token.
+ */
+public final class FuzzyNameIndex {
+
+    private final Employee[] employees;
+
+    private final Node root;
+
+    private FuzzyNameIndex(final Employee[] employees, final Node root) {
+        this.employees = employees;
+        this.root = root;
+    }
+
+    /**
+     * Builds an index over the name tokens of the given employees, split as in {@link NameTrie}.
+     *
+     * @param roster the employees to index
+     * @return the index
+     */
+    public static FuzzyNameIndex of(final List<Employee> roster) {
+        Employee[] employees =
+                roster.stream().filter(employee -> employee.getName() != null).toArray(Employee[]::new);
+
+        Map<String, List<Integer>> postings = new LinkedHashMap<>();
+        for (int ordinal = 0; ordinal < employees.length; ordinal++) {
+            for (String token : NameTrie.tokenize(employees[ordinal].getName())) {
+                List<Integer> ordinals = postings.computeIfAbsent(token, ignored -> new ArrayList<>());
+                if (ordinals.isEmpty() || ordinals.get(ordinals.size() - 1) != ordinal) {
+                    ordinals.add(ordinal);
+                }
+            }
+        }
+
+        Node root = null;
+        for (Map.Entry<String, List<Integer>> entry : postings.entrySet()) {
+            Node node = new Node(
+                    entry.getKey(),
+                    entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+            if (root == null) {
+                root = node;
+            } else {
+                root.insert(node);
+            }
+        }
+        return new FuzzyNameIndex(employees, root);
+    }
+
+    /**
+     * Finds employees whose name contains, for every word of the query, a word within the given edit distance.
+     *
+     * @param query the words to look for, matched case-insensitively
+     * @param maxDistance the most insertions, deletions and substitutions allowed per word
+     * @return the matching employees, closest total distance first and in roster order within a distance
+     */
+    public List<Employee> search(final String query, final int maxDistance) {
+        List<String> queryTokens = NameTrie.tokenize(query);
+        if (queryTokens.isEmpty() || root == null) {
+            return List.of();
+        }
+
+        int[] matchedTokens = new int[employees.length];
+        int[] totalDistance = new int[employees.length];
+        int[] best = new int[employees.length];
+        for (String queryToken : queryTokens) {
+            Arrays.fill(best, -1);
+            collect(queryToken, maxDistance, best);
+            for (int ordinal = 0; ordinal < employees.length; ordinal++) {
+                if (best[ordinal] >= 0) {
+                    matchedTokens[ordinal]++;
+                    totalDistance[ordinal] += best[ordinal];
+                }
+            }
+        }
+
+        List<Integer> matches = new ArrayList<>();
+        for (int ordinal = 0; ordinal < employees.length; ordinal++) {
+            if (matchedTokens[ordinal] == queryTokens.size()) {
+                matches.add(ordinal);
+            }
+        }
+        matches.sort((left, right) -> totalDistance[left] != totalDistance[right]
+                ? Integer.compare(totalDistance[left], totalDistance[right])
+                : Integer.compare(left, right));
+        return matches.stream().map(ordinal -> employees[ordinal]).toList();
+    }
+
+    /**
+     * Records, per employee, the smallest distance between the query token and any of its name tokens.
+     */
+    private void collect(final String queryToken, final int maxDistance, final int[] best) {
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(queryToken, node.token);
+            if (distance <= maxDistance) {
+                for (int ordinal : node.ordinals) {
+                    if (best[ordinal] < 0 || distance < best[ordinal]) {
+                        best[ordinal] = distance;
+                    }
+                }
+            }
+            int from = Math.max(1, distance - maxDistance);
+            int to = Math.min(node.children.length - 1, distance + maxDistance);
+            for (int edge = from; edge <= to; edge++) {
+                if (node.children[edge] != null) {
+                    pending.push(node.children[edge]);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the Levenshtein distance between the two strings
+     */
+    static int distance(final String left, final String right) {
+        int[] previous = new int[right.length() + 1];
+        int[] current = new int[right.length() + 1];
+        for (int j = 0; j <= right.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= left.length(); i++) {
+            current[0] = i;
+            char leftChar = left.charAt(i - 1);
+            for (int j = 1; j <= right.length(); j++) {
+                int substitution = previous[j - 1] + (leftChar == right.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[right.length()];
+    }
+
+    private static final class Node {
+
+        private final String token;
+
+        private final int[] ordinals;
+
+        /**
+         * Children indexed by their distance to this node's token; index 0 is never used.
+         */
+        private Node[] children = new Node[0];
+
+        Node(final String token, final int[] ordinals) {
+            this.token = token;
+            this.ordinals = ordinals;
+        }
+
+        void insert(final Node node) {
+            Node parent = this;
+            while (true) {
+                int distance = distance(parent.token, node.token);
+                if (distance >= parent.children.length) {
+                    parent.children = Arrays.copyOf(parent.children, distance + 1);
+                }
+                if (parent.children[distance] == null) {
+                    parent.children[distance] = node;
+                    return;
+                }
+                parent = parent.children[distance];
+            }
+        }
+    }
+}
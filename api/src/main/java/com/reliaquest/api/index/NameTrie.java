@@ -0,0 +1,290 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.dto.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Immutable prefix index over the tokens of employee names, for type-ahead.
+ * <p>
+ * The trie is stored in flat primitive arrays: the children of a node occupy a contiguous id range sorted by
+ * label, so following a character is a binary search, and every node carries the ordinals of its best-ranked
+ * employees. Employees are numbered in rank order, so a node's top-K is simply its K smallest ordinals. A lookup
+ * walks one node per prefix character and reads the precomputed top-K; it allocates nothing.
+ */
+public final class NameTrie {
+
+    private static final int ROOT = 0;
+
+    private final Employee[] employees;
+
+    private final char[] labels;
+
+    private final int[] childStart;
+
+    private final int[] childCount;
+
+    private final int[] topStart;
+
+    private final int[] topCount;
+
+    private final int[] top;
+
+    private NameTrie(
+            final Employee[] employees,
+            final char[] labels,
+            final int[] childStart,
+            final int[] childCount,
+            final int[] topStart,
+            final int[] topCount,
+            final int[] top) {
+        this.employees = employees;
+        this.labels = labels;
+        this.childStart = childStart;
+        this.childCount = childCount;
+        this.topStart = topStart;
+        this.topCount = topCount;
+        this.top = top;
+    }
+
+    /**
+     * Builds a trie over the name tokens of the given employees. Names are split into tokens at every character
+     * that is not a letter or digit, and tokens are matched case-insensitively.
+     *
+     * @param roster the employees to index
+     * @param rankBy the attribute to rank matches by, highest first; employees without a value rank last
+     * @param maxResults how many employees each node keeps
+     * @return the trie
+     */
+    public static NameTrie of(final List<Employee> roster, final EmployeeMetric rankBy, final int maxResults) {
+        ToIntFunction<Employee> extractor = rankBy.extractor();
+        Employee[] ranked = roster.stream()
+                .filter(employee -> employee.getName() != null)
+                .sorted(Comparator.comparing((Employee employee) -> !rankBy.hasValue(employee))
+                        .thenComparing(
+                                employee -> rankBy.hasValue(employee) ? extractor.applyAsInt(employee) : 0,
+                                Comparator.reverseOrder()))
+                .toArray(Employee[]::new);
+
+        List<Posting> postings = new ArrayList<>();
+        for (int ordinal = 0; ordinal < ranked.length; ordinal++) {
+            for (String token : tokenize(ranked[ordinal].getName())) {
+                postings.add(new Posting(token, ordinal));
+            }
+        }
+        postings.sort(Comparator.comparing(Posting::token).thenComparingInt(Posting::ordinal));
+
+        return new Builder(postings, maxResults).build(ranked);
+    }
+
+    /**
+     * Finds the node reached by a prefix.
+     *
+     * @param prefix the prefix, matched case-insensitively
+     * @return the node, or -1 if no token starts with the prefix
+     */
+    public int find(final CharSequence prefix) {
+        int node = ROOT;
+        for (int i = 0; i < prefix.length() && node >= 0; i++) {
+            node = child(node, Character.toLowerCase(prefix.charAt(i)));
+        }
+        return node;
+    }
+
+    /**
+     * @return how many ranked employees the node holds
+     */
+    public int size(final int node) {
+        return topCount[node];
+    }
+
+    /**
+     * @return the employee at the given rank among those matching the node, best first
+     */
+    public Employee get(final int node, final int index) {
+        return employees[top[topStart[node] + index]];
+    }
+
+    /**
+     * Returns the names of the best-ranked employees with a name token starting with the prefix.
+     *
+     * @param prefix the prefix, matched case-insensitively
+     * @param limit the maximum number of names
+     * @return up to {@code limit} names, best ranked first
+     */
+    public List<String> complete(final CharSequence prefix, final int limit) {
+        int node = find(prefix);
+        if (node < 0) {
+            return List.of();
+        }
+        int count = Math.min(limit, size(node));
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(get(node, i).getName());
+        }
+        return names;
+    }
+
+    private int child(final int node, final char label) {
+        int low = childStart[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midLabel = labels[mid];
+            if (midLabel < label) {
+                low = mid + 1;
+            } else if (midLabel > label) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    static List<String> tokenize(final String name) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i <= name.length(); i++) {
+            char c = i < name.length() ? name.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+            } else if (!token.isEmpty()) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+        return tokens;
+    }
+
+    private record Posting(String token, int ordinal) {}
+
+    /**
+     * Builds the trie depth-first over the sorted postings: the postings under a node form a contiguous range that
+     * shares the node's prefix, and the node's children are allocated as one block before descending into them.
+     */
+    private static final class Builder {
+
+        private final List<Posting> postings;
+
+        private final int maxResults;
+
+        private final char[] labels;
+
+        private final int[] childStart;
+
+        private final int[] childCount;
+
+        private final int[] topStart;
+
+        private final int[] topCount;
+
+        private int[] top = new int[64];
+
+        private int topSize;
+
+        private int nodeCount = 1;
+
+        Builder(final List<Posting> postings, final int maxResults) {
+            this.postings = postings;
+            this.maxResults = maxResults;
+            int maxNodes = 1;
+            for (Posting posting : postings) {
+                maxNodes += posting.token().length();
+            }
+            this.labels = new char[maxNodes];
+            this.childStart = new int[maxNodes];
+            this.childCount = new int[maxNodes];
+            this.topStart = new int[maxNodes];
+            this.topCount = new int[maxNodes];
+        }
+
+        NameTrie build(final Employee[] ranked) {
+            build(ROOT, 0, postings.size(), 0);
+            return new NameTrie(
+                    ranked,
+                    Arrays.copyOf(labels, nodeCount),
+                    Arrays.copyOf(childStart, nodeCount),
+                    Arrays.copyOf(childCount, nodeCount),
+                    Arrays.copyOf(topStart, nodeCount),
+                    Arrays.copyOf(topCount, nodeCount),
+                    Arrays.copyOf(top, topSize));
+        }
+
+        private void build(final int node, final int from, final int to, final int depth) {
+            int first = from;
+            while (first < to && postings.get(first).token().length() == depth) {
+                first++;
+            }
+
+            int groups = 0;
+            for (int i = first; i < to; i++) {
+                if (i == first || charAt(i, depth) != charAt(i - 1, depth)) {
+                    groups++;
+                }
+            }
+            int firstChild = nodeCount;
+            childStart[node] = firstChild;
+            childCount[node] = groups;
+            nodeCount += groups;
+
+            int child = firstChild;
+            int groupStart = first;
+            for (int i = first + 1; i <= to; i++) {
+                if (i == to || charAt(i, depth) != charAt(groupStart, depth)) {
+                    labels[child] = charAt(groupStart, depth);
+                    build(child, groupStart, i, depth + 1);
+                    child++;
+                    groupStart = i;
+                }
+            }
+
+            collectTop(node, from, first, firstChild, groups);
+        }
+
+        /**
+         * The best employees of a node are the best of its own terminal postings and of its children's top lists.
+         */
+        private void collectTop(
+                final int node, final int from, final int terminalEnd, final int firstChild, final int children) {
+            int candidateCount = terminalEnd - from;
+            for (int child = firstChild; child < firstChild + children; child++) {
+                candidateCount += topCount[child];
+            }
+            int[] candidates = new int[candidateCount];
+            int size = 0;
+            for (int i = from; i < terminalEnd; i++) {
+                candidates[size++] = postings.get(i).ordinal();
+            }
+            for (int child = firstChild; child < firstChild + children; child++) {
+                System.arraycopy(top, topStart[child], candidates, size, topCount[child]);
+                size += topCount[child];
+            }
+            Arrays.sort(candidates);
+
+            topStart[node] = topSize;
+            int kept = 0;
+            for (int i = 0; i < candidates.length && kept < maxResults; i++) {
+                if (i == 0 || candidates[i] != candidates[i - 1]) {
+                    appendTop(candidates[i]);
+                    kept++;
+                }
+            }
+            topCount[node] = kept;
+        }
+
+        private void appendTop(final int ordinal) {
+            if (topSize == top.length) {
+                top = Arrays.copyOf(top, top.length * 2);
+            }
+            top[topSize++] = ordinal;
+        }
+
+        private char charAt(final int posting, final int depth) {
+            return postings.get(posting).token().charAt(depth);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.dto.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * Range-bucketed bitmaps over one integer employee attribute.
+ * <p>
+ * Each bucket covers {@code bucketWidth} consecutive values and holds the roster positions whose value falls into
+ * it. A range query ORs the buckets that lie entirely inside the range and checks the exact values of at most two
+ * edge buckets, so its cost depends on the number of buckets rather than the number of employees.
+ */
+final class RangeBitmapIndex {
+
+    private final int bucketWidth;
+
+    private final int[] values;
+
+    private final NavigableMap<Integer, RoaringBitmap> buckets;
+
+    private RangeBitmapIndex(
+            final int bucketWidth, final int[] values, final NavigableMap<Integer, RoaringBitmap> buckets) {
+        this.bucketWidth = bucketWidth;
+        this.values = values;
+        this.buckets = buckets;
+    }
+
+    static RangeBitmapIndex of(final EmployeeMetric metric, final int bucketWidth, final List<Employee> roster) {
+        ToIntFunction<Employee> extractor = metric.extractor();
+        int[] values = new int[roster.size()];
+        NavigableMap<Integer, RoaringBitmap> buckets = new TreeMap<>();
+        for (int position = 0; position < roster.size(); position++) {
+            Employee employee = roster.get(position);
+            if (employee != null && metric.hasValue(employee)) {
+                int value = extractor.applyAsInt(employee);
+                values[position] = value;
+                buckets.computeIfAbsent(bucketOf(value, bucketWidth), bucket -> new RoaringBitmap())
+                        .add(position);
+            }
+        }
+        buckets.values().forEach(RoaringBitmap::runOptimize);
+        return new RangeBitmapIndex(bucketWidth, values, buckets);
+    }
+
+    /**
+     * @param min the lower bound, inclusive
+     * @param max the upper bound, inclusive
+     * @return a new bitmap of the positions whose value lies between {@code min} and {@code max}
+     */
+    RoaringBitmap between(final int min, final int max) {
+        if (min > max) {
+            return new RoaringBitmap();
+        }
+
+        List<RoaringBitmap> whole = new ArrayList<>();
+        RoaringBitmap partial = new RoaringBitmap();
+        for (Map.Entry<Integer, RoaringBitmap> bucket : buckets.subMap(
+                        bucketOf(min, bucketWidth), true, bucketOf(max, bucketWidth), true)
+                .entrySet()) {
+            long from = (long) bucket.getKey() * bucketWidth;
+            long to = from + bucketWidth - 1;
+            if (from >= min && to <= max) {
+                whole.add(bucket.getValue());
+            } else {
+                bucket.getValue().forEach((int position) -> {
+                    if (values[position] >= min && values[position] <= max) {
+                        partial.add(position);
+                    }
+                });
+            }
+        }
+        whole.add(partial);
+        return FastAggregation.or(whole.iterator());
+    }
+
+    private static int bucketOf(final int value, final int bucketWidth) {
+        return Math.floorDiv(value, bucketWidth);
+    }
+}
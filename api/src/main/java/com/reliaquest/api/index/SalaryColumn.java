@@ -0,0 +1,135 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.dto.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * Immutable primitive column of employee salaries, for aggregates that scan the whole roster.
+ * <p>
+ * Salaries are copied once into an {@code int[]} alongside the employees they belong to, so an aggregate reads a
+ * dense array instead of unboxing one {@link Integer} per employee. The loops themselves run on
+ * {@link SalaryKernels#best()}, which uses SIMD instructions when the vector kernels are built with
+ * {@code -PvectorKernels}. Employees without a salary are left out of the column.
+ */
+public final class SalaryColumn {
+
+    private final int[] salaries;
+
+    private final Employee[] employees;
+
+    private final SalaryKernels kernels;
+
+    SalaryColumn(final int[] salaries, final Employee[] employees, final SalaryKernels kernels) {
+        this.salaries = salaries;
+        this.employees = employees;
+        this.kernels = kernels;
+    }
+
+    /**
+     * Builds a column over the salaries of the given employees.
+     *
+     * @param roster the employees to read
+     * @return the column
+     */
+    public static SalaryColumn of(final List<Employee> roster) {
+        return of(roster, SalaryKernels.best());
+    }
+
+    static SalaryColumn of(final List<Employee> roster, final SalaryKernels kernels) {
+        Employee[] employees =
+                roster.stream().filter(employee -> employee.getSalary() != null).toArray(Employee[]::new);
+        int[] salaries = new int[employees.length];
+        for (int i = 0; i < employees.length; i++) {
+            salaries[i] = employees[i].getSalary();
+        }
+        return new SalaryColumn(salaries, employees, kernels);
+    }
+
+    /**
+     * @return the number of employees with a salary
+     */
+    public int size() {
+        return salaries.length;
+    }
+
+    /**
+     * @return the highest salary, or empty if the column is empty
+     */
+    public OptionalInt max() {
+        return salaries.length == 0 ? OptionalInt.empty() : OptionalInt.of(kernels.max(salaries));
+    }
+
+    /**
+     * @return the lowest salary, or empty if the column is empty
+     */
+    public OptionalInt min() {
+        return salaries.length == 0 ? OptionalInt.empty() : OptionalInt.of(kernels.min(salaries));
+    }
+
+    /**
+     * @return the total of all salaries
+     */
+    public long sum() {
+        return kernels.sum(salaries);
+    }
+
+    /**
+     * @return how many salaries lie between {@code min} and {@code max}, inclusive
+     */
+    public int countInRange(final int min, final int max) {
+        return min > max ? 0 : kernels.countInRange(salaries, min, max);
+    }
+
+    /**
+     * Returns the best-paid employees.
+     * <p>
+     * The first {@code k} employees seed a sorted candidate list; after that, the scan only stops at salaries
+     * strictly greater than the lowest candidate, skipping everything else a vector at a time. Once the list has
+     * filled with high salaries, almost the whole column is skipped this way.
+     *
+     * @param k the maximum number of employees
+     * @return up to {@code k} employees, highest salary first and in roster order within a salary
+     */
+    public List<Employee> topK(final int k) {
+        int capacity = Math.min(k, salaries.length);
+        if (capacity <= 0) {
+            return List.of();
+        }
+
+        int[] topSalaries = new int[capacity];
+        int[] topOrdinals = new int[capacity];
+        int size = 0;
+        int i = 0;
+        for (; i < salaries.length && size < capacity; i++) {
+            insert(topSalaries, topOrdinals, size++, i);
+        }
+        while ((i = kernels.nextAbove(salaries, i, topSalaries[capacity - 1])) < salaries.length) {
+            insert(topSalaries, topOrdinals, capacity - 1, i);
+            i++;
+        }
+
+        List<Employee> top = new ArrayList<>(size);
+        for (int rank = 0; rank < size; rank++) {
+            top.add(employees[topOrdinals[rank]]);
+        }
+        return top;
+    }
+
+    /**
+     * Places an ordinal after every candidate with the same or a higher salary, dropping the candidate at
+     * {@code last}. Ordinals arrive in roster order, so ties stay in roster order.
+     */
+    private void insert(final int[] topSalaries, final int[] topOrdinals, final int last, final int ordinal) {
+        int salary = salaries[ordinal];
+        int position = last;
+        while (position > 0 && topSalaries[position - 1] < salary) {
+            topSalaries[position] = topSalaries[position - 1];
+            topOrdinals[position] = topOrdinals[position - 1];
+            position--;
+        }
+        topSalaries[position] = salary;
+        topOrdinals[position] = ordinal;
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.api.index;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loops over a primitive salary column. The SIMD implementation lives in the {@code vector} source set, which is
+ * only built with {@code -PvectorKernels}, and needs the incubating {@code jdk.incubator.vector} module, which the
+ * JVM only resolves when started with {@code --add-modules jdk.incubator.vector}; without either the scalar
+ * implementation is used.
+ */
+interface SalaryKernels {
+
+    /**
+     * @return the largest value; {@code values} must not be empty
+     */
+    int max(int[] values);
+
+    /**
+     * @return the smallest value; {@code values} must not be empty
+     */
+    int min(int[] values);
+
+    long sum(int[] values);
+
+    /**
+     * @return how many values lie between {@code min} and {@code max}, inclusive
+     */
+    int countInRange(int[] values, int min, int max);
+
+    /**
+     * @return the index of the first value at or after {@code from} that is greater than {@code threshold}, or
+     *     {@code values.length} if there is none
+     */
+    int nextAbove(int[] values, int from, int threshold);
+
+    /**
+     * @return the SIMD kernels if the vector module is available, the scalar kernels otherwise
+     */
+    static SalaryKernels best() {
+        return Holder.BEST;
+    }
+
+    final class Holder {
+
+        private static final Logger logger = LoggerFactory.getLogger(SalaryKernels.class);
+
+        static final SalaryKernels BEST = load();
+
+        private Holder() {}
+
+        private static SalaryKernels load() {
+            if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+                try {
+                    // Loaded reflectively so that this class links without the vector module
+                    SalaryKernels kernels =
+                            (SalaryKernels) Class.forName("com.reliaquest.api.index.VectorSalaryKernels")
+                                    .getDeclaredConstructor()
+                                    .newInstance();
+                    logger.info("Salary aggregation uses SIMD kernels: {}", kernels);
+                    return kernels;
+                } catch (ReflectiveOperationException | LinkageError e) {
+                    logger.warn("Falling back to scalar salary aggregation: {}", e.toString());
+                }
+            } else {
+                logger.info("jdk.incubator.vector is not enabled; salary aggregation uses scalar kernels");
+            }
+            return new ScalarSalaryKernels();
+        }
+    }
+}
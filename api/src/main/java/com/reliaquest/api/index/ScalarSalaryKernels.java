@@ -0,0 +1,60 @@
+package com.reliaquest.api.index;
+
+/**
+ * Plain loops over the salary column, used when the vector module is not available.
+ */
+final class ScalarSalaryKernels implements SalaryKernels {
+
+    @Override
+    public int max(final int[] values) {
+        int max = values[0];
+        for (int i = 1; i < values.length; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public int min(final int[] values) {
+        int min = values[0];
+        for (int i = 1; i < values.length; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public long sum(final int[] values) {
+        long sum = 0;
+        for (int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Override
+    public int countInRange(final int[] values, final int min, final int max) {
+        int count = 0;
+        for (int value : values) {
+            if (value >= min && value <= max) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int nextAbove(final int[] values, final int from, final int threshold) {
+        for (int i = from; i < values.length; i++) {
+            if (values[i] > threshold) {
+                return i;
+            }
+        }
+        return values.length;
+    }
+
+    @Override
+    public String toString() {
+        return "scalar";
+    }
+}
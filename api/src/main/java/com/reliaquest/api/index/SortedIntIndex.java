@@ -0,0 +1,222 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.dto.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/**
+ * Immutable index of one integer employee attribute, kept as a sorted primitive {@code int[]}.
+ * <p>
+ * Order statistics are answered with array access and range queries with binary search, so every query is
+ * O(log n) or better. A parallel array keeps the employee of each position, which makes top-N lookups O(N).
+ * Updates return a new index and cost one array copy.
+ */
+public final class SortedIntIndex {
+
+    private final EmployeeMetric metric;
+
+    private final int[] values;
+
+    private final Employee[] employees;
+
+    private SortedIntIndex(final EmployeeMetric metric, final int[] values, final Employee[] employees) {
+        this.metric = metric;
+        this.values = values;
+        this.employees = employees;
+    }
+
+    /**
+     * Builds an index over the given employees. Employees without a value for the metric are left out.
+     *
+     * @param metric the attribute to index
+     * @param roster the employees to index
+     * @return the index
+     */
+    public static SortedIntIndex of(final EmployeeMetric metric, final List<Employee> roster) {
+        ToIntFunction<Employee> extractor = metric.extractor();
+        long[] packed = new long[roster.size()];
+        int size = 0;
+        for (int position = 0; position < roster.size(); position++) {
+            Employee employee = roster.get(position);
+            if (employee != null && metric.hasValue(employee)) {
+                // Value in the high bits, position in the low bits: one primitive sort orders both
+                packed[size++] = ((long) extractor.applyAsInt(employee) << 32) | position;
+            }
+        }
+        Arrays.sort(packed, 0, size);
+
+        int[] values = new int[size];
+        Employee[] employees = new Employee[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = (int) (packed[i] >> 32);
+            employees[i] = roster.get((int) packed[i]);
+        }
+        return new SortedIntIndex(metric, values, employees);
+    }
+
+    public EmployeeMetric getMetric() {
+        return metric;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    /**
+     * @return the smallest value
+     * @throws IllegalStateException if the index is empty
+     */
+    public int min() {
+        requireNotEmpty();
+        return values[0];
+    }
+
+    /**
+     * @return the largest value
+     * @throws IllegalStateException if the index is empty
+     */
+    public int max() {
+        requireNotEmpty();
+        return values[values.length - 1];
+    }
+
+    /**
+     * Returns the nearest-rank percentile.
+     *
+     * @param percentile the percentile, greater than 0 and at most 100
+     * @return the smallest value that is greater than or equal to {@code percentile} percent of all values
+     * @throws IllegalStateException if the index is empty
+     */
+    public int percentile(final double percentile) {
+        requireNotEmpty();
+        if (!(percentile > 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be greater than 0 and at most 100");
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * values.length);
+        return values[Math.max(0, Math.min(values.length, rank) - 1)];
+    }
+
+    /**
+     * Counts the values within an inclusive range.
+     *
+     * @param min the lower bound, inclusive
+     * @param max the upper bound, inclusive
+     * @return the number of values between {@code min} and {@code max}
+     */
+    public int countBetween(final int min, final int max) {
+        if (min > max) {
+            return 0;
+        }
+        return countAtMost(max) - countLessThan(min);
+    }
+
+    /**
+     * @param value the exclusive upper bound
+     * @return the number of values strictly less than {@code value}
+     */
+    public int countLessThan(final int value) {
+        return lowerBound(value);
+    }
+
+    /**
+     * @param value the inclusive upper bound
+     * @return the number of values less than or equal to {@code value}
+     */
+    public int countAtMost(final int value) {
+        return value == Integer.MAX_VALUE ? values.length : lowerBound(value + 1);
+    }
+
+    /**
+     * Returns the employees with the highest values, highest first. Ties keep roster order.
+     *
+     * @param n the maximum number of employees to return
+     * @return up to {@code n} employees
+     */
+    public List<Employee> top(final int n) {
+        int count = Math.max(0, Math.min(n, values.length));
+        List<Employee> top = new ArrayList<>(count);
+        int end = values.length;
+        while (top.size() < count) {
+            // Walk back one run of equal values at a time and emit it in roster order
+            int start = lowerBound(values[end - 1]);
+            for (int i = start; i < end && top.size() < count; i++) {
+                top.add(employees[i]);
+            }
+            end = start;
+        }
+        return top;
+    }
+
+    /**
+     * @param employee the employee to add
+     * @return a new index that also contains the employee, or this index if the employee has no value
+     */
+    public SortedIntIndex withAdded(final Employee employee) {
+        if (!metric.hasValue(employee)) {
+            return this;
+        }
+        int value = metric.extractor().applyAsInt(employee);
+        int insertAt = countAtMost(value);
+
+        int[] newValues = new int[values.length + 1];
+        Employee[] newEmployees = new Employee[employees.length + 1];
+        System.arraycopy(values, 0, newValues, 0, insertAt);
+        System.arraycopy(employees, 0, newEmployees, 0, insertAt);
+        newValues[insertAt] = value;
+        newEmployees[insertAt] = employee;
+        System.arraycopy(values, insertAt, newValues, insertAt + 1, values.length - insertAt);
+        System.arraycopy(employees, insertAt, newEmployees, insertAt + 1, employees.length - insertAt);
+        return new SortedIntIndex(metric, newValues, newEmployees);
+    }
+
+    /**
+     * @param employee the employee to remove, matched by id
+     * @return a new index without the employee, or this index if it is not indexed
+     */
+    public SortedIntIndex withRemoved(final Employee employee) {
+        if (!metric.hasValue(employee)) {
+            return this;
+        }
+        int value = metric.extractor().applyAsInt(employee);
+        int end = countAtMost(value);
+        for (int i = lowerBound(value); i < end; i++) {
+            if (Objects.equals(employees[i].getId(), employee.getId())) {
+                int[] newValues = new int[values.length - 1];
+                Employee[] newEmployees = new Employee[employees.length - 1];
+                System.arraycopy(values, 0, newValues, 0, i);
+                System.arraycopy(employees, 0, newEmployees, 0, i);
+                System.arraycopy(values, i + 1, newValues, i, values.length - i - 1);
+                System.arraycopy(employees, i + 1, newEmployees, i, employees.length - i - 1);
+                return new SortedIntIndex(metric, newValues, newEmployees);
+            }
+        }
+        return this;
+    }
+
+    private int lowerBound(final int value) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void requireNotEmpty() {
+        if (values.length == 0) {
+            throw new IllegalStateException("Index is empty");
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.reliaquest.api.index;
+
+import java.util.Arrays;
+
+/**
+ * Immutable salary aggregates for one job title.
+ * <p>
+ * Salaries are kept sorted so that minimum and maximum stay exact when employees are removed. Count, sum and
+ * extremes are O(1) to read.
+ */
+public final class TitleSalaryStats {
+
+    private final String title;
+
+    private final int[] salaries;
+
+    private final long sum;
+
+    private TitleSalaryStats(final String title, final int[] salaries, final long sum) {
+        this.title = title;
+        this.salaries = salaries;
+        this.sum = sum;
+    }
+
+    static TitleSalaryStats empty(final String title) {
+        return new TitleSalaryStats(title, new int[0], 0);
+    }
+
+    static TitleSalaryStats of(final String title, final int[] salaries) {
+        Arrays.sort(salaries);
+        long sum = 0;
+        for (int salary : salaries) {
+            sum += salary;
+        }
+        return new TitleSalaryStats(title, salaries, sum);
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getCount() {
+        return salaries.length;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public int getMin() {
+        return salaries[0];
+    }
+
+    public int getMax() {
+        return salaries[salaries.length - 1];
+    }
+
+    public double getAverage() {
+        return (double) sum / salaries.length;
+    }
+
+    public boolean isEmpty() {
+        return salaries.length == 0;
+    }
+
+    TitleSalaryStats withAdded(final int salary) {
+        int insertAt = Arrays.binarySearch(salaries, salary);
+        if (insertAt < 0) {
+            insertAt = -insertAt - 1;
+        }
+        int[] newSalaries = new int[salaries.length + 1];
+        System.arraycopy(salaries, 0, newSalaries, 0, insertAt);
+        newSalaries[insertAt] = salary;
+        System.arraycopy(salaries, insertAt, newSalaries, insertAt + 1, salaries.length - insertAt);
+        return new TitleSalaryStats(title, newSalaries, sum + salary);
+    }
+
+    TitleSalaryStats withRemoved(final int salary) {
+        int removeAt = Arrays.binarySearch(salaries, salary);
+        if (removeAt < 0) {
+            return this;
+        }
+        int[] newSalaries = new int[salaries.length - 1];
+        System.arraycopy(salaries, 0, newSalaries, 0, removeAt);
+        System.arraycopy(salaries, removeAt + 1, newSalaries, removeAt, salaries.length - removeAt - 1);
+        return new TitleSalaryStats(title, newSalaries, sum - salary);
+    }
+}
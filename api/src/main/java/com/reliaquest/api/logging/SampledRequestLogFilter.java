@@ -0,0 +1,110 @@
+package com.reliaquest.api.logging;
+
+import com.reliaquest.api.timing.ServerTimingFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Writes one access log line for a sample of requests, in place of the per-call INFO logging of the controllers and
+ * services.
+ * <p>
+ * Failed requests (status 400 and above, or an exception) and requests slower than
+ * {@code api.logging.requests.slow-threshold} are always logged; other requests are logged with probability
+ * {@code api.logging.requests.sample-rate}. The line carries the {@code Server-Timing} breakdown, so the filter wraps
+ * {@link ServerTimingFilter}.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class SampledRequestLogFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SampledRequestLogFilter.class);
+
+    private final boolean enabled;
+
+    private final double sampleRate;
+
+    private final long slowThresholdNanos;
+
+    public SampledRequestLogFilter(
+            @Value("${api.logging.requests.enabled:true}") final boolean enabled,
+            @Value("${api.logging.requests.sample-rate:0.01}") final double sampleRate,
+            @Value("${api.logging.requests.slow-threshold:500ms}") final Duration slowThreshold) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("api.logging.requests.sample-rate must be between 0 and 1");
+        }
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            int status = failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            if (shouldLog(status, elapsed, ThreadLocalRandom.current().nextDouble())) {
+                log(request, response, status, elapsed, failure);
+            }
+        }
+    }
+
+    /**
+     * @param sample a uniformly distributed number in [0, 1) deciding whether an ordinary request is logged
+     */
+    boolean shouldLog(final int status, final long elapsedNanos, final double sample) {
+        return status >= 400 || elapsedNanos >= slowThresholdNanos || sample < sampleRate;
+    }
+
+    private void log(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final int status,
+            final long elapsedNanos,
+            final Throwable failure) {
+        String target = request.getQueryString() == null
+                ? request.getRequestURI()
+                : request.getRequestURI() + "?" + request.getQueryString();
+        String timings = Objects.requireNonNullElse(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER), "");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (status >= 500) {
+            logger.warn(
+                    "{} {} {} {} ms [{}]{}",
+                    request.getMethod(),
+                    target,
+                    status,
+                    elapsedMillis,
+                    timings,
+                    failure == null ? "" : " " + failure);
+        } else {
+            logger.info("{} {} {} {} ms [{}]", request.getMethod(), target, status, elapsedMillis, timings);
+        }
+    }
+}
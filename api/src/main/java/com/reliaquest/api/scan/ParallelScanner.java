@@ -0,0 +1,201 @@
+package com.reliaquest.api.scan;
+
+import com.reliaquest.api.dto.Employee;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Full scans of the roster for queries that no index answers, such as arbitrary predicates.
+ * <p>
+ * Rosters of at least {@code api.scan.sequential-threshold} employees are split into contiguous chunks of
+ * {@code api.scan.chunk-size} that are scanned on a dedicated fork/join pool, so scans neither compete with nor
+ * block the common pool. Each chunk produces its own partial result, which are combined in chunk order; results
+ * are therefore identical to a sequential scan. Smaller rosters are scanned on the calling thread, as the fork
+ * overhead would outweigh the work.
+ */
+@Component
+public class ParallelScanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelScanner.class);
+
+    private final ForkJoinPool pool;
+
+    private final int sequentialThreshold;
+
+    private final int chunkSize;
+
+    public ParallelScanner(
+            @Value("${api.scan.parallelism:0}") final int parallelism,
+            @Value("${api.scan.sequential-threshold:10000}") final int sequentialThreshold,
+            @Value("${api.scan.chunk-size:2048}") final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("api.scan.chunk-size must be positive");
+        }
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pool = new ForkJoinPool(
+                threads,
+                forkJoinPool -> {
+                    ForkJoinWorkerThread thread =
+                            ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                    thread.setName("roster-scan-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                null,
+                false);
+        this.sequentialThreshold = sequentialThreshold;
+        this.chunkSize = chunkSize;
+        logger.debug("Roster scans use {} threads above {} employees", threads, sequentialThreshold);
+    }
+
+    /**
+     * Returns the employees matching a predicate.
+     *
+     * @param roster the employees to scan
+     * @param predicate the condition; evaluated concurrently, so it must be thread-safe
+     * @return the matching employees in roster order
+     */
+    public List<Employee> filter(final List<Employee> roster, final Predicate<? super Employee> predicate) {
+        List<List<Employee>> partials = scan(roster, (employees, from, to, chunk) -> {
+            List<Employee> matches = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                Employee employee = employees.get(i);
+                if (predicate.test(employee)) {
+                    matches.add(employee);
+                }
+            }
+            return matches;
+        });
+        if (partials.size() == 1) {
+            return Collections.unmodifiableList(partials.get(0));
+        }
+
+        int size = 0;
+        for (List<Employee> partial : partials) {
+            size += partial.size();
+        }
+        List<Employee> matches = new ArrayList<>(size);
+        partials.forEach(matches::addAll);
+        return Collections.unmodifiableList(matches);
+    }
+
+    /**
+     * Returns the first employee matching a predicate. Chunks after one that found a match are skipped.
+     *
+     * @param roster the employees to scan
+     * @param predicate the condition; evaluated concurrently, so it must be thread-safe
+     * @return the first matching employee in roster order, or null if none matches
+     */
+    public Employee findFirst(final List<Employee> roster, final Predicate<? super Employee> predicate) {
+        AtomicInteger firstMatchingChunk = new AtomicInteger(Integer.MAX_VALUE);
+        List<Employee> partials = scan(roster, (employees, from, to, chunk) -> {
+            if (chunk > firstMatchingChunk.get()) {
+                return null;
+            }
+            for (int i = from; i < to; i++) {
+                Employee employee = employees.get(i);
+                if (predicate.test(employee)) {
+                    firstMatchingChunk.accumulateAndGet(chunk, Math::min);
+                    return employee;
+                }
+            }
+            return null;
+        });
+        for (Employee partial : partials) {
+            if (partial != null) {
+                return partial;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Applies a scan to every chunk of the roster and returns the partial results in chunk order.
+     */
+    private <R> List<R> scan(final List<Employee> roster, final ChunkScan<R> chunkScan) {
+        List<Employee> employees = roster instanceof RandomAccess ? roster : new ArrayList<>(roster);
+        int size = employees.size();
+        if (size < sequentialThreshold || size <= chunkSize) {
+            List<R> single = new ArrayList<>(1);
+            single.add(chunkScan.scan(employees, 0, size, 0));
+            return single;
+        }
+
+        int chunks = (size + chunkSize - 1) / chunkSize;
+        Object[] partials = new Object[chunks];
+        pool.invoke(new ChunkTask<>(employees, chunkScan, partials, 0, chunks));
+        List<R> results = new ArrayList<>(chunks);
+        for (Object partial : partials) {
+            @SuppressWarnings("unchecked")
+            R result = (R) partial;
+            results.add(result);
+        }
+        return results;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @FunctionalInterface
+    private interface ChunkScan<R> {
+        R scan(List<Employee> employees, int from, int to, int chunk);
+    }
+
+    /**
+     * Splits a range of chunks in halves until a single chunk remains, then scans it.
+     */
+    private final class ChunkTask<R> extends RecursiveAction {
+
+        private final List<Employee> employees;
+
+        private final ChunkScan<R> chunkScan;
+
+        private final Object[] partials;
+
+        private final int fromChunk;
+
+        private final int toChunk;
+
+        ChunkTask(
+                final List<Employee> employees,
+                final ChunkScan<R> chunkScan,
+                final Object[] partials,
+                final int fromChunk,
+                final int toChunk) {
+            this.employees = employees;
+            this.chunkScan = chunkScan;
+            this.partials = partials;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk == 1) {
+                int from = fromChunk * chunkSize;
+                int to = Math.min(from + chunkSize, employees.size());
+                partials[fromChunk] = chunkScan.scan(employees, from, to, fromChunk);
+                return;
+            }
+            int middle = (fromChunk + toChunk) >>> 1;
+            invokeAll(
+                    new ChunkTask<>(employees, chunkScan, partials, fromChunk, middle),
+                    new ChunkTask<>(employees, chunkScan, partials, middle, toChunk));
+        }
+    }
+}
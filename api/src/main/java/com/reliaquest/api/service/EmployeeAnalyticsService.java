@@ -0,0 +1,197 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterIndex;
+import com.reliaquest.api.cache.RosterView;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.HistogramBucket;
+import com.reliaquest.api.dto.TitleStatistics;
+import com.reliaquest.api.index.EmployeeMetric;
+import com.reliaquest.api.index.EmployeeStats;
+import com.reliaquest.api.index.SortedIntIndex;
+import com.reliaquest.api.index.TitleSalaryStats;
+import com.reliaquest.api.timing.RequestTimings;
+import com.reliaquest.api.timing.RequestTimings.Phase;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Aggregate salary and age queries, served from sorted primitive indexes over the cached roster.
+ * <p>
+ * The indexes are built once per roster and patched incrementally when employees are created or deleted through
+ * this api, so every query costs O(log n) or better instead of a pass over all employees.
+ */
+@Service
+public class EmployeeAnalyticsService implements RosterIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeAnalyticsService.class);
+
+    static final int MAX_RESULTS = 1000;
+
+    private final RosterReader rosterReader;
+
+    private final RosterView<EmployeeStats> stats = new RosterView<>(EmployeeStats::of);
+
+    /**
+     * Constructor.
+     *
+     * @param rosterReader reads the roster, or the last known good one while the upstream is unavailable
+     * @param rosterCache source of roster patches that keep the indexes current
+     */
+    public EmployeeAnalyticsService(final RosterReader rosterReader, final RosterCache rosterCache) {
+        this.rosterReader = rosterReader;
+        rosterCache.addListener((previous, current, added, removed) ->
+                stats.advance(previous, current, employeeStats -> employeeStats.withChanges(added, removed)));
+    }
+
+    @Override
+    public void prepare(final List<Employee> roster) {
+        stats.get(roster);
+    }
+
+    /**
+     * Returns the highest earning employees, highest salary first.
+     *
+     * @param n the number of employees to return, between 1 and {@value #MAX_RESULTS}
+     * @return up to {@code n} employees
+     * @throws IllegalArgumentException if n is out of range
+     */
+    public List<Employee> getTopEarners(final int n) {
+        if (n < 1 || n > MAX_RESULTS) {
+            throw new IllegalArgumentException("n must be between 1 and " + MAX_RESULTS);
+        }
+
+        logger.debug("Service: Fetching top {} earners", n);
+        return currentStats().index(EmployeeMetric.SALARY).top(n);
+    }
+
+    /**
+     * Computes nearest-rank percentiles of a metric.
+     *
+     * @param metric the metric
+     * @param percentiles the percentiles to compute, each greater than 0 and at most 100
+     * @return the value of each percentile keyed by its name, e.g. {@code p90}; empty if there are no employees
+     * @throws IllegalArgumentException if no percentile is given or one is out of range
+     */
+    public Map<String, Integer> getPercentiles(final EmployeeMetric metric, final List<Double> percentiles) {
+        if (percentiles == null || percentiles.isEmpty()) {
+            throw new IllegalArgumentException("At least one percentile is required");
+        }
+        for (Double percentile : percentiles) {
+            if (percentile == null || !(percentile > 0 && percentile <= 100)) {
+                throw new IllegalArgumentException("Percentiles must be greater than 0 and at most 100");
+            }
+        }
+
+        logger.debug("Service: Fetching {} percentiles {}", metric.getName(), percentiles);
+        SortedIntIndex index = currentStats().index(metric);
+        Map<String, Integer> result = new LinkedHashMap<>();
+        if (index.isEmpty()) {
+            return result;
+        }
+        for (Double percentile : percentiles) {
+            String name =
+                    "p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString();
+            result.put(name, index.percentile(percentile));
+        }
+        return result;
+    }
+
+    /**
+     * Builds an equal-width histogram of a metric between its minimum and maximum value.
+     *
+     * @param metric the metric
+     * @param buckets the number of buckets, between 1 and {@value #MAX_RESULTS}; fewer are returned when the
+     *     value range is narrower than the bucket count
+     * @return the buckets in ascending order; empty if there are no employees
+     * @throws IllegalArgumentException if buckets is out of range
+     */
+    public List<HistogramBucket> getHistogram(final EmployeeMetric metric, final int buckets) {
+        if (buckets < 1 || buckets > MAX_RESULTS) {
+            throw new IllegalArgumentException("buckets must be between 1 and " + MAX_RESULTS);
+        }
+
+        logger.debug("Service: Fetching {} histogram with {} buckets", metric.getName(), buckets);
+        SortedIntIndex index = currentStats().index(metric);
+        List<HistogramBucket> histogram = new ArrayList<>(buckets);
+        if (index.isEmpty()) {
+            return histogram;
+        }
+
+        long min = index.min();
+        long max = index.max();
+        long width = Math.max(1, (max - min + buckets) / buckets);
+        for (long from = min; from <= max; from += width) {
+            long to = from + width;
+            int count = to > max
+                    ? index.countAtMost((int) max) - index.countLessThan((int) from)
+                    : index.countLessThan((int) to) - index.countLessThan((int) from);
+            histogram.add(new HistogramBucket((int) from, (int) Math.min(to, Integer.MAX_VALUE), count));
+        }
+        return histogram;
+    }
+
+    /**
+     * Counts employees whose metric lies within an inclusive range.
+     *
+     * @param metric the metric
+     * @param min the lower bound, inclusive; unbounded if null
+     * @param max the upper bound, inclusive; unbounded if null
+     * @return the number of employees in range
+     */
+    public int countInRange(final EmployeeMetric metric, final Integer min, final Integer max) {
+        logger.debug("Service: Counting employees with {} between {} and {}", metric.getName(), min, max);
+        int lowerBound = min == null ? Integer.MIN_VALUE : min;
+        int upperBound = max == null ? Integer.MAX_VALUE : max;
+        return currentStats().index(metric).countBetween(lowerBound, upperBound);
+    }
+
+    /**
+     * Returns salary statistics for every title, ordered by title.
+     *
+     * @return the statistics per title
+     */
+    public List<TitleStatistics> getTitleStatistics() {
+        logger.debug("Service: Fetching salary statistics for all titles");
+        return currentStats().titles().values().stream()
+                .sorted(Comparator.comparing(TitleSalaryStats::getTitle))
+                .map(EmployeeAnalyticsService::toTitleStatistics)
+                .toList();
+    }
+
+    /**
+     * Returns salary statistics for one title.
+     *
+     * @param title the exact title
+     * @return the statistics, or empty if no employee holds the title
+     * @throws IllegalArgumentException if title is null or blank
+     */
+    public Optional<TitleStatistics> getTitleStatistics(final String title) {
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("Title cannot be null or blank");
+        }
+
+        logger.debug("Service: Fetching salary statistics for title '{}'", title);
+        return currentStats().title(title).map(EmployeeAnalyticsService::toTitleStatistics);
+    }
+
+    private EmployeeStats currentStats() {
+        List<Employee> roster = rosterReader.read();
+        try (RequestTimings.Span ignored = RequestTimings.start(Phase.COMPUTE)) {
+            return stats.get(roster);
+        }
+    }
+
+    private static TitleStatistics toTitleStatistics(final TitleSalaryStats stats) {
+        return new TitleStatistics(
+                stats.getTitle(), stats.getCount(), stats.getMin(), stats.getMax(), stats.getAverage());
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.RosterIndex;
+import com.reliaquest.api.cache.RosterView;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.index.EmployeeMetric;
+import com.reliaquest.api.index.NameTrie;
+import com.reliaquest.api.timing.RequestTimings;
+import com.reliaquest.api.timing.RequestTimings.Phase;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Type-ahead over employee names, served from a {@link NameTrie} built once per cached roster.
+ */
+@Service
+public class EmployeeAutocompleteService implements RosterIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeAutocompleteService.class);
+
+    private final RosterReader rosterReader;
+
+    private final int maxResults;
+
+    private final RosterView<NameTrie> nameTrie;
+
+    /**
+     * Constructor.
+     *
+     * @param rosterReader reads the roster, or the last known good one while the upstream is unavailable
+     * @param rankBy the metric suggestions are ranked by, highest first, e.g. {@code salary}
+     * @param maxResults the most suggestions a request may ask for
+     */
+    public EmployeeAutocompleteService(
+            final RosterReader rosterReader,
+            @Value("${api.autocomplete.rank-by:salary}") final String rankBy,
+            @Value("${api.autocomplete.max-results:10}") final int maxResults) {
+        this.rosterReader = rosterReader;
+        this.maxResults = maxResults;
+        EmployeeMetric metric = EmployeeMetric.fromName(rankBy);
+        this.nameTrie = new RosterView<>(roster -> NameTrie.of(roster, metric, maxResults));
+    }
+
+    @Override
+    public void prepare(final List<Employee> roster) {
+        nameTrie.get(roster);
+    }
+
+    /**
+     * Suggests employee names with a name token starting with the prefix.
+     *
+     * @param prefix the typed prefix, matched case-insensitively against each word of a name
+     * @param limit the number of suggestions, between 1 and {@code api.autocomplete.max-results}
+     * @return up to {@code limit} names, best ranked first
+     * @throws IllegalArgumentException if prefix is null or blank or limit is out of range
+     */
+    public List<String> autocomplete(final String prefix, final int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("Prefix cannot be null or blank");
+        }
+        if (limit < 1 || limit > maxResults) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxResults);
+        }
+
+        logger.debug("Service: Autocompleting '{}'", prefix);
+        List<Employee> roster = rosterReader.read();
+        try (RequestTimings.Span ignored = RequestTimings.start(Phase.COMPUTE)) {
+            return nameTrie.get(roster).complete(prefix.strip(), limit);
+        }
+    }
+}
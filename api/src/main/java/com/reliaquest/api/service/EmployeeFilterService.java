@@ -0,0 +1,107 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.RosterIndex;
+import com.reliaquest.api.cache.RosterView;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeFilter;
+import com.reliaquest.api.index.EmployeeBitmapIndex;
+import com.reliaquest.api.timing.RequestTimings;
+import com.reliaquest.api.timing.RequestTimings.Phase;
+import java.util.List;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Multi-attribute employee filters, evaluated as bitwise operations over {@link EmployeeBitmapIndex}.
+ * <p>
+ * The index is built lazily for each cached roster, so repeated filters against the same roster only pay for the
+ * bitmap operations of their own criteria.
+ */
+@Service
+public class EmployeeFilterService implements RosterIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeFilterService.class);
+
+    private final RosterReader rosterReader;
+
+    private final RosterView<EmployeeBitmapIndex> bitmapIndex = new RosterView<>(EmployeeBitmapIndex::of);
+
+    public EmployeeFilterService(final RosterReader rosterReader) {
+        this.rosterReader = rosterReader;
+    }
+
+    @Override
+    public void prepare(final List<Employee> roster) {
+        bitmapIndex.get(roster);
+    }
+
+    /**
+     * Returns the employees matching every criterion of the filter.
+     *
+     * @param filter the criteria; criteria that are not set are ignored
+     * @return the matching employees in roster order
+     * @throws IllegalArgumentException if a range has its minimum above its maximum or a title or domain is blank
+     */
+    public List<Employee> filterEmployees(final EmployeeFilter filter) {
+        validate(filter);
+
+        logger.debug("Service: Filtering employees by {}", filter);
+        List<Employee> roster = rosterReader.read();
+
+        try (RequestTimings.Span ignored = RequestTimings.start(Phase.COMPUTE)) {
+            EmployeeBitmapIndex index = bitmapIndex.get(roster);
+            RoaringBitmap matches = index.all();
+            if (filter.getMinSalary() != null || filter.getMaxSalary() != null) {
+                matches = RoaringBitmap.and(
+                        matches,
+                        index.salaryBetween(lowerBound(filter.getMinSalary()), upperBound(filter.getMaxSalary())));
+            }
+            if (filter.getMinAge() != null || filter.getMaxAge() != null) {
+                matches = RoaringBitmap.and(
+                        matches, index.ageBetween(lowerBound(filter.getMinAge()), upperBound(filter.getMaxAge())));
+            }
+            if (filter.getTitle() != null && !filter.getTitle().isEmpty()) {
+                matches = RoaringBitmap.and(matches, index.titleIn(filter.getTitle()));
+            }
+            if (filter.getEmailDomain() != null && !filter.getEmailDomain().isEmpty()) {
+                matches = RoaringBitmap.and(matches, index.emailDomainIn(filter.getEmailDomain()));
+            }
+
+            List<Employee> employees = index.select(matches);
+            logger.debug("Service: Filter matched {} of {} employees", employees.size(), roster.size());
+            return employees;
+        }
+    }
+
+    private static void validate(final EmployeeFilter filter) {
+        if (filter.getMinSalary() != null
+                && filter.getMaxSalary() != null
+                && filter.getMinSalary() > filter.getMaxSalary()) {
+            throw new IllegalArgumentException("minSalary cannot be greater than maxSalary");
+        }
+        if (filter.getMinAge() != null && filter.getMaxAge() != null && filter.getMinAge() > filter.getMaxAge()) {
+            throw new IllegalArgumentException("minAge cannot be greater than maxAge");
+        }
+        if (filter.getTitle() != null && filter.getTitle().stream().anyMatch(EmployeeFilterService::isBlank)) {
+            throw new IllegalArgumentException("Titles cannot be blank");
+        }
+        if (filter.getEmailDomain() != null
+                && filter.getEmailDomain().stream().anyMatch(EmployeeFilterService::isBlank)) {
+            throw new IllegalArgumentException("Email domains cannot be blank");
+        }
+    }
+
+    private static boolean isBlank(final String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static int lowerBound(final Integer min) {
+        return min == null ? Integer.MIN_VALUE : min;
+    }
+
+    private static int upperBound(final Integer max) {
+        return max == null ? Integer.MAX_VALUE : max;
+    }
+}
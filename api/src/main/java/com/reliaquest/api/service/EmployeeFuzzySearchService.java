@@ -0,0 +1,76 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.RosterIndex;
+import com.reliaquest.api.cache.RosterView;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.index.FuzzyNameIndex;
+import com.reliaquest.api.timing.RequestTimings;
+import com.reliaquest.api.timing.RequestTimings.Phase;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Typo-tolerant name search, served from a {@link FuzzyNameIndex} built once per cached roster.
+ */
+@Service
+public class EmployeeFuzzySearchService implements RosterIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeFuzzySearchService.class);
+
+    private final RosterReader rosterReader;
+
+    private final int defaultDistance;
+
+    private final int maxDistance;
+
+    private final RosterView<FuzzyNameIndex> fuzzyIndex = new RosterView<>(FuzzyNameIndex::of);
+
+    /**
+     * Constructor.
+     *
+     * @param rosterReader reads the roster, or the last known good one while the upstream is unavailable
+     * @param defaultDistance the edit distance used when a request does not give one
+     * @param maxDistance the largest edit distance a request may ask for
+     */
+    public EmployeeFuzzySearchService(
+            final RosterReader rosterReader,
+            @Value("${api.fuzzy-search.default-distance:1}") final int defaultDistance,
+            @Value("${api.fuzzy-search.max-distance:2}") final int maxDistance) {
+        this.rosterReader = rosterReader;
+        this.defaultDistance = defaultDistance;
+        this.maxDistance = maxDistance;
+    }
+
+    @Override
+    public void prepare(final List<Employee> roster) {
+        fuzzyIndex.get(roster);
+    }
+
+    /**
+     * Finds employees whose name contains, for every word of the query, a word within the edit distance.
+     *
+     * @param name the name or name words to look for, case-insensitive
+     * @param distance the edit distance allowed per word, between 0 and {@code api.fuzzy-search.max-distance};
+     *     {@code api.fuzzy-search.default-distance} if null
+     * @return the matching employees, closest first
+     * @throws IllegalArgumentException if name is null or blank or distance is out of range
+     */
+    public List<Employee> search(final String name, final Integer distance) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Name cannot be null or blank");
+        }
+        int editDistance = distance == null ? defaultDistance : distance;
+        if (editDistance < 0 || editDistance > maxDistance) {
+            throw new IllegalArgumentException("maxDistance must be between 0 and " + maxDistance);
+        }
+
+        logger.debug("Service: Fuzzy searching employees named '{}' within distance {}", name, editDistance);
+        List<Employee> roster = rosterReader.read();
+        try (RequestTimings.Span ignored = RequestTimings.start(Phase.COMPUTE)) {
+            return fuzzyIndex.get(roster).search(name, editDistance);
+        }
+    }
+}
@@ -1,10 +1,23 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterView;
+import com.reliaquest.api.cache.SearchResultCache;
 import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.client.EmployeeCreateBatcher;
+import com.reliaquest.api.dto.ApiResponse;
 import com.reliaquest.api.dto.CreateEmployeeRequest;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.index.SalaryColumn;
+import com.reliaquest.api.scan.ParallelScanner;
+import com.reliaquest.api.timing.RequestTimings;
+import com.reliaquest.api.timing.RequestTimings.Phase;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -19,22 +32,50 @@ public class EmployeeService {
 
     private final ApiClient apiClient;
 
+    private final EmployeeCreateBatcher createEmployeeBatcher;
+
+    private final RosterCache rosterCache;
+
+    private final RosterReader rosterReader;
+
+    private final SearchResultCache searchResultCache;
+
+    private final ParallelScanner scanner;
+
+    private final RosterView<SalaryColumn> salaryColumn = new RosterView<>(SalaryColumn::of);
+
     /**
      * Constructor.
      *
      * @param apiClient the client used to communicate with the mock employee API
+     * @param createEmployeeBatcher batches concurrent creations into bulk upstream requests
+     * @param rosterCache the cached roster, patched after successful writes
+     * @param rosterReader reads the roster, or the last known good one while the upstream is unavailable
+     * @param searchResultCache caches the results of popular name searches per roster
+     * @param scanner runs full roster scans, in parallel for large rosters
      */
-    public EmployeeService(final ApiClient apiClient) {
+    public EmployeeService(
+            final ApiClient apiClient,
+            final EmployeeCreateBatcher createEmployeeBatcher,
+            final RosterCache rosterCache,
+            final RosterReader rosterReader,
+            final SearchResultCache searchResultCache,
+            final ParallelScanner scanner) {
         this.apiClient = apiClient;
+        this.createEmployeeBatcher = createEmployeeBatcher;
+        this.rosterCache = rosterCache;
+        this.rosterReader = rosterReader;
+        this.searchResultCache = searchResultCache;
+        this.scanner = scanner;
     }
 
     /**
      * Responsible for fetching all employees from the mock API
      */
     public List<Employee> getAllEmployees() {
-        logger.info("Service: Fetching all employees");
-        List<Employee> employees = apiClient.fetchAllEmployees();
-        logger.info("Service: Retrieved {} employees", employees.size());
+        logger.debug("Service: Fetching all employees");
+        List<Employee> employees = rosterReader.read();
+        logger.debug("Service: Retrieved {} employees", employees.size());
         return employees;
     }
 
@@ -50,13 +91,13 @@ public class EmployeeService {
             throw new IllegalArgumentException("Search string cannot be null or blank");
         }
 
-        logger.info("Service: Searching employees with name containing '{}'", searchString);
-        List<Employee> employees = apiClient.fetchAllEmployees();
-        String lowerCaseSearchString = searchString.toLowerCase();
-        List<Employee> matchedEmployees = employees.stream()
-                .filter(emp -> emp.getName().toLowerCase().contains(lowerCaseSearchString))
-                .toList();
-        logger.info("Service: Found {} employees matching search '{}'", matchedEmployees.size(), searchString);
+        logger.debug("Service: Searching employees with name containing '{}'", searchString);
+        List<Employee> employees = rosterReader.read();
+        List<Employee> matchedEmployees;
+        try (RequestTimings.Span ignored = RequestTimings.start(Phase.COMPUTE)) {
+            matchedEmployees = searchResultCache.search(employees, searchString);
+        }
+        logger.debug("Service: Found {} employees matching search '{}'", matchedEmployees.size(), searchString);
         return matchedEmployees;
     }
 
@@ -72,9 +113,11 @@ public class EmployeeService {
             throw new IllegalArgumentException("Employee ID cannot be null or blank");
         }
 
-        logger.info("Service: Fetching employee with id {}", id);
-        List<Employee> employees = apiClient.fetchAllEmployees();
-        return employees.stream().filter(e -> e.getId().equals(id)).findFirst().orElse(null);
+        logger.debug("Service: Fetching employee with id {}", id);
+        List<Employee> employees = rosterReader.read();
+        try (RequestTimings.Span ignored = RequestTimings.start(Phase.COMPUTE)) {
+            return scanner.findFirst(employees, e -> id.equals(e.getId()));
+        }
     }
 
     /**
@@ -83,9 +126,12 @@ public class EmployeeService {
      * @return an Optional containing the highest salary, or empty if no employees exist
      */
     public Optional<Integer> getHighestSalary() {
-        logger.info("Service: Fetching highest salary");
-        List<Employee> employees = apiClient.fetchAllEmployees();
-        return employees.stream().map(Employee::getSalary).max(Integer::compareTo);
+        logger.debug("Service: Fetching highest salary");
+        List<Employee> employees = rosterReader.read();
+        try (RequestTimings.Span ignored = RequestTimings.start(Phase.COMPUTE)) {
+            OptionalInt highest = salaryColumn.get(employees).max();
+            return highest.isPresent() ? Optional.of(highest.getAsInt()) : Optional.empty();
+        }
     }
 
     /**
@@ -94,17 +140,17 @@ public class EmployeeService {
      * @return a list of up to 10 employee names, ordered by salary from highest to lowest
      */
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        logger.info("Service: Fetching top 10 highest earning employee names");
-        List<Employee> employees = apiClient.fetchAllEmployees();
-        return employees.stream()
-                .sorted((e1, e2) -> Integer.compare(e2.getSalary(), e1.getSalary()))
-                .limit(10)
-                .map(Employee::getName)
-                .toList();
+        logger.debug("Service: Fetching top 10 highest earning employee names");
+        List<Employee> employees = rosterReader.read();
+        try (RequestTimings.Span ignored = RequestTimings.start(Phase.COMPUTE)) {
+            return salaryColumn.get(employees).topK(10).stream()
+                    .map(Employee::getName)
+                    .toList();
+        }
     }
 
     /**
-     * Creates a new employee in the system.
+     * Creates a new employee in the system. Concurrent creations are sent upstream together as one bulk request.
      *
      * @param employeeRequest the employee data to create
      * @return the newly created employee with its assigned ID
@@ -115,14 +161,15 @@ public class EmployeeService {
             throw new IllegalArgumentException("Employee request cannot be null");
         }
 
-        logger.info("Service: Creating employee: {}", employeeRequest.getName());
-        Employee createdEmployee = apiClient.createEmployee(employeeRequest);
+        logger.debug("Service: Creating employee: {}", employeeRequest.getName());
+        // The roster is patched when the upstream answers, even if this caller stops waiting for it
+        Employee createdEmployee = createEmployeeBatcher.create(employeeRequest, rosterCache::applyCreated);
         logger.info("Service: Successfully created employee with id: {}", createdEmployee.getId());
         return createdEmployee;
     }
 
     /**
-     * Deletes an employee by their ID.
+     * Deletes an employee by their ID with a single upstream request.
      *
      * @param id the unique identifier of the employee to delete
      * @return the name of the deleted employee, or null if not found
@@ -133,25 +180,66 @@ public class EmployeeService {
             throw new IllegalArgumentException("Employee ID cannot be null or blank");
         }
 
-        logger.info("Deleting employee with id: {}", id);
+        logger.debug("Deleting employee with id: {}", id);
 
-        // The mock api delete endpoint
-        // only returns a boolean, not the deleted employee.
-        // So we need to make two api calls
-        Employee employee = getEmployeeById(id);
-        if (employee == null) {
+        // The mock api only knows UUIDs, anything else cannot match an employee
+        if (!isEmployeeId(id)) {
             logger.warn("Employee with id: {} not found for deletion", id);
             return null;
         }
 
-        final String employeeName = employee.getName();
-        final boolean deleted = apiClient.deleteEmployee(employeeName);
-        if (!deleted) {
-            logger.warn("Failed to delete employee with id: {} (name: {})", id, employeeName);
+        final Employee deletedEmployee;
+        try {
+            deletedEmployee = apiClient.deleteEmployeeById(id);
+        } catch (ResourceNotFoundException e) {
+            logger.warn("Employee with id: {} not found for deletion", id);
             return null;
         }
 
-        logger.info("Successfully deleted employee: {} (id: {})", employeeName, id);
-        return employeeName;
+        rosterCache.applyDeleted(List.of(deletedEmployee));
+        logger.info("Successfully deleted employee: {} (id: {})", deletedEmployee.getName(), id);
+        return deletedEmployee.getName();
+    }
+
+    /**
+     * Deletes several employees by their IDs with a single upstream request.
+     *
+     * @param ids the unique identifiers of the employees to delete
+     * @return the names of the deleted employees; ids that matched no employee are skipped
+     * @throws IllegalArgumentException if ids is null or empty
+     */
+    public List<String> deleteEmployeesByIds(final List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("Employee IDs cannot be null or empty");
+        }
+
+        List<String> employeeIds = ids.stream()
+                .filter(Objects::nonNull)
+                .filter(EmployeeService::isEmployeeId)
+                .distinct()
+                .toList();
+        logger.debug("Deleting {} employees", employeeIds.size());
+        if (employeeIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Employee> deletedEmployees = apiClient.deleteEmployeesByIds(employeeIds).stream()
+                .map(ApiResponse::getData)
+                .filter(Objects::nonNull)
+                .toList();
+        rosterCache.applyDeleted(deletedEmployees);
+        List<String> deletedEmployeeNames =
+                deletedEmployees.stream().map(Employee::getName).toList();
+        logger.info("Successfully deleted {} of {} employees", deletedEmployeeNames.size(), employeeIds.size());
+        return deletedEmployeeNames;
+    }
+
+    private static boolean isEmployeeId(final String id) {
+        try {
+            UUID.fromString(id);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
     }
 }
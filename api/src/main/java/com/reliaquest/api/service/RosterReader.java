@@ -0,0 +1,46 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.LastKnownGoodRoster;
+import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.timing.RequestTimings;
+import com.reliaquest.api.timing.RequestTimings.Phase;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads the roster for the employee services.
+ */
+@Component
+public class RosterReader {
+
+    private final ApiClient apiClient;
+
+    private final LastKnownGoodRoster lastKnownGoodRoster;
+
+    /**
+     * Constructor.
+     *
+     * @param apiClient the client used to load the roster
+     * @param lastKnownGoodRoster serves reads from a stale roster while the upstream is unavailable
+     */
+    public RosterReader(final ApiClient apiClient, final LastKnownGoodRoster lastKnownGoodRoster) {
+        this.apiClient = apiClient;
+        this.lastKnownGoodRoster = lastKnownGoodRoster;
+    }
+
+    /**
+     * Reads the roster through the cache, attributing the lookup to the {@code cache} timing phase.
+     * A miss that falls through to the upstream is reported under {@code upstream} instead; if the upstream is
+     * unavailable the last known good roster is served.
+     *
+     * @return the roster
+     */
+    public List<Employee> read() {
+        try (RequestTimings.Span ignored = RequestTimings.start(Phase.CACHE)) {
+            return apiClient.fetchAllEmployees();
+        } catch (RuntimeException e) {
+            return lastKnownGoodRoster.recover(e);
+        }
+    }
+}
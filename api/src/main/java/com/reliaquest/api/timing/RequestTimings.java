@@ -0,0 +1,166 @@
+package com.reliaquest.api.timing;
+
+/**
+ * Request-scoped latency breakdown, reported to clients through the {@code Server-Timing} response header.
+ * <p>
+ * An instance is bound to the request thread by {@link ServerTimingFilter}. Outside of a request every operation
+ * is a no-op, so instrumented code can call into this class unconditionally.
+ * <p>
+ * Spans are exclusive: time recorded by a span or {@link #record(Phase, long)} call that happens inside another
+ * span is subtracted from the enclosing one. A cache lookup that falls through to the upstream therefore reports
+ * only the time spent in the cache layer itself.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private static final Span NOOP_SPAN = () -> {};
+
+    private final long[] durations = new long[PHASES.length];
+
+    private final boolean[] recorded = new boolean[PHASES.length];
+
+    private long attributed;
+
+    private RequestTimings() {}
+
+    /**
+     * Binds a fresh set of timings to the current thread.
+     *
+     * @return the timings bound to the current thread
+     */
+    public static RequestTimings begin() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * Unbinds the timings from the current thread.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Starts an exclusive span for the given phase. Use with try-with-resources.
+     *
+     * @param phase the phase the span is attributed to
+     * @return the running span, or a no-op span when no request is being timed
+     */
+    public static Span start(final Phase phase) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return NOOP_SPAN;
+        }
+        return timings.new ActiveSpan(phase, System.nanoTime(), timings.attributed);
+    }
+
+    /**
+     * Records a duration that was measured elsewhere, such as a planned retry backoff.
+     *
+     * @param phase the phase the duration is attributed to
+     * @param nanos the duration in nanoseconds
+     */
+    public static void record(final Phase phase, final long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.add(phase, nanos);
+        }
+    }
+
+    /**
+     * Returns the total time attributed to a phase so far.
+     *
+     * @param phase the phase to look up
+     * @return the attributed time in nanoseconds
+     */
+    public long getDuration(final Phase phase) {
+        return durations[phase.ordinal()];
+    }
+
+    /**
+     * Renders the recorded phases as a {@code Server-Timing} header value, for example
+     * {@code cache;dur=0.1, upstream;dur=412}. Durations are in milliseconds with a tenth of a millisecond precision.
+     *
+     * @return the header value, or an empty string if nothing was recorded
+     */
+    public String toHeaderValue() {
+        StringBuilder builder = new StringBuilder(64);
+        for (Phase phase : PHASES) {
+            if (!recorded[phase.ordinal()]) {
+                continue;
+            }
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+            long tenths = Math.round(durations[phase.ordinal()] / 100_000.0);
+            builder.append(phase.getMetricName()).append(";dur=").append(tenths / 10);
+            if (tenths % 10 != 0) {
+                builder.append('.').append(tenths % 10);
+            }
+        }
+        return builder.toString();
+    }
+
+    private void add(final Phase phase, final long nanos) {
+        long exclusive = Math.max(0, nanos);
+        durations[phase.ordinal()] += exclusive;
+        recorded[phase.ordinal()] = true;
+        attributed += exclusive;
+    }
+
+    /**
+     * Phases of request processing reported in the {@code Server-Timing} header.
+     */
+    public enum Phase {
+        CACHE("cache"),
+        UPSTREAM("upstream"),
+        RETRY_WAIT("retry-wait"),
+        COMPUTE("compute");
+
+        private final String metricName;
+
+        Phase(final String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String getMetricName() {
+            return metricName;
+        }
+    }
+
+    /**
+     * A running measurement. Closing it attributes the elapsed time, minus anything attributed by nested spans,
+     * to its phase.
+     */
+    @FunctionalInterface
+    public interface Span extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    private final class ActiveSpan implements Span {
+
+        private final Phase phase;
+
+        private final long startNanos;
+
+        private final long attributedAtStart;
+
+        private ActiveSpan(final Phase phase, final long startNanos, final long attributedAtStart) {
+            this.phase = phase;
+            this.startNanos = startNanos;
+            this.attributedAtStart = attributedAtStart;
+        }
+
+        @Override
+        public void close() {
+            long elapsed = System.nanoTime() - startNanos;
+            add(phase, elapsed - (attributed - attributedAtStart));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.reliaquest.api.timing;
+
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import io.github.resilience4j.retry.Retry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Attributes Resilience4j retry backoffs to the {@code retry-wait} phase of the current request.
+ * <p>
+ * Synchronous retries publish their retry event on the calling thread right before sleeping, so the announced
+ * wait interval is the time the request is about to spend idle.
+ */
+@Component
+public class RetryWaitTimingRecorder implements RegistryEventConsumer<Retry> {
+
+    @Override
+    public void onEntryAddedEvent(final EntryAddedEvent<Retry> entryAddedEvent) {
+        register(entryAddedEvent.getAddedEntry());
+    }
+
+    @Override
+    public void onEntryRemovedEvent(final EntryRemovedEvent<Retry> entryRemoveEvent) {
+        // Nothing to clean up, the event publisher goes away with the retry instance.
+    }
+
+    @Override
+    public void onEntryReplacedEvent(final EntryReplacedEvent<Retry> entryReplacedEvent) {
+        register(entryReplacedEvent.getNewEntry());
+    }
+
+    private void register(final Retry retry) {
+        retry.getEventPublisher()
+                .onRetry(event -> RequestTimings.record(
+                        RequestTimings.Phase.RETRY_WAIT, event.getWaitInterval().toNanos()));
+    }
+}
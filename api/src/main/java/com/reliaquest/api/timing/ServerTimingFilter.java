@@ -0,0 +1,97 @@
+package com.reliaquest.api.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Times every request and reports the breakdown in a {@code Server-Timing} response header.
+ * <p>
+ * Headers cannot be changed once the response is committed, so the header is written at the last moment before
+ * that happens: when the body is first accessed, the buffer is flushed or an error is sent.
+ */
+@Component
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.begin();
+        ServerTimingResponseWrapper responseWrapper = new ServerTimingResponseWrapper(response, timings);
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } finally {
+            responseWrapper.writeServerTiming();
+            RequestTimings.end();
+        }
+    }
+
+    private static final class ServerTimingResponseWrapper extends HttpServletResponseWrapper {
+
+        private final RequestTimings timings;
+
+        private boolean written;
+
+        private ServerTimingResponseWrapper(final HttpServletResponse response, final RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+
+        private void writeServerTiming() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            String value = timings.toHeaderValue();
+            if (!value.isEmpty()) {
+                setHeader(SERVER_TIMING_HEADER, value);
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(final int sc) throws IOException {
+            writeServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(final int sc, final String msg) throws IOException {
+            writeServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(final String location) throws IOException {
+            writeServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.reliaquest.api.write;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.reliaquest.api.dto.CreateEmployeeRequest;
+import com.reliaquest.api.dto.Employee;
+
+/**
+ * Answer to a create queued in write-behind mode: the employee as requested, without an id until the upstream
+ * assigns one, and the state of its write, whose id is tracked by the write status endpoint.
+ */
+public class QueuedEmployee extends Employee {
+
+    @JsonProperty("write")
+    private final WriteStatus write;
+
+    public QueuedEmployee(final WriteStatus write) {
+        CreateEmployeeRequest request = write.request();
+        setName(request.getName());
+        setSalary(request.getSalary());
+        setAge(request.getAge());
+        setTitle(request.getTitle());
+        this.write = write;
+    }
+
+    public WriteStatus getWrite() {
+        return write;
+    }
+}
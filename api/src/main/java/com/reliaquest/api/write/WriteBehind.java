@@ -0,0 +1,16 @@
+package com.reliaquest.api.write;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller method whose write is queued on the {@link WriteBehindQueue} in write-behind mode instead of
+ * being sent upstream. Admission control lets such requests through while the upstream cannot take calls.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface WriteBehind {}
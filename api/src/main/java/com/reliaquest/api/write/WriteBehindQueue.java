@@ -0,0 +1,351 @@
+package com.reliaquest.api.write;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.CreateEmployeeRequest;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.exception.ApiClientException;
+import com.reliaquest.api.exception.RateLimitException;
+import com.reliaquest.api.service.EmployeeService;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Write-behind mode for creates and deletes.
+ * <p>
+ * When {@code api.writes.async.enabled} is set, writes are not sent upstream while the caller waits. They are
+ * appended to a durable {@link WriteJournal} and answered with a tracking id at once; a single background thread
+ * then sends them upstream in the order they were accepted. A write that fails because the upstream is throttling
+ * or unavailable stays at the head of the queue and is retried after the upstream's {@code Retry-After}, or with
+ * exponential backoff, up to {@code api.writes.max-attempts} times. Pending writes are replayed from the journal
+ * after a restart, so a write is applied at least once.
+ * <p>
+ * The upstream create endpoint takes no idempotency key, so a create that failed in a way that may have reached
+ * the upstream, such as a timeout, is not retried: it ends in {@link WriteStatus.State#UNKNOWN} rather than risk
+ * creating the employee twice. Deletes are idempotent and are retried on those failures as well.
+ */
+@Component
+public class WriteBehindQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindQueue.class);
+
+    private final EmployeeService employeeService;
+
+    private final WriteJournal journal;
+
+    private final Path journalPath;
+
+    private final boolean enabled;
+
+    private final Duration retryDelay;
+
+    private final Duration maxRetryDelay;
+
+    private final int maxAttempts;
+
+    private final int retained;
+
+    private final Map<String, WriteStatus> statuses = new LinkedHashMap<>();
+
+    private final BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+
+    private final Object lock = new Object();
+
+    private int completedSinceCompaction;
+
+    private Thread drainer;
+
+    public WriteBehindQueue(
+            final EmployeeService employeeService,
+            final ObjectMapper objectMapper,
+            @Value("${api.writes.async.enabled:false}") final boolean enabled,
+            @Value("${api.writes.journal-path:${java.io.tmpdir}/employee-api/writes.journal}") final Path journalPath,
+            @Value("${api.writes.retry-delay:1s}") final Duration retryDelay,
+            @Value("${api.writes.max-retry-delay:60s}") final Duration maxRetryDelay,
+            @Value("${api.writes.max-attempts:20}") final int maxAttempts,
+            @Value("${api.writes.retained:1000}") final int retained) {
+        this.employeeService = employeeService;
+        this.journal = new WriteJournal(journalPath, objectMapper);
+        this.journalPath = journalPath;
+        this.enabled = enabled;
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        this.maxAttempts = maxAttempts;
+        this.retained = retained;
+    }
+
+    /**
+     * Replays the journal and starts draining it. Writes left pending by a previous run are drained even if
+     * write-behind has since been disabled.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        if (!enabled && !Files.exists(journalPath)) {
+            return;
+        }
+        recover();
+        drainer = new Thread(this::drain, "write-behind-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    /**
+     * @return whether creates and deletes should be accepted into the queue rather than sent upstream directly
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Accepts an employee creation.
+     *
+     * @param employeeRequest the employee to create
+     * @return the pending write
+     * @throws IllegalArgumentException if employeeRequest is null
+     */
+    public WriteStatus submitCreate(final CreateEmployeeRequest employeeRequest) {
+        if (employeeRequest == null) {
+            throw new IllegalArgumentException("Employee request cannot be null");
+        }
+        return accept(WriteStatus.pendingCreate(UUID.randomUUID().toString(), employeeRequest));
+    }
+
+    /**
+     * Accepts an employee deletion.
+     *
+     * @param employeeId the id of the employee to delete
+     * @return the pending write
+     * @throws IllegalArgumentException if employeeId is null or blank
+     */
+    public WriteStatus submitDelete(final String employeeId) {
+        if (employeeId == null || employeeId.isBlank()) {
+            throw new IllegalArgumentException("Employee ID cannot be null or blank");
+        }
+        return accept(WriteStatus.pendingDelete(UUID.randomUUID().toString(), employeeId));
+    }
+
+    /**
+     * Returns the state of an accepted write.
+     *
+     * @param id the tracking id
+     * @return the state, or empty if the id is unknown or its outcome is no longer retained
+     */
+    public Optional<WriteStatus> getStatus(final String id) {
+        synchronized (lock) {
+            return Optional.ofNullable(statuses.get(id));
+        }
+    }
+
+    /**
+     * @return the number of writes waiting to be sent upstream
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    private WriteStatus accept(final WriteStatus status) {
+        synchronized (lock) {
+            try {
+                journal.append(status);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to journal write " + status.id(), e);
+            }
+            statuses.put(status.id(), status);
+        }
+        queue.add(status.id());
+        logger.info("Accepted {} write {}", status.operation(), status.id());
+        return status;
+    }
+
+    void recover() {
+        List<WriteStatus> replayed;
+        try {
+            replayed = journal.replay();
+        } catch (IOException e) {
+            logger.error("Failed to replay write journal {}: {}", journalPath, e.getMessage());
+            return;
+        }
+
+        synchronized (lock) {
+            for (WriteStatus status : replayed) {
+                statuses.put(status.id(), status);
+                if (status.isPending()) {
+                    queue.add(status.id());
+                }
+            }
+            trimStatuses();
+            compact();
+        }
+        if (!queue.isEmpty()) {
+            logger.info("Recovered {} pending writes from {}", queue.size(), journalPath);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                process(queue.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Sends one write upstream, retrying it in place until it succeeds or fails for good, so later writes are not
+     * sent before it.
+     */
+    void process(final String id) throws InterruptedException {
+        WriteStatus status = getStatus(id).orElse(null);
+        if (status == null || !status.isPending()) {
+            return;
+        }
+
+        while (true) {
+            try {
+                complete(execute(status));
+                return;
+            } catch (RuntimeException e) {
+                status = status.attempted(e.getMessage());
+                if (status.operation() == WriteStatus.Operation.CREATE && isOutcomeUnknown(e)) {
+                    logger.warn("CREATE write {} may have reached the upstream, not retrying: {}", id, e.getMessage());
+                    complete(status.unknown(e.getMessage()));
+                    return;
+                }
+                if (!isRetryable(e) || status.attempts() >= maxAttempts) {
+                    logger.warn(
+                            "{} write {} failed after {} attempts: {}",
+                            status.operation(),
+                            id,
+                            status.attempts(),
+                            e.getMessage());
+                    complete(status.failed(e.getMessage()));
+                    return;
+                }
+
+                Duration delay = retryDelay(e, status.attempts());
+                logger.debug(
+                        "{} write {} failed, retrying in {} ms: {}",
+                        status.operation(),
+                        id,
+                        delay.toMillis(),
+                        e.getMessage());
+                synchronized (lock) {
+                    statuses.put(id, status);
+                }
+                Thread.sleep(delay.toMillis());
+            }
+        }
+    }
+
+    private WriteStatus execute(final WriteStatus status) {
+        if (status.operation() == WriteStatus.Operation.CREATE) {
+            Employee created = employeeService.createEmployee(status.request());
+            return status.created(created);
+        }
+
+        String deletedName = employeeService.deleteEmployeeById(status.employeeId());
+        return deletedName == null
+                ? status.attempted(null).failed("Employee not found: " + status.employeeId())
+                : status.deleted(deletedName);
+    }
+
+    private void complete(final WriteStatus status) {
+        synchronized (lock) {
+            try {
+                journal.append(status);
+            } catch (IOException e) {
+                logger.error("Failed to journal outcome of write {}: {}", status.id(), e.getMessage());
+            }
+            statuses.put(status.id(), status);
+            trimStatuses();
+            if (++completedSinceCompaction >= retained) {
+                compact();
+            }
+        }
+        logger.info("{} write {} {}", status.operation(), status.id(), status.state());
+    }
+
+    /**
+     * Forgets the oldest outcomes beyond {@code api.writes.retained}; pending writes are always kept.
+     */
+    private void trimStatuses() {
+        int excess = statuses.size() - retained;
+        Iterator<WriteStatus> iterator = statuses.values().iterator();
+        while (excess > 0 && iterator.hasNext()) {
+            if (!iterator.next().isPending()) {
+                iterator.remove();
+                excess--;
+            }
+        }
+    }
+
+    private void compact() {
+        try {
+            journal.compact(new ArrayList<>(statuses.values()));
+            completedSinceCompaction = 0;
+        } catch (IOException e) {
+            logger.warn("Failed to compact write journal {}: {}", journalPath, e.getMessage());
+        }
+    }
+
+    /**
+     * Throttling and availability failures are retried; an error response from the upstream, such as invalid
+     * employee data, is not. Communication failures reach here wrapped in an {@link ApiClientException} with a cause.
+     */
+    private static boolean isRetryable(final RuntimeException e) {
+        return e instanceof RateLimitException
+                || e instanceof CallNotPermittedException
+                || e instanceof BulkheadFullException
+                || isOutcomeUnknown(e);
+    }
+
+    /**
+     * Communication failures leave it open whether the request was applied upstream; the other retryable failures
+     * are rejected before a request is sent, or by the upstream without applying it.
+     */
+    private static boolean isOutcomeUnknown(final RuntimeException e) {
+        return e instanceof ResourceAccessException || (e instanceof ApiClientException && e.getCause() != null);
+    }
+
+    private Duration retryDelay(final RuntimeException e, final int attempts) {
+        if (e instanceof RateLimitException rateLimit && rateLimit.getRetryAfterSeconds() != null) {
+            return Duration.ofSeconds(rateLimit.getRetryAfterSeconds());
+        }
+        long exponential = retryDelay.toMillis() << Math.min(attempts - 1, 20);
+        return Duration.ofMillis(Math.min(exponential, maxRetryDelay.toMillis()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (drainer != null) {
+            drainer.interrupt();
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close write journal: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.reliaquest.api.write;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only file of {@link WriteStatus} changes, one JSON document per line.
+ * <p>
+ * Each append is forced to disk before it returns, so an accepted write survives a crash. Replaying the journal
+ * yields the latest state of every write in the order the writes were accepted. A torn last line, left by a crash
+ * during an append, is skipped. The journal is compacted by rewriting it with only the states worth keeping.
+ */
+class WriteJournal implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteJournal.class);
+
+    private final Path path;
+
+    private final ObjectMapper objectMapper;
+
+    private FileChannel channel;
+
+    WriteJournal(final Path path, final ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return the latest state of every write in the journal, in the order the writes were accepted
+     */
+    synchronized List<WriteStatus> replay() throws IOException {
+        Map<String, WriteStatus> latest = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    WriteStatus status = objectMapper.readValue(line, WriteStatus.class);
+                    latest.put(status.id(), status);
+                } catch (JsonProcessingException e) {
+                    logger.warn("Skipping unreadable write journal entry in {}: {}", path, e.getOriginalMessage());
+                }
+            }
+        } catch (NoSuchFileException e) {
+            return List.of();
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    synchronized void append(final WriteStatus status) throws IOException {
+        if (channel == null) {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            channel = FileChannel.open(
+                    path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        write(channel, status);
+        channel.force(false);
+    }
+
+    /**
+     * Replaces the journal with the given states.
+     *
+     * @param retained the states to keep, in acceptance order
+     */
+    synchronized void compact(final Collection<WriteStatus> retained) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(
+                temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (WriteStatus status : retained) {
+                write(out, status);
+            }
+            out.force(false);
+        }
+        close();
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.debug("Compacted write journal {} to {} entries", path, retained.size());
+    }
+
+    private void write(final FileChannel target, final WriteStatus status) throws IOException {
+        String json = objectMapper.writeValueAsString(status) + "\n";
+        ByteBuffer line = ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+        while (line.hasRemaining()) {
+            target.write(line);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.reliaquest.api.write;
+
+import com.reliaquest.api.dto.CreateEmployeeRequest;
+import com.reliaquest.api.dto.Employee;
+import java.time.Instant;
+
+/**
+ * State of a write accepted by the {@link WriteBehindQueue}. Every change of state is appended to the write
+ * journal, and the latest state of each write is served by the write status endpoint.
+ *
+ * @param id the tracking id
+ * @param operation what the write does
+ * @param state where the write is in its lifecycle
+ * @param employeeId the employee deleted, or the id assigned to the created employee once known
+ * @param employeeName the name of the created or deleted employee once known
+ * @param request the employee to create; null for deletes
+ * @param employee the created employee; null for deletes and until the create succeeded
+ * @param error the last failure, if any
+ * @param attempts how often the write was sent upstream
+ * @param acceptedAt when the write was accepted
+ * @param completedAt when the write succeeded, failed for good or ended with an unknown outcome; null while pending
+ */
+public record WriteStatus(
+        String id,
+        Operation operation,
+        State state,
+        String employeeId,
+        String employeeName,
+        CreateEmployeeRequest request,
+        Employee employee,
+        String error,
+        int attempts,
+        Instant acceptedAt,
+        Instant completedAt) {
+
+    public enum Operation {
+        CREATE,
+        DELETE
+    }
+
+    public enum State {
+        PENDING,
+        SUCCEEDED,
+        FAILED,
+        /**
+         * A create whose request may or may not have reached the upstream, such as one that timed out. It is not
+         * retried, since the upstream has no idempotency key to recognise a second attempt by.
+         */
+        UNKNOWN
+    }
+
+    static WriteStatus pendingCreate(final String id, final CreateEmployeeRequest request) {
+        return new WriteStatus(
+                id, Operation.CREATE, State.PENDING, null, null, request, null, null, 0, Instant.now(), null);
+    }
+
+    static WriteStatus pendingDelete(final String id, final String employeeId) {
+        return new WriteStatus(
+                id, Operation.DELETE, State.PENDING, employeeId, null, null, null, null, 0, Instant.now(), null);
+    }
+
+    boolean isPending() {
+        return state == State.PENDING;
+    }
+
+    WriteStatus attempted(final String failure) {
+        return new WriteStatus(
+                id,
+                operation,
+                state,
+                employeeId,
+                employeeName,
+                request,
+                employee,
+                failure,
+                attempts + 1,
+                acceptedAt,
+                completedAt);
+    }
+
+    WriteStatus created(final Employee created) {
+        return new WriteStatus(
+                id,
+                operation,
+                State.SUCCEEDED,
+                created.getId(),
+                created.getName(),
+                request,
+                created,
+                null,
+                attempts + 1,
+                acceptedAt,
+                Instant.now());
+    }
+
+    WriteStatus deleted(final String deletedName) {
+        return new WriteStatus(
+                id,
+                operation,
+                State.SUCCEEDED,
+                employeeId,
+                deletedName,
+                request,
+                null,
+                null,
+                attempts + 1,
+                acceptedAt,
+                Instant.now());
+    }
+
+    WriteStatus failed(final String failure) {
+        return new WriteStatus(
+                id,
+                operation,
+                State.FAILED,
+                employeeId,
+                employeeName,
+                request,
+                employee,
+                failure,
+                attempts,
+                acceptedAt,
+                Instant.now());
+    }
+
+    WriteStatus unknown(final String failure) {
+        return new WriteStatus(
+                id,
+                operation,
+                State.UNKNOWN,
+                employeeId,
+                employeeName,
+                request,
+                employee,
+                failure,
+                attempts,
+                acceptedAt,
+                Instant.now());
+    }
+}
@@ -0,0 +1,132 @@
+package com.reliaquest.api.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.cache.LastKnownGoodRoster;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.exception.AdmissionRejectedException;
+import com.reliaquest.api.exception.RateLimitException;
+import com.reliaquest.api.write.WriteBehindQueue;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionInterceptorTest {
+
+    @Mock
+    private RosterCache mockRosterCache;
+
+    @Mock
+    private LastKnownGoodRoster mockLastKnownGoodRoster;
+
+    @Mock
+    private WriteBehindQueue mockWriteBehindQueue;
+
+    @Mock
+    private EmployeeController mockEmployeeController;
+
+    private final UpstreamAdmission upstreamAdmission = new UpstreamAdmission(true, Duration.ofSeconds(5));
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private AdmissionInterceptor interceptor;
+
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.ofDefaults(), upstreamAdmission);
+        interceptor = new AdmissionInterceptor(
+                upstreamAdmission, mockRosterCache, mockLastKnownGoodRoster, mockWriteBehindQueue);
+        handler = new HandlerMethod(mockEmployeeController, EmployeeController.class.getMethod("getAllEmployees"));
+    }
+
+    @Test
+    @DisplayName("Should keep shedding after a 429 when the next read is answered from the cache")
+    void preHandle_WhenCachedReadFollowsRateLimit_ShouldStillShed() {
+        List<Employee> roster = List.of(new Employee());
+        CircuitBreaker fetch = circuitBreakerRegistry.circuitBreaker(ApiClient.FETCH);
+        CircuitBreaker create = circuitBreakerRegistry.circuitBreaker(ApiClient.CREATE);
+        create.onError(0, TimeUnit.MILLISECONDS, new RateLimitException("Rate limit exceeded", 30));
+
+        // The cache sits inside the circuit breaker, so a cache hit is recorded as a successful call
+        when(mockRosterCache.peek()).thenReturn(roster);
+        assertThat(interceptor.preHandle(request("GET"), new MockHttpServletResponse(), handler))
+                .isTrue();
+        assertThat(fetch.executeSupplier(() -> roster)).isSameAs(roster);
+
+        assertThatThrownBy(() -> interceptor.preHandle(request("POST"), new MockHttpServletResponse(), handler))
+                .isInstanceOfSatisfying(AdmissionRejectedException.class, e -> {
+                    assertThat(e.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                    assertThat(e.getRetryAfterSeconds()).isBetween(29L, 30L);
+                });
+    }
+
+    @Test
+    @DisplayName("Should admit again once the upstream answers a call successfully")
+    void preHandle_WhenUpstreamSucceededAfterRateLimit_ShouldAdmit() {
+        circuitBreakerRegistry
+                .circuitBreaker(ApiClient.CREATE)
+                .onError(0, TimeUnit.MILLISECONDS, new RateLimitException("Rate limit exceeded", 30));
+
+        upstreamAdmission.onUpstreamSuccess();
+
+        assertThat(interceptor.preHandle(request("POST"), new MockHttpServletResponse(), handler))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("Should let uncached reads through while a last known good roster can answer them")
+    void preHandle_WhenUncachedReadHasLastKnownGood_ShouldAdmit() {
+        circuitBreakerRegistry
+                .circuitBreaker(ApiClient.FETCH)
+                .onError(0, TimeUnit.MILLISECONDS, new RateLimitException("Rate limit exceeded", 30));
+        when(mockRosterCache.peek()).thenReturn(null);
+        when(mockLastKnownGoodRoster.isAvailable()).thenReturn(true);
+
+        assertThat(interceptor.preHandle(request("GET"), new MockHttpServletResponse(), handler))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("Should shed bulk deletes in write-behind mode, which only queues single deletes")
+    void preHandle_WhenWriteBehindAndBulkDelete_ShouldShed() throws NoSuchMethodException {
+        circuitBreakerRegistry
+                .circuitBreaker(ApiClient.DELETE)
+                .onError(0, TimeUnit.MILLISECONDS, new RateLimitException("Rate limit exceeded", 30));
+        when(mockWriteBehindQueue.isEnabled()).thenReturn(true);
+        HandlerMethod deleteOne = new HandlerMethod(
+                mockEmployeeController, EmployeeController.class.getMethod("deleteEmployeeById", String.class));
+        HandlerMethod deleteMany = new HandlerMethod(
+                mockEmployeeController, EmployeeController.class.getMethod("deleteEmployeesByIds", List.class));
+
+        assertThat(interceptor.preHandle(request("DELETE"), new MockHttpServletResponse(), deleteOne))
+                .isTrue();
+        assertThatThrownBy(() -> interceptor.preHandle(request("DELETE"), new MockHttpServletResponse(), deleteMany))
+                .isInstanceOfSatisfying(AdmissionRejectedException.class, e -> assertThat(e.getStatus())
+                        .isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+    }
+
+    private static MockHttpServletRequest request(final String method) {
+        return new MockHttpServletRequest(method, "/api/v1/employee");
+    }
+}
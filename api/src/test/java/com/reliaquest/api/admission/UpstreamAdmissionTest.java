@@ -0,0 +1,106 @@
+package com.reliaquest.api.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.api.exception.AdmissionRejectedException;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class UpstreamAdmissionTest {
+
+    private static final String FETCH = "employeeFetch";
+
+    private static final String CREATE = "employeeCreate";
+
+    private static final long NOW = 1_000_000L;
+
+    private final UpstreamAdmission admission = new UpstreamAdmission(true, Duration.ofSeconds(5));
+
+    @Test
+    @DisplayName("Should admit calls while nothing is known against the upstream")
+    void check_WhenUpstreamHealthy_ShouldAdmit() {
+        assertThatCode(() -> admission.check(FETCH, NOW)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should reject with 429 for the throttle backoff after a rate limit without Retry-After")
+    void check_WhenRateLimited_ShouldRejectUntilBackoffElapses() {
+        admission.onRateLimited(null, NOW);
+
+        assertThatThrownBy(() -> admission.check(FETCH, NOW + 1200))
+                .isInstanceOfSatisfying(AdmissionRejectedException.class, e -> {
+                    assertThat(e.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(4);
+                });
+        assertThatThrownBy(() -> admission.check(CREATE, NOW + 1200)).isInstanceOf(AdmissionRejectedException.class);
+        assertThatCode(() -> admission.check(FETCH, NOW + 5000)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should honour the upstream's Retry-After and never shorten a longer throttle")
+    void check_WhenRateLimitedWithRetryAfter_ShouldUseIt() {
+        admission.onRateLimited(20, NOW);
+        admission.onRateLimited(null, NOW + 1000);
+
+        assertThatThrownBy(() -> admission.check(FETCH, NOW + 1000))
+                .isInstanceOfSatisfying(AdmissionRejectedException.class, e -> assertThat(e.getRetryAfterSeconds())
+                        .isEqualTo(19));
+    }
+
+    @Test
+    @DisplayName("Should admit again once the upstream answers a call successfully")
+    void check_WhenCallSucceededAfterRateLimit_ShouldAdmit() {
+        admission.onRateLimited(null, NOW);
+        admission.onUpstreamSuccess();
+
+        assertThatCode(() -> admission.check(FETCH, NOW)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should reject with 503 only the instance whose circuit is open, for its remaining open time")
+    void check_WhenCircuitOpen_ShouldRejectThatInstance() {
+        admission.onOpened(FETCH, Duration.ofSeconds(30), NOW);
+
+        assertThatThrownBy(() -> admission.check(FETCH, NOW + 10_000))
+                .isInstanceOfSatisfying(AdmissionRejectedException.class, e -> {
+                    assertThat(e.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(20);
+                });
+        assertThatCode(() -> admission.check(CREATE, NOW + 10_000)).doesNotThrowAnyException();
+        assertThatCode(() -> admission.check(FETCH, NOW + 30_000)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should admit once the circuit leaves the open state")
+    void check_WhenCircuitLeftOpen_ShouldAdmit() {
+        admission.onOpened(FETCH, Duration.ofSeconds(30), NOW);
+        admission.onLeftOpen(FETCH);
+
+        assertThatCode(() -> admission.check(FETCH, NOW + 1000)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should report the time left until an open circuit half-opens, not its full wait")
+    void secondsUntilHalfOpen_WhenCircuitOpen_ShouldReportTimeLeft() {
+        assertThat(admission.secondsUntilHalfOpen(FETCH, NOW)).isEmpty();
+
+        admission.onOpened(FETCH, Duration.ofSeconds(30), NOW);
+
+        assertThat(admission.secondsUntilHalfOpen(FETCH, NOW + 20_000)).hasValue(10);
+        assertThat(admission.secondsUntilHalfOpen(FETCH, NOW + 31_000)).hasValue(1);
+        assertThat(admission.secondsUntilHalfOpen(CREATE, NOW)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should admit everything when disabled")
+    void admit_WhenDisabled_ShouldAdmit() {
+        UpstreamAdmission disabled = new UpstreamAdmission(false, Duration.ofSeconds(5));
+        disabled.onRateLimited(60, System.currentTimeMillis());
+
+        assertThatCode(() -> disabled.admit(FETCH)).doesNotThrowAnyException();
+    }
+}
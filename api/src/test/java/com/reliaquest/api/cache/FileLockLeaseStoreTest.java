@@ -0,0 +1,35 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileLockLeaseStoreTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(3);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Only one node should hold the lease until it is released")
+    void tryAcquire_ShouldElectSingleHolder() {
+        Path lockFile = directory.resolve("locks").resolve("refresh.lock");
+        FileLockLeaseStore first = new FileLockLeaseStore(lockFile);
+        FileLockLeaseStore second = new FileLockLeaseStore(lockFile);
+
+        assertThat(first.tryAcquire("node-1", LEASE)).isTrue();
+        assertThat(first.tryAcquire("node-1", LEASE)).isTrue();
+        assertThat(second.tryAcquire("node-2", LEASE)).isFalse();
+
+        first.release("node-1");
+
+        assertThat(second.tryAcquire("node-2", LEASE)).isTrue();
+        assertThat(first.tryAcquire("node-1", LEASE)).isFalse();
+        second.release("node-2");
+    }
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.exception.RateLimitException;
+import com.reliaquest.api.exception.ResourceNotFoundException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(MockitoExtension.class)
+class LastKnownGoodRosterTest {
+
+    private static final Duration MAX_STALENESS = Duration.ofMinutes(15);
+
+    @Mock
+    private RosterCache mockRosterCache;
+
+    private MockHttpServletResponse response;
+
+    private LastKnownGoodRoster lastKnownGoodRoster;
+
+    @BeforeEach
+    void setUp() {
+        response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+        lastKnownGoodRoster = new LastKnownGoodRoster(mockRosterCache, true, MAX_STALENESS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("recover should serve the last known good roster and mark the response stale")
+    void recover_WhenUpstreamRateLimited_ShouldServeStaleRoster() {
+        List<Employee> roster = List.of(new Employee());
+        long writtenAt = System.currentTimeMillis() - Duration.ofMinutes(5).toMillis();
+        when(mockRosterCache.lastKnownGood(MAX_STALENESS))
+                .thenReturn(Optional.of(new RosterSnapshot(7, writtenAt, roster)));
+
+        List<Employee> result = lastKnownGoodRoster.recover(new RateLimitException("Rate limit exceeded"));
+
+        assertThat(result).isSameAs(roster);
+        assertThat(Long.parseLong(response.getHeader(LastKnownGoodRoster.DATA_AGE_HEADER)))
+                .isBetween(299L, 301L);
+        assertThat(response.getHeader(HttpHeaders.WARNING)).isEqualTo(LastKnownGoodRoster.STALE_WARNING);
+    }
+
+    @Test
+    @DisplayName("recover should serve the last known good roster while the circuit breaker is open")
+    void recover_WhenCircuitOpen_ShouldServeStaleRoster() {
+        List<Employee> roster = List.of(new Employee());
+        when(mockRosterCache.lastKnownGood(MAX_STALENESS))
+                .thenReturn(Optional.of(new RosterSnapshot(7, System.currentTimeMillis(), roster)));
+        CallNotPermittedException failure =
+                CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("employeeFetch"));
+
+        assertThat(lastKnownGoodRoster.recover(failure)).isSameAs(roster);
+    }
+
+    @Test
+    @DisplayName("recover should rethrow when no roster within the staleness bound is known")
+    void recover_WhenNoRosterKnown_ShouldRethrow() {
+        RateLimitException failure = new RateLimitException("Rate limit exceeded");
+        when(mockRosterCache.lastKnownGood(MAX_STALENESS)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> lastKnownGoodRoster.recover(failure)).isSameAs(failure);
+        assertThat(response.getHeader(LastKnownGoodRoster.DATA_AGE_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("recover should rethrow failures that do not mean the upstream is unavailable")
+    void recover_WhenNotUpstreamFailure_ShouldRethrow() {
+        ResourceNotFoundException failure = new ResourceNotFoundException("Employee endpoint not found");
+
+        assertThatThrownBy(() -> lastKnownGoodRoster.recover(failure)).isSameAs(failure);
+        verifyNoInteractions(mockRosterCache);
+    }
+
+    @Test
+    @DisplayName("recover should rethrow when degraded mode is disabled")
+    void recover_WhenDisabled_ShouldRethrow() {
+        LastKnownGoodRoster disabled = new LastKnownGoodRoster(mockRosterCache, false, MAX_STALENESS);
+        RateLimitException failure = new RateLimitException("Rate limit exceeded");
+
+        assertThatThrownBy(() -> disabled.recover(failure)).isSameAs(failure);
+        verifyNoInteractions(mockRosterCache);
+    }
+}
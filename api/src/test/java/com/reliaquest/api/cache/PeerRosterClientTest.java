@@ -0,0 +1,89 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.dto.Employee;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PeerRosterClientTest {
+
+    private final List<HttpServer> peers = new ArrayList<>();
+
+    private final List<String> ifNoneMatch = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        peers.forEach(peer -> peer.stop(0));
+    }
+
+    @Test
+    @DisplayName("Should fill from the peer holding the most recently loaded roster, not the first one asked")
+    void read_ShouldPickFreshestPeer() throws IOException {
+        long now = System.currentTimeMillis();
+        RosterSnapshot older = new RosterSnapshot(9, now - 5000, List.of(employee("1")));
+        RosterSnapshot newer = new RosterSnapshot(2, now - 1000, List.of(employee("1"), employee("2")));
+        PeerRosterClient client = newClient(startPeer(older), startPeer(newer));
+
+        Optional<RosterSnapshot> snapshot = client.read();
+
+        assertThat(snapshot).isPresent();
+        assertThat(snapshot.get().version()).isEqualTo(2);
+        assertThat(snapshot.get().employees()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should send the held snapshot's ETag and reuse the snapshot when the peer answers 304")
+    void read_WhenPeerUnchanged_ShouldReuseHeldSnapshot() throws IOException {
+        RosterSnapshot published = new RosterSnapshot(3, System.currentTimeMillis(), List.of(employee("1")));
+        PeerRosterClient client = newClient(startPeer(published));
+
+        RosterSnapshot first = client.read().orElseThrow();
+        RosterSnapshot second = client.read().orElseThrow();
+
+        assertThat(ifNoneMatch).containsExactly("", published.etag());
+        assertThat(second).isSameAs(first);
+    }
+
+    private PeerRosterClient newClient(final String... peerUrls) {
+        return new PeerRosterClient(true, List.of(peerUrls), Duration.ofSeconds(2), Duration.ofMinutes(2));
+    }
+
+    private String startPeer(final RosterSnapshot snapshot) throws IOException {
+        byte[] body = RosterSnapshotCodec.encode(snapshot);
+        HttpServer peer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        peer.createContext(PeerRosterClient.SNAPSHOT_PATH, exchange -> {
+            String etag = exchange.getRequestHeaders().getFirst("If-None-Match");
+            synchronized (ifNoneMatch) {
+                ifNoneMatch.add(etag == null ? "" : etag);
+            }
+            exchange.getResponseHeaders().add("ETag", snapshot.etag());
+            if (snapshot.etag().equals(etag)) {
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                exchange.getResponseHeaders().add("Content-Type", RosterSnapshotCodec.MEDIA_TYPE.toString());
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            }
+            exchange.close();
+        });
+        peer.start();
+        peers.add(peer);
+        return "http://localhost:" + peer.getAddress().getPort();
+    }
+
+    private static Employee employee(final String id) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName("Employee " + id);
+        return employee;
+    }
+}
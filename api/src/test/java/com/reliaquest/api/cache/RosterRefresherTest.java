@@ -0,0 +1,167 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.exception.RateLimitException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+
+@ExtendWith(MockitoExtension.class)
+class RosterRefresherTest {
+
+    @Mock
+    private ApiClient mockApiClient;
+
+    @Mock
+    private RosterCache mockRosterCache;
+
+    @Mock
+    private RosterCoordinator mockCoordinator;
+
+    @Mock
+    private RosterIndex mockRosterIndex;
+
+    private RosterRefresher refresher;
+
+    private RosterCacheHealthIndicator healthIndicator;
+
+    private List<Employee> roster;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(mockCoordinator.tryLead()).thenReturn(true);
+        refresher = new RosterRefresher(
+                mockApiClient,
+                mockRosterCache,
+                mockCoordinator,
+                List.of(mockRosterIndex),
+                true,
+                Duration.ofMinutes(10),
+                Duration.ofSeconds(1),
+                Duration.ofMinutes(10));
+        healthIndicator = new RosterCacheHealthIndicator(refresher);
+        roster = List.of(new Employee(), new Employee());
+    }
+
+    @AfterEach
+    void tearDown() {
+        refresher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should report out of service until the roster is primed")
+    void health_BeforePriming_ShouldBeOutOfService() {
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+    }
+
+    @Test
+    @DisplayName("Priming should load the roster through the cache and prepare indexes")
+    void prime_WhenLoadSucceeds_ShouldBecomeReady() {
+        when(mockApiClient.fetchAllEmployees()).thenReturn(roster);
+
+        refresher.prime();
+
+        assertThat(refresher.isPrimed()).isTrue();
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(healthIndicator.health().getDetails()).containsEntry("employees", 2);
+        verify(mockRosterIndex).prepare(roster);
+        verify(mockApiClient, never()).refreshAllEmployees();
+    }
+
+    @Test
+    @DisplayName("Priming failures should keep the instance out of service")
+    void prime_WhenLoadFails_ShouldStayNotReady() {
+        when(mockApiClient.fetchAllEmployees()).thenThrow(new RateLimitException("Rate limit exceeded"));
+
+        refresher.prime();
+
+        assertThat(refresher.isPrimed()).isFalse();
+        verifyNoInteractions(mockRosterIndex);
+    }
+
+    @Test
+    @DisplayName("Refreshing should bypass the cache and prepare indexes for the new roster")
+    void refresh_ShouldReloadRoster() {
+        when(mockApiClient.refreshAllEmployees()).thenReturn(roster);
+
+        refresher.refresh();
+
+        verify(mockApiClient).refreshAllEmployees();
+        verify(mockRosterIndex).prepare(roster);
+        assertThat(refresher.getLastLoad()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Followers should adopt the leader's roster instead of calling upstream")
+    void refresh_WhenFollower_ShouldAdoptPublishedRoster() {
+        RosterSnapshot published = new RosterSnapshot(5, System.currentTimeMillis(), roster);
+        when(mockCoordinator.tryLead()).thenReturn(false);
+        when(mockCoordinator.readPublished()).thenReturn(Optional.of(published));
+        when(mockRosterCache.adopt(published)).thenReturn(roster);
+
+        refresher.prime();
+        refresher.refresh();
+
+        assertThat(refresher.isPrimed()).isTrue();
+        verify(mockRosterCache, times(2)).adopt(published);
+        verify(mockRosterIndex, times(2)).prepare(roster);
+        verifyNoInteractions(mockApiClient);
+    }
+
+    @Test
+    @DisplayName("Followers should stay not ready until the leader publishes")
+    void prime_WhenFollowerAndNothingPublished_ShouldStayNotReady() {
+        when(mockCoordinator.tryLead()).thenReturn(false);
+        when(mockCoordinator.readPublished()).thenReturn(Optional.empty());
+
+        refresher.prime();
+
+        assertThat(refresher.isPrimed()).isFalse();
+        verifyNoInteractions(mockApiClient, mockRosterCache);
+    }
+
+    @Test
+    @DisplayName("Should report ready when priming is disabled")
+    void isPrimed_WhenDisabled_ShouldBeTrue() {
+        RosterRefresher disabled = new RosterRefresher(
+                mockApiClient,
+                mockRosterCache,
+                mockCoordinator,
+                List.of(),
+                false,
+                Duration.ofMinutes(1),
+                Duration.ZERO,
+                Duration.ofSeconds(1));
+
+        disabled.start();
+
+        assertThat(disabled.isPrimed()).isTrue();
+        verifyNoInteractions(mockApiClient);
+        disabled.shutdown();
+    }
+
+    @Test
+    @DisplayName("Delays should stay within their jitter and backoff bounds")
+    void delays_ShouldStayWithinBounds() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(RosterRefresher.jittered(Duration.ofSeconds(90), Duration.ofSeconds(15)))
+                    .isBetween(Duration.ofSeconds(75), Duration.ofSeconds(105));
+            assertThat(RosterRefresher.backoff(Duration.ofSeconds(2), Duration.ofSeconds(90), 3))
+                    .isBetween(Duration.ofSeconds(4), Duration.ofSeconds(8));
+            assertThat(RosterRefresher.backoff(Duration.ofSeconds(2), Duration.ofSeconds(90), 30))
+                    .isBetween(Duration.ofSeconds(45), Duration.ofSeconds(90));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.scan.ParallelScanner;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SearchResultCacheTest {
+
+    private SearchResultCache searchResultCache;
+
+    private List<Employee> roster;
+
+    @BeforeEach
+    void setUp() {
+        searchResultCache = new SearchResultCache(new ParallelScanner(1, Integer.MAX_VALUE, 1024), 100, 10);
+        roster = List.of(employee("1", "John Doe"), employee("2", "Jane Smith"), employee("3", "Bob Johnson"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchResultCache.shutdown();
+    }
+
+    @Test
+    @DisplayName("search should match names case-insensitively and reuse the result for the same roster")
+    void search_WhenRepeatedOnSameRoster_ShouldReuseResult() {
+        List<Employee> first = searchResultCache.search(roster, "JOHN");
+        List<Employee> second = searchResultCache.search(roster, "john");
+
+        assertThat(first).extracting(Employee::getName).containsExactly("John Doe", "Bob Johnson");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("search should not serve a result computed from another roster")
+    void search_WhenRosterChanged_ShouldRecompute() {
+        searchResultCache.search(roster, "john");
+        List<Employee> reloaded = List.of(employee("1", "John Doe"));
+
+        List<Employee> result = searchResultCache.search(reloaded, "john");
+
+        assertThat(result).extracting(Employee::getId).containsExactly("1");
+        assertThat(searchResultCache.peek(roster, "john")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("prepare should re-materialize hot queries against the new roster")
+    void prepare_WhenRosterReloaded_ShouldWarmHotQueries() throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            searchResultCache.search(roster, "jane");
+        }
+        List<Employee> reloaded = List.of(employee("2", "Jane Smith"), employee("4", "Mary Jane"));
+
+        searchResultCache.prepare(reloaded);
+
+        Optional<List<Employee>> warmed = awaitPeek(reloaded, "jane");
+        assertThat(warmed)
+                .hasValueSatisfying(matches ->
+                        assertThat(matches).extracting(Employee::getId).containsExactly("2", "4"));
+    }
+
+    @Test
+    @DisplayName("search should recompute a result after the roster moved on, even for an earlier roster instance")
+    void search_WhenEarlierRosterReturns_ShouldRecompute() {
+        List<Employee> first = searchResultCache.search(roster, "john");
+        List<Employee> patched = List.of(employee("1", "John Doe"));
+        searchResultCache.search(patched, "john");
+
+        List<Employee> again = searchResultCache.search(roster, "john");
+
+        assertThat(again).isNotSameAs(first).extracting(Employee::getId).containsExactly("1", "3");
+        assertThat(searchResultCache.peek(patched, "john")).isEmpty();
+    }
+
+    private Optional<List<Employee>> awaitPeek(final List<Employee> forRoster, final String query)
+            throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Optional<List<Employee>> cached = searchResultCache.peek(forRoster, query);
+            if (cached.isPresent()) {
+                return cached;
+            }
+            Thread.sleep(10);
+        }
+        return Optional.empty();
+    }
+
+    private static Employee employee(final String id, final String name) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName(name);
+        return employee;
+    }
+}
@@ -0,0 +1,224 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.dto.Employee;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+class SnapshotTieredCacheTest {
+
+    @TempDir
+    private Path directory;
+
+    private Path snapshotFile;
+
+    private List<Employee> roster;
+
+    @BeforeEach
+    void setUp() {
+        snapshotFile = directory.resolve("roster.snapshot");
+
+        Employee employee1 = new Employee();
+        employee1.setId("1");
+        employee1.setName("John Doe");
+        employee1.setSalary(50000);
+        employee1.setAge(30);
+        employee1.setTitle("Developer");
+        employee1.setEmail("john@example.com");
+
+        Employee employee2 = new Employee();
+        employee2.setId("2");
+        employee2.setName("Zo\u00eb \u00dcnal");
+        roster = List.of(employee1, employee2);
+    }
+
+    @Test
+    @DisplayName("Codec should round-trip employees including null attributes")
+    void codec_ShouldRoundTripSnapshot() {
+        byte[] bytes = RosterSnapshotCodec.encode(new RosterSnapshot(7, 1234L, roster));
+
+        RosterSnapshot decoded = RosterSnapshotCodec.decode(ByteBuffer.wrap(bytes));
+
+        assertThat(decoded.version()).isEqualTo(7);
+        assertThat(decoded.writtenAtMillis()).isEqualTo(1234L);
+        assertThat(decoded.employees())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(roster);
+    }
+
+    @Test
+    @DisplayName("Codec should reject truncated or corrupted snapshots")
+    void codec_WithCorruptBytes_ShouldThrow() {
+        byte[] bytes = RosterSnapshotCodec.encode(new RosterSnapshot(1, 1234L, roster));
+        byte[] corrupted = bytes.clone();
+        corrupted[30] ^= 1;
+
+        assertThatThrownBy(() -> RosterSnapshotCodec.decode(ByteBuffer.wrap(Arrays.copyOf(bytes, 20))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RosterSnapshotCodec.decode(ByteBuffer.wrap(corrupted)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("checksum");
+    }
+
+    @Test
+    @DisplayName("A new process should serve the roster another process put into its cache")
+    void get_OnL1Miss_ShouldLoadSnapshotWrittenBySibling() throws InterruptedException {
+        RosterSnapshotStore writerStore = new RosterSnapshotStore(true, snapshotFile, Duration.ofMinutes(2));
+        new SnapshotTieredCache(new ConcurrentMapCache(RosterCache.CACHE_NAME), writerStore, List.of(writerStore))
+                .put(RosterCache.ROSTER_KEY, roster);
+        writerStore.shutdown();
+
+        ConcurrentMapCache l1 = new ConcurrentMapCache(RosterCache.CACHE_NAME);
+        RosterSnapshotStore store = new RosterSnapshotStore(true, snapshotFile, Duration.ofMinutes(2));
+        SnapshotTieredCache cache = new SnapshotTieredCache(l1, store, List.of(store));
+
+        List<?> loaded = cache.get(RosterCache.ROSTER_KEY, List.class);
+
+        assertThat(loaded).hasSize(2);
+        assertThat(l1.get(RosterCache.ROSTER_KEY)).isNotNull();
+        assertThat(Files.exists(snapshotFile)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Snapshots older than the max age should be ignored")
+    void get_WithStaleSnapshot_ShouldMiss() throws Exception {
+        Files.write(snapshotFile, RosterSnapshotCodec.encode(new RosterSnapshot(1, 0L, roster)));
+        RosterSnapshotStore store = new RosterSnapshotStore(true, snapshotFile, Duration.ofMinutes(2));
+        SnapshotTieredCache cache =
+                new SnapshotTieredCache(new ConcurrentMapCache(RosterCache.CACHE_NAME), store, List.of(store));
+
+        assertThat(cache.get(RosterCache.ROSTER_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("Evicting the roster should delete the snapshot")
+    void evict_ShouldDeleteSnapshot() throws Exception {
+        Files.write(
+                snapshotFile, RosterSnapshotCodec.encode(new RosterSnapshot(1, System.currentTimeMillis(), roster)));
+        RosterSnapshotStore store = new RosterSnapshotStore(true, snapshotFile, Duration.ofMinutes(2));
+        SnapshotTieredCache cache =
+                new SnapshotTieredCache(new ConcurrentMapCache(RosterCache.CACHE_NAME), store, List.of(store));
+
+        cache.evict(RosterCache.ROSTER_KEY);
+
+        assertThat(Files.exists(snapshotFile)).isFalse();
+        assertThat(cache.get(RosterCache.ROSTER_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("A miss should be filled from a peer, keeping the peer's write time, and served to other peers")
+    void get_OnL1Miss_ShouldFillFromPeer() {
+        RosterSnapshot peerSnapshot = new RosterSnapshot(42, System.currentTimeMillis() - 1000, roster);
+        RosterSnapshotStore store = new RosterSnapshotStore(false, snapshotFile, Duration.ofMinutes(2));
+        RosterSnapshotSource peer = () -> Optional.of(peerSnapshot);
+        SnapshotTieredCache cache =
+                new SnapshotTieredCache(new ConcurrentMapCache(RosterCache.CACHE_NAME), store, List.of(store, peer));
+
+        assertThat(cache.localSnapshot()).isEmpty();
+        assertThat(cache.get(RosterCache.ROSTER_KEY).get()).isSameAs(roster);
+        assertThat(cache.localSnapshot()).contains(peerSnapshot);
+    }
+
+    @Test
+    @DisplayName("Puts should be served to peers with a new version until L1 drops the roster")
+    void localSnapshot_ShouldFollowL1() {
+        RosterSnapshotStore store = new RosterSnapshotStore(false, snapshotFile, Duration.ofMinutes(2));
+        ConcurrentMapCache l1 = new ConcurrentMapCache(RosterCache.CACHE_NAME);
+        SnapshotTieredCache cache = new SnapshotTieredCache(l1, store, List.of(store));
+
+        cache.put(RosterCache.ROSTER_KEY, roster);
+        RosterSnapshot first = cache.localSnapshot().orElseThrow();
+        cache.put(RosterCache.ROSTER_KEY, List.of(roster.get(0)));
+        RosterSnapshot second = cache.localSnapshot().orElseThrow();
+
+        assertThat(first.employees()).isSameAs(roster);
+        assertThat(second.version()).isGreaterThan(first.version());
+        l1.clear();
+        assertThat(cache.localSnapshot()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A patch should replace the roster it was made from under a new version and the original write time")
+    void replace_WhenL1HoldsExpected_ShouldKeepWriteTime() throws InterruptedException {
+        RosterSnapshotStore store = new RosterSnapshotStore(false, snapshotFile, Duration.ofMinutes(2));
+        SnapshotTieredCache cache =
+                new SnapshotTieredCache(new ConcurrentMapCache(RosterCache.CACHE_NAME), store, List.of(store));
+        cache.put(RosterCache.ROSTER_KEY, roster);
+        RosterSnapshot loaded = cache.localSnapshot().orElseThrow();
+        List<Employee> patched = List.of(roster.get(0));
+        Thread.sleep(5);
+
+        assertThat(cache.replace(roster, patched)).isTrue();
+
+        RosterSnapshot current = cache.localSnapshot().orElseThrow();
+        assertThat(current.employees()).isSameAs(patched);
+        assertThat(current.version()).isGreaterThan(loaded.version());
+        assertThat(current.writtenAtMillis()).isEqualTo(loaded.writtenAtMillis());
+    }
+
+    @Test
+    @DisplayName("A patch made from a roster that has since been reloaded should not overwrite the reload")
+    void replace_WhenReloadedConcurrently_ShouldNotOverwrite() {
+        RosterSnapshotStore store = new RosterSnapshotStore(false, snapshotFile, Duration.ofMinutes(2));
+        SnapshotTieredCache cache =
+                new SnapshotTieredCache(new ConcurrentMapCache(RosterCache.CACHE_NAME), store, List.of(store));
+        cache.put(RosterCache.ROSTER_KEY, roster);
+        List<Employee> reloaded = new ArrayList<>(roster);
+        cache.put(RosterCache.ROSTER_KEY, reloaded);
+
+        assertThat(cache.replace(roster, List.of(roster.get(0)))).isFalse();
+        assertThat(cache.get(RosterCache.ROSTER_KEY).get()).isSameAs(reloaded);
+    }
+
+    @Test
+    @DisplayName("Patches should not extend how long a roster stays in L1")
+    void get_WhenPatchedRosterOutlivedL1Expiry_ShouldMiss() throws InterruptedException {
+        RosterSnapshotStore store = new RosterSnapshotStore(false, snapshotFile, Duration.ofMinutes(2));
+        CaffeineCache l1 = new CaffeineCache(
+                RosterCache.CACHE_NAME,
+                Caffeine.newBuilder().expireAfterWrite(Duration.ofMillis(400)).build());
+        SnapshotTieredCache cache = new SnapshotTieredCache(l1, store, List.of(store));
+        cache.put(RosterCache.ROSTER_KEY, roster);
+        Thread.sleep(250);
+        assertThat(cache.replace(roster, List.of(roster.get(0)))).isTrue();
+        Thread.sleep(250);
+
+        assertThat(cache.get(RosterCache.ROSTER_KEY)).isNull();
+        assertThat(cache.localSnapshot()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Reading an unchanged snapshot file should reuse the decoded snapshot until the file is replaced")
+    void read_WhenFileUnchanged_ShouldReuseDecodedSnapshot() throws Exception {
+        RosterSnapshotStore store = new RosterSnapshotStore(true, snapshotFile, Duration.ofMinutes(2));
+        Files.write(
+                snapshotFile, RosterSnapshotCodec.encode(new RosterSnapshot(1, System.currentTimeMillis(), roster)));
+
+        RosterSnapshot first = store.read().orElseThrow();
+        RosterSnapshot second = store.read().orElseThrow();
+
+        RosterSnapshotStore sibling = new RosterSnapshotStore(true, snapshotFile, Duration.ofMinutes(2));
+        sibling.write(new RosterSnapshot(2, System.currentTimeMillis(), List.of(roster.get(0))));
+        sibling.shutdown();
+        RosterSnapshot replaced = store.read().orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(replaced.version()).isEqualTo(2);
+        assertThat(replaced.employees()).hasSize(1);
+    }
+}
@@ -0,0 +1,85 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+
+import com.reliaquest.api.admission.UpstreamAdmission;
+import com.reliaquest.api.dto.CreateEmployeeRequest;
+import com.reliaquest.api.exception.AdmissionRejectedException;
+import com.reliaquest.api.exception.RateLimitException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+class ApiClientTest {
+
+    private final UpstreamAdmission upstreamAdmission = new UpstreamAdmission(true, Duration.ofSeconds(5));
+
+    private MockRestServiceServer upstream;
+
+    private ApiClient apiClient;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder().baseUrl("http://localhost/api/v1/employee");
+        upstream = MockRestServiceServer.bindTo(builder).build();
+        apiClient = new ApiClient(
+                builder.build(), upstreamAdmission, new RetryBudget(true, 10, 0.1, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("Should throttle admission for the upstream's Retry-After instead of the default backoff")
+    void fetchAllEmployees_When429WithRetryAfter_ShouldThrottleForRetryAfter() {
+        upstream.expect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "42"));
+        CircuitBreaker fetch = CircuitBreakerRegistry.of(CircuitBreakerConfig.ofDefaults(), upstreamAdmission)
+                .circuitBreaker(ApiClient.FETCH);
+
+        assertThatThrownBy(() -> fetch.executeSupplier(apiClient::fetchAllEmployees))
+                .isInstanceOfSatisfying(RateLimitException.class, e -> assertThat(e.getRetryAfterSeconds())
+                        .isEqualTo(42));
+        assertThatThrownBy(() -> upstreamAdmission.admit(ApiClient.CREATE))
+                .isInstanceOfSatisfying(AdmissionRejectedException.class, e -> assertThat(e.getRetryAfterSeconds())
+                        .isBetween(41L, 42L));
+        upstream.verify();
+    }
+
+    @Test
+    @DisplayName("Should read a Retry-After given as an HTTP date")
+    void createEmployee_When429WithRetryAfterDate_ShouldCarrySecondsLeft() {
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(20));
+        upstream.expect(method(HttpMethod.POST))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, date));
+
+        assertThatThrownBy(
+                        () -> apiClient.createEmployee(new CreateEmployeeRequest("Jane Smith", 75000, 35, "Developer")))
+                .isInstanceOfSatisfying(RateLimitException.class, e -> assertThat(e.getRetryAfterSeconds())
+                        .isBetween(18, 20));
+    }
+
+    @Test
+    @DisplayName("Should leave the wait to the default backoff when Retry-After is missing or malformed")
+    void retryAfterSeconds_WhenMissingOrMalformed_ShouldBeNull() {
+        HttpHeaders malformed = new HttpHeaders();
+        malformed.add(HttpHeaders.RETRY_AFTER, "soon");
+
+        assertThat(ApiClient.retryAfterSeconds(new HttpHeaders())).isNull();
+        assertThat(ApiClient.retryAfterSeconds(malformed)).isNull();
+    }
+}
@@ -0,0 +1,201 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.dto.ApiResponse;
+import com.reliaquest.api.dto.CreateEmployeeRequest;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.exception.ApiClientException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeCreateBatcherTest {
+
+    @Mock
+    private ApiClient mockApiClient;
+
+    private EmployeeCreateBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        batcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Concurrent creates within the window should be sent as one bulk request")
+    void submit_WithinWindow_ShouldSendSingleBulkRequest() {
+        batcher = newBatcher(Duration.ofMillis(200), 50);
+        when(mockApiClient.createEmployees(anyList()))
+                .thenReturn(List.of(success("1", "Alice"), success("2", "Bob"), success("3", "Carol")));
+
+        CompletableFuture<Employee> alice = batcher.submit(request("Alice"));
+        CompletableFuture<Employee> bob = batcher.submit(request("Bob"));
+        CompletableFuture<Employee> carol = batcher.submit(request("Carol"));
+
+        assertThat(alice.orTimeout(5, TimeUnit.SECONDS).join().getId()).isEqualTo("1");
+        assertThat(bob.join().getId()).isEqualTo("2");
+        assertThat(carol.join().getId()).isEqualTo("3");
+        verify(mockApiClient, times(1)).createEmployees(argThat(requests -> requests.size() == 3));
+        verify(mockApiClient, never()).createEmployee(any());
+    }
+
+    @Test
+    @DisplayName("A failed item should only fail its own caller")
+    void submit_WhenOneItemFails_ShouldFailOnlyThatCaller() {
+        batcher = newBatcher(Duration.ofMillis(200), 50);
+        ApiResponse<Employee> failure = new ApiResponse<>();
+        failure.setError("age must be greater than or equal to 16");
+        when(mockApiClient.createEmployees(anyList())).thenReturn(List.of(success("1", "Alice"), failure));
+
+        CompletableFuture<Employee> alice = batcher.submit(request("Alice"));
+        CompletableFuture<Employee> bob = batcher.submit(request("Bob"));
+
+        assertThat(alice.orTimeout(5, TimeUnit.SECONDS).join().getName()).isEqualTo("Alice");
+        assertThatThrownBy(bob::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ApiClientException.class)
+                .hasMessageContaining("age must be greater than or equal to 16");
+    }
+
+    @Test
+    @DisplayName("A lone create should use the single-item endpoint")
+    void create_WhenAlone_ShouldUseSingleCreate() {
+        batcher = newBatcher(Duration.ofMillis(10), 50);
+        when(mockApiClient.createEmployee(any()))
+                .thenReturn(success("1", "Alice").getData());
+
+        List<Employee> created = new CopyOnWriteArrayList<>();
+
+        Employee result = batcher.create(request("Alice"), created::add);
+
+        assertThat(result.getName()).isEqualTo("Alice");
+        assertThat(created).containsExactly(result);
+        verify(mockApiClient, never()).createEmployees(anyList());
+    }
+
+    @Test
+    @DisplayName("A full batch should be sent without waiting for the window to close")
+    void submit_WhenBatchIsFull_ShouldSendImmediately() {
+        batcher = newBatcher(Duration.ofMinutes(1), 2);
+        when(mockApiClient.createEmployees(anyList())).thenReturn(List.of(success("1", "Alice"), success("2", "Bob")));
+
+        CompletableFuture<Employee> alice = batcher.submit(request("Alice"));
+        CompletableFuture<Employee> bob = batcher.submit(request("Bob"));
+
+        assertThat(alice.orTimeout(5, TimeUnit.SECONDS).join().getId()).isEqualTo("1");
+        assertThat(bob.orTimeout(5, TimeUnit.SECONDS).join().getId()).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("An upstream failure should fail every caller in the batch")
+    void submit_WhenBulkRequestFails_ShouldFailAllCallers() {
+        batcher = newBatcher(Duration.ofMillis(100), 50);
+        when(mockApiClient.createEmployees(anyList())).thenThrow(new ApiClientException("upstream down"));
+
+        CompletableFuture<Employee> alice = batcher.submit(request("Alice"));
+        CompletableFuture<Employee> bob = batcher.submit(request("Bob"));
+
+        assertThatThrownBy(() -> alice.orTimeout(5, TimeUnit.SECONDS).join())
+                .hasCauseInstanceOf(ApiClientException.class);
+        assertThatThrownBy(bob::join).hasCauseInstanceOf(ApiClientException.class);
+    }
+
+    @Test
+    @DisplayName("A batch stuck upstream should not hold up the batches after it")
+    void submit_WhenBatchIsSlow_ShouldSendLaterBatchesConcurrently() {
+        batcher = newBatcher(Duration.ofMillis(10), 50);
+        CountDownLatch release = new CountDownLatch(1);
+        when(mockApiClient.createEmployee(any())).thenAnswer(invocation -> {
+            CreateEmployeeRequest request = invocation.getArgument(0);
+            if (request.getName().equals("Slow")) {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return success("id-" + request.getName(), request.getName()).getData();
+        });
+
+        CompletableFuture<Employee> slow = batcher.submit(request("Slow"));
+        verify(mockApiClient, timeout(5000))
+                .createEmployee(argThat(request -> request.getName().equals("Slow")));
+        CompletableFuture<Employee> fast = batcher.submit(request("Fast"));
+
+        assertThat(fast.orTimeout(5, TimeUnit.SECONDS).join().getName()).isEqualTo("Fast");
+        assertThat(slow).isNotDone();
+        release.countDown();
+        assertThat(slow.orTimeout(5, TimeUnit.SECONDS).join().getName()).isEqualTo("Slow");
+    }
+
+    @Test
+    @DisplayName("A caller should give up and withdraw its create when its batch is not sent in time")
+    void create_WhenStillQueuedAtTimeout_ShouldWithdrawAndTimeOut() {
+        batcher = new EmployeeCreateBatcher(mockApiClient, Duration.ofMillis(10), 50, 1, Duration.ofMillis(200));
+        CountDownLatch release = new CountDownLatch(1);
+        when(mockApiClient.createEmployee(any())).thenAnswer(invocation -> {
+            CreateEmployeeRequest request = invocation.getArgument(0);
+            release.await(5, TimeUnit.SECONDS);
+            return success("id-" + request.getName(), request.getName()).getData();
+        });
+        CompletableFuture<Employee> slow = batcher.submit(request("Slow"));
+        verify(mockApiClient, timeout(5000)).createEmployee(any());
+        List<Employee> created = new CopyOnWriteArrayList<>();
+
+        try {
+            assertThatThrownBy(() -> batcher.create(request("Queued"), created::add))
+                    .isInstanceOf(ApiClientException.class)
+                    .hasMessageContaining("Timed out");
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(slow.orTimeout(5, TimeUnit.SECONDS).join().getName()).isEqualTo("Slow");
+        verify(mockApiClient, after(200).never())
+                .createEmployee(argThat(request -> request.getName().equals("Queued")));
+        assertThat(created).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A caller whose create is already sent should wait past the timeout for its outcome")
+    void create_WhenSentBeforeTimeout_ShouldWaitForOutcome() {
+        batcher = new EmployeeCreateBatcher(mockApiClient, Duration.ofMillis(10), 50, 4, Duration.ofMillis(100));
+        when(mockApiClient.createEmployee(any())).thenAnswer(invocation -> {
+            Thread.sleep(400);
+            return success("1", "Alice").getData();
+        });
+        List<Employee> created = new CopyOnWriteArrayList<>();
+
+        Employee result = batcher.create(request("Alice"), created::add);
+
+        assertThat(result.getId()).isEqualTo("1");
+        assertThat(created).containsExactly(result);
+    }
+
+    private EmployeeCreateBatcher newBatcher(Duration window, int maxBatchSize) {
+        return new EmployeeCreateBatcher(mockApiClient, window, maxBatchSize, 4, Duration.ofSeconds(5));
+    }
+
+    private static CreateEmployeeRequest request(String name) {
+        return new CreateEmployeeRequest(name, 50000, 30, "Developer");
+    }
+
+    private static ApiResponse<Employee> success(String id, String name) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName(name);
+        ApiResponse<Employee> response = new ApiResponse<>();
+        response.setData(employee);
+        return response;
+    }
+}
@@ -0,0 +1,146 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.exception.ApiClientException;
+import com.reliaquest.api.exception.RateLimitException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RetryBudgetTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RetryBudget budget = new RetryBudget(true, 10, 0.1, meterRegistry);
+
+    @Test
+    @DisplayName("Should allow retries while more than half of the bucket is left")
+    void withdraw_ShouldStopAtHalfTheBucket() {
+        assertThat(budget.withdraw()).isTrue();
+        assertThat(budget.withdraw()).isTrue();
+        assertThat(budget.withdraw()).isTrue();
+        assertThat(budget.withdraw()).isTrue();
+        assertThat(budget.withdraw()).isFalse();
+        assertThat(budget.tokens()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("Should refill at the token ratio per successful call, up to the bucket size")
+    void deposit_ShouldRefillAtTokenRatio() {
+        for (int i = 0; i < 5; i++) {
+            budget.withdraw();
+        }
+        for (int i = 0; i < 11; i++) {
+            budget.deposit();
+        }
+
+        assertThat(budget.tokens()).isEqualTo(6.1);
+        assertThat(budget.withdraw()).isTrue();
+        assertThat(budget.withdraw()).isFalse();
+
+        for (int i = 0; i < 1000; i++) {
+            budget.deposit();
+        }
+        assertThat(budget.tokens()).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("Should retry configured exceptions until the budget runs out and count the denied retries")
+    void customizer_WhenBudgetExhausted_ShouldDenyRetry() {
+        Predicate<Throwable> retryOn = customizedPredicate(ApiClient.FETCH);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(retryOn.test(new RateLimitException("throttled"))).isTrue();
+        }
+        assertThat(retryOn.test(new RateLimitException("throttled"))).isFalse();
+
+        assertThat(meterRegistry
+                        .get("api.retry.budget.denied")
+                        .tag("name", ApiClient.FETCH)
+                        .counter()
+                        .count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("api.retry.budget.tokens").gauge().value()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("Should deny retries of failing upstream calls however many reads the cache answers in between")
+    void customizer_WhenCachedReadsMixedWithFailures_ShouldDenyRetries() {
+        RetryConfig.Builder<Object> builder = RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(1))
+                .retryExceptions(RateLimitException.class);
+        budget.customizer(ApiClient.FETCH).customize(builder);
+        Retry retry = Retry.of(ApiClient.FETCH, builder.build());
+        CircuitBreaker circuitBreaker = CircuitBreakerRegistry.ofDefaults().circuitBreaker(ApiClient.FETCH);
+        List<Employee> roster = List.of(new Employee());
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        // As in ApiClient, the cache answers inside the circuit breaker, which counts its hits as successes
+        Supplier<List<Employee>> cachedRead =
+                Retry.decorateSupplier(retry, CircuitBreaker.decorateSupplier(circuitBreaker, () -> roster));
+        Supplier<List<Employee>> throttledLoad =
+                Retry.decorateSupplier(retry, CircuitBreaker.decorateSupplier(circuitBreaker, () -> {
+                    upstreamCalls.incrementAndGet();
+                    throw new RateLimitException("throttled");
+                }));
+
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 20; j++) {
+                cachedRead.get();
+            }
+            assertThatThrownBy(throttledLoad::get).isInstanceOf(RateLimitException.class);
+        }
+
+        assertThat(upstreamCalls.get()).isLessThan(15);
+        assertThat(meterRegistry
+                        .get("api.retry.budget.denied")
+                        .tag("name", ApiClient.FETCH)
+                        .counter()
+                        .count())
+                .isGreaterThanOrEqualTo(8.0);
+    }
+
+    @Test
+    @DisplayName("Should not retry or spend tokens on exceptions the retry config does not retry")
+    void customizer_WhenExceptionNotRetryable_ShouldNotSpendTokens() {
+        Predicate<Throwable> retryOn = customizedPredicate(ApiClient.CREATE);
+
+        assertThat(retryOn.test(new ApiClientException("bad request"))).isFalse();
+        assertThat(budget.tokens()).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("Should always allow retries when disabled")
+    void withdraw_WhenDisabled_ShouldAllowRetries() {
+        RetryBudget disabled = new RetryBudget(false, 10, 0.1, meterRegistry);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(disabled.withdraw()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a bucket too small to allow any retry")
+    void constructor_WhenBucketTooSmall_ShouldThrow() {
+        assertThatThrownBy(() -> new RetryBudget(true, 1, 0.1, meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Predicate<Throwable> customizedPredicate(final String instance) {
+        RetryConfig.Builder<Object> builder = RetryConfig.custom().retryExceptions(RateLimitException.class);
+        budget.customizer(instance).customize(builder);
+        return builder.build().getExceptionPredicate();
+    }
+}
@@ -5,7 +5,17 @@ import static org.mockito.Mockito.*;
 
 import com.reliaquest.api.dto.CreateEmployeeRequest;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeFilter;
+import com.reliaquest.api.idempotency.IdempotencyCache;
+import com.reliaquest.api.service.EmployeeAutocompleteService;
+import com.reliaquest.api.service.EmployeeFilterService;
+import com.reliaquest.api.service.EmployeeFuzzySearchService;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.write.QueuedEmployee;
+import com.reliaquest.api.write.WriteBehindQueue;
+import com.reliaquest.api.write.WriteStatus;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -15,9 +25,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeControllerTest {
@@ -25,6 +39,21 @@ class EmployeeControllerTest {
     @Mock
     private EmployeeService employeeService;
 
+    @Mock
+    private EmployeeFilterService employeeFilterService;
+
+    @Mock
+    private EmployeeAutocompleteService autocompleteService;
+
+    @Mock
+    private EmployeeFuzzySearchService fuzzySearchService;
+
+    @Mock
+    private WriteBehindQueue writeBehindQueue;
+
+    @Spy
+    private IdempotencyCache idempotencyCache = new IdempotencyCache(Duration.ofMinutes(1), 100);
+
     @InjectMocks
     private EmployeeController employeeController;
 
@@ -168,6 +197,28 @@ class EmployeeControllerTest {
         verify(employeeService, times(1)).getTopTenHighestEarningEmployeeNames();
     }
 
+    @Test
+    @DisplayName("Should return employees found by fuzzy search")
+    void fuzzySearchEmployees_ShouldReturnMatches() {
+        when(fuzzySearchService.search("jhon", 1)).thenReturn(List.of(testEmployee1));
+
+        ResponseEntity<List<Employee>> response = employeeController.fuzzySearchEmployees("jhon", 1);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(testEmployee1);
+    }
+
+    @Test
+    @DisplayName("Should return autocomplete suggestions")
+    void autocomplete_ShouldReturnSuggestions() {
+        when(autocompleteService.autocomplete("jo", 5)).thenReturn(List.of("John Doe"));
+
+        ResponseEntity<List<String>> response = employeeController.autocomplete("jo", 5);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly("John Doe");
+    }
+
     @Test
     @DisplayName("Should create employee successfully")
     void createEmployee_ShouldCreateAndReturnEmployee() {
@@ -189,6 +240,101 @@ class EmployeeControllerTest {
         verify(employeeService, times(1)).createEmployee(employeeInput);
     }
 
+    @Test
+    @DisplayName("Should create employee once per Idempotency-Key and replay the response")
+    void createEmployee_WhenIdempotencyKeyRepeated_ShouldReplayResponse() {
+        CreateEmployeeRequest employeeInput = new CreateEmployeeRequest("New Employee", 60000, 28, "Junior Developer");
+        when(employeeService.createEmployee(employeeInput)).thenReturn(testEmployee1);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(IdempotencyCache.IDEMPOTENCY_KEY_HEADER, "create-1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        try {
+            ResponseEntity<Employee> first = employeeController.createEmployee(employeeInput);
+            ResponseEntity<Employee> replay = employeeController.createEmployee(employeeInput);
+
+            assertThat(first.getBody()).isEqualTo(testEmployee1);
+            assertThat(first.getHeaders().containsKey(IdempotencyCache.REPLAYED_HEADER))
+                    .isFalse();
+            assertThat(replay.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(replay.getBody()).isEqualTo(testEmployee1);
+            assertThat(replay.getHeaders().getFirst(IdempotencyCache.REPLAYED_HEADER))
+                    .isEqualTo("true");
+            verify(employeeService, times(1)).createEmployee(employeeInput);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    @DisplayName("Should accept creation with 202 and a status location in write-behind mode")
+    void createEmployee_WhenWriteBehindEnabled_ShouldReturn202() {
+        CreateEmployeeRequest employeeInput = new CreateEmployeeRequest("New Employee", 60000, 28, "Junior Developer");
+        WriteStatus write = new WriteStatus(
+                "w-1",
+                WriteStatus.Operation.CREATE,
+                WriteStatus.State.PENDING,
+                null,
+                null,
+                employeeInput,
+                null,
+                null,
+                0,
+                Instant.now(),
+                null);
+        when(writeBehindQueue.isEnabled()).thenReturn(true);
+        when(writeBehindQueue.submitCreate(employeeInput)).thenReturn(write);
+
+        ResponseEntity<Employee> response = employeeController.createEmployee(employeeInput);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getHeaders().getLocation()).hasToString("/api/v1/writes/w-1");
+        assertThat(response.getBody()).isInstanceOfSatisfying(QueuedEmployee.class, queued -> {
+            assertThat(queued.getId()).isNull();
+            assertThat(queued.getName()).isEqualTo("New Employee");
+            assertThat(queued.getWrite()).isSameAs(write);
+        });
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    @DisplayName("Should replay the write status of a queued creation for a repeated Idempotency-Key")
+    void createEmployee_WhenWriteBehindAndIdempotencyKeyRepeated_ShouldReplayWriteStatus() {
+        CreateEmployeeRequest employeeInput = new CreateEmployeeRequest("New Employee", 60000, 28, "Junior Developer");
+        when(writeBehindQueue.isEnabled()).thenReturn(true);
+        when(writeBehindQueue.submitCreate(employeeInput))
+                .thenReturn(new WriteStatus(
+                        "w-1",
+                        WriteStatus.Operation.CREATE,
+                        WriteStatus.State.PENDING,
+                        null,
+                        null,
+                        employeeInput,
+                        null,
+                        null,
+                        0,
+                        Instant.now(),
+                        null));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(IdempotencyCache.IDEMPOTENCY_KEY_HEADER, "create-2");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        try {
+            employeeController.createEmployee(employeeInput);
+            ResponseEntity<Employee> replay = employeeController.createEmployee(employeeInput);
+
+            assertThat(replay.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+            assertThat(replay.getBody()).isInstanceOfSatisfying(QueuedEmployee.class, queued -> assertThat(
+                            queued.getWrite().id())
+                    .isEqualTo("w-1"));
+            assertThat(replay.getHeaders().getFirst(IdempotencyCache.REPLAYED_HEADER))
+                    .isEqualTo("true");
+            verify(writeBehindQueue, times(1)).submitCreate(employeeInput);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
     @Test
     @DisplayName("Should delete employee and return employee name")
     void deleteEmployeeById_ShouldDeleteAndReturnName() {
@@ -214,4 +360,31 @@ class EmployeeControllerTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
         verify(employeeService, times(1)).deleteEmployeeById(employeeId);
     }
+
+    @Test
+    @DisplayName("Should delete employees in bulk and return their names")
+    void deleteEmployeesByIds_ShouldReturnDeletedNames() {
+        List<String> ids = List.of("1", "2");
+        when(employeeService.deleteEmployeesByIds(ids)).thenReturn(List.of("John Doe", "Jane Smith"));
+
+        ResponseEntity<List<String>> response = employeeController.deleteEmployeesByIds(ids);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly("John Doe", "Jane Smith");
+        verify(employeeService, times(1)).deleteEmployeesByIds(ids);
+    }
+
+    @Test
+    @DisplayName("Should return employees matching the filter")
+    void filterEmployees_ShouldReturnMatchingEmployees() {
+        EmployeeFilter filter = new EmployeeFilter();
+        filter.setMinSalary(60000);
+        when(employeeFilterService.filterEmployees(filter)).thenReturn(List.of(testEmployee2));
+
+        ResponseEntity<List<Employee>> response = employeeController.filterEmployees(filter);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(testEmployee2);
+        verify(employeeFilterService).filterEmployees(filter);
+    }
 }
@@ -0,0 +1,88 @@
+package com.reliaquest.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.cache.PeerRosterClient;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.cache.RosterSnapshotCodec;
+import com.reliaquest.api.dto.Employee;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+class InternalRosterControllerTest {
+
+    @Mock
+    private RosterCache rosterCache;
+
+    @Mock
+    private PeerRosterClient peerRosterClient;
+
+    @InjectMocks
+    private InternalRosterController internalRosterController;
+
+    @Test
+    @DisplayName("Should serve the in-memory roster as an encoded snapshot with its version as ETag")
+    void getRosterSnapshot_ShouldReturnEncodedSnapshot() {
+        Employee employee = new Employee();
+        employee.setId("1");
+        RosterSnapshot snapshot = new RosterSnapshot(3, 1000L, List.of(employee));
+        when(peerRosterClient.isEnabled()).thenReturn(true);
+        when(rosterCache.localSnapshot()).thenReturn(Optional.of(snapshot));
+
+        ResponseEntity<byte[]> response = internalRosterController.getRosterSnapshot(null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"3-1000\"");
+        assertThat(response.getHeaders().getContentType()).isEqualTo(RosterSnapshotCodec.MEDIA_TYPE);
+        RosterSnapshot decoded = RosterSnapshotCodec.decode(ByteBuffer.wrap(response.getBody()));
+        assertThat(decoded.version()).isEqualTo(3);
+        assertThat(decoded.employees()).extracting(Employee::getId).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("Should answer 304 when the peer already holds this version")
+    void getRosterSnapshot_WhenETagMatches_ShouldReturnNotModified() {
+        when(peerRosterClient.isEnabled()).thenReturn(true);
+        when(rosterCache.localSnapshot()).thenReturn(Optional.of(new RosterSnapshot(3, 1000L, List.of())));
+
+        ResponseEntity<byte[]> response = internalRosterController.getRosterSnapshot("\"3-1000\"");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should answer 204 without loading when nothing is cached")
+    void getRosterSnapshot_WhenCacheEmpty_ShouldReturnNoContent() {
+        when(peerRosterClient.isEnabled()).thenReturn(true);
+        when(rosterCache.localSnapshot()).thenReturn(Optional.empty());
+
+        ResponseEntity<byte[]> response = internalRosterController.getRosterSnapshot(null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        verify(rosterCache, never()).peek();
+    }
+
+    @Test
+    @DisplayName("Should answer 404 when peer fill is disabled")
+    void getRosterSnapshot_WhenDisabled_ShouldReturnNotFound() {
+        when(peerRosterClient.isEnabled()).thenReturn(false);
+
+        ResponseEntity<byte[]> response = internalRosterController.getRosterSnapshot(null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        verifyNoInteractions(rosterCache);
+    }
+}
@@ -0,0 +1,35 @@
+package com.reliaquest.api.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UuidStringDeserializerTest {
+
+    private static final UUID ID = UUID.fromString("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507");
+
+    @Test
+    @DisplayName("Should read a CBOR employee whose id is a 16-byte UUID")
+    void deserialize_WhenCborBinaryUuid_ShouldReturnCanonicalString() throws Exception {
+        ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+        byte[] encoded = cbor.writeValueAsBytes(Map.of("id", ID, "employee_name", "Jane Smith"));
+
+        Employee employee = cbor.readValue(encoded, Employee.class);
+
+        assertThat(employee.getId()).isEqualTo(ID.toString());
+        assertThat(employee.getName()).isEqualTo("Jane Smith");
+    }
+
+    @Test
+    @DisplayName("Should read a JSON employee id as is")
+    void deserialize_WhenJsonString_ShouldReturnString() throws Exception {
+        Employee employee = new ObjectMapper().readValue("{\"id\":\"mock-id-123\"}", Employee.class);
+
+        assertThat(employee.getId()).isEqualTo("mock-id-123");
+    }
+}
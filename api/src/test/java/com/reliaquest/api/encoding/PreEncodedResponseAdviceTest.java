@@ -0,0 +1,125 @@
+package com.reliaquest.api.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.dto.Employee;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class PreEncodedResponseAdviceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PreEncodedResponseAdvice advice;
+
+    private MethodParameter getAllEmployees;
+
+    private List<Employee> roster;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        advice = new PreEncodedResponseAdvice(objectMapper);
+        getAllEmployees = new MethodParameter(EmployeeController.class.getMethod("getAllEmployees"), -1);
+
+        Employee employee = new Employee();
+        employee.setId("1");
+        employee.setName("John Doe");
+        employee.setSalary(50000);
+        roster = List.of(employee);
+    }
+
+    @Test
+    @DisplayName("Should only handle annotated methods written as JSON")
+    void supports_ShouldRequirePreEncodedJsonMethod() throws NoSuchMethodException {
+        MethodParameter getEmployeeById =
+                new MethodParameter(EmployeeController.class.getMethod("getEmployeeById", String.class), -1);
+
+        assertThat(advice.supports(getAllEmployees, MappingJackson2HttpMessageConverter.class))
+                .isTrue();
+        assertThat(advice.supports(getAllEmployees, StringHttpMessageConverter.class))
+                .isFalse();
+        assertThat(advice.supports(getEmployeeById, MappingJackson2HttpMessageConverter.class))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("Should write the JSON bytes directly when gzip is not accepted")
+    void beforeBodyWrite_WithoutGzip_ShouldWriteJson() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Object result = write(roster, null, response);
+
+        assertThat(result).isNull();
+        assertThat(response.getContentAsByteArray()).isEqualTo(objectMapper.writeValueAsBytes(roster));
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+    }
+
+    @Test
+    @DisplayName("Should write the gzip variant when the client accepts it")
+    void beforeBodyWrite_WithGzip_ShouldWriteCompressedJson() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        write(roster, "br, gzip;q=0.8", response);
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(objectMapper.writeValueAsBytes(roster));
+        }
+    }
+
+    @Test
+    @DisplayName("Should re-encode when the method returns a different value")
+    void beforeBodyWrite_WhenValueChanges_ShouldReEncode() throws IOException {
+        write(roster, null, new MockHttpServletResponse());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        write(List.of(), null, response);
+
+        assertThat(response.getContentAsString()).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("Should parse Accept-Encoding including wildcards and zero quality")
+    void acceptsGzip_ShouldHonourQuality() {
+        assertThat(PreEncodedResponseAdvice.acceptsGzip(List.of("gzip, deflate")))
+                .isTrue();
+        assertThat(PreEncodedResponseAdvice.acceptsGzip(List.of("*"))).isTrue();
+        assertThat(PreEncodedResponseAdvice.acceptsGzip(List.of("gzip;q=0"))).isFalse();
+        assertThat(PreEncodedResponseAdvice.acceptsGzip(List.of("identity"))).isFalse();
+        assertThat(PreEncodedResponseAdvice.acceptsGzip(null)).isFalse();
+    }
+
+    private Object write(Object body, String acceptEncoding, MockHttpServletResponse servletResponse)
+            throws IOException {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/v1");
+        if (acceptEncoding != null) {
+            servletRequest.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        ServletServerHttpResponse response = new ServletServerHttpResponse(servletResponse);
+        Object result = advice.beforeBodyWrite(
+                body,
+                getAllEmployees,
+                MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class,
+                new ServletServerHttpRequest(servletRequest),
+                response);
+        response.flush();
+        return result;
+    }
+}
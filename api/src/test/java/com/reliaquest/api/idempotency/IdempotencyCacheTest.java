@@ -0,0 +1,187 @@
+package com.reliaquest.api.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.api.exception.IdempotencyKeyReuseException;
+import com.reliaquest.api.exception.RateLimitException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class IdempotencyCacheTest {
+
+    private final IdempotencyCache cache = new IdempotencyCache(Duration.ofMinutes(1), 100);
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run the action once and replay its result for the same key")
+    void execute_WhenKeyRepeated_ShouldReplayResult() {
+        IdempotencyCache.Result<String> first = cache.execute("key", "request", this::run);
+        IdempotencyCache.Result<String> second = cache.execute("key", "request", this::run);
+
+        assertThat(first).isEqualTo(new IdempotencyCache.Result<>("result-1", false));
+        assertThat(second).isEqualTo(new IdempotencyCache.Result<>("result-1", true));
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should share one in-flight execution between concurrent requests with the same key")
+    void execute_WhenConcurrent_ShouldShareInFlightExecution() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<IdempotencyCache.Result<String>> first =
+                CompletableFuture.supplyAsync(() -> cache.execute("key", "request", () -> {
+                    started.countDown();
+                    await(release);
+                    return run();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<IdempotencyCache.Result<String>> second =
+                CompletableFuture.supplyAsync(() -> cache.execute("key", "request", this::run));
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).value()).isEqualTo("result-1");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(new IdempotencyCache.Result<>("result-1", true));
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should not keep failures, so a retry with the same key runs again")
+    void execute_WhenActionFails_ShouldRunAgainOnRetry() {
+        assertThatThrownBy(() -> cache.execute("key", "request", () -> {
+                    throw new RateLimitException("slow down");
+                }))
+                .isInstanceOf(RateLimitException.class);
+
+        assertThat(cache.execute("key", "request", this::run).replayed()).isFalse();
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should release the key and fail waiting requests when the action throws an error")
+    void execute_WhenActionThrowsError_ShouldCompleteWaitersAndRelease() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<IdempotencyCache.Result<String>> first = CompletableFuture.supplyAsync(
+                () -> cache.execute("key", "request", () -> {
+                    started.countDown();
+                    await(release);
+                    throw new StackOverflowError("deep");
+                }),
+                executor);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<IdempotencyCache.Result<String>> second = waitingRequest(cache, "key");
+        release.countDown();
+
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+        assertThat(cache.execute("key", "request", this::run).replayed()).isFalse();
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should keep an in-flight key while completed keys beyond max-keys are evicted")
+    void execute_WhenMaxKeysExceeded_ShouldKeepInFlightKey() throws Exception {
+        IdempotencyCache small = new IdempotencyCache(Duration.ofMinutes(1), 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<IdempotencyCache.Result<String>> first = CompletableFuture.supplyAsync(
+                () -> small.execute("in-flight", "request", () -> {
+                    started.countDown();
+                    await(release);
+                    return run();
+                }),
+                executor);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 100; i++) {
+            small.execute("other-" + i, "request", () -> "other");
+        }
+
+        CompletableFuture<IdempotencyCache.Result<String>> second = waitingRequest(small, "in-flight");
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).value()).isEqualTo("result-1");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(new IdempotencyCache.Result<>("result-1", true));
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different request")
+    void execute_WhenFingerprintDiffers_ShouldThrow() {
+        cache.execute("key", List.of("Jane", 50000), this::run);
+
+        assertThatThrownBy(() -> cache.execute("key", List.of("John", 50000), this::run))
+                .isInstanceOf(IdempotencyKeyReuseException.class);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should read the key from the current request and reject oversized keys")
+    void currentKey_ShouldReadAndValidateHeader() {
+        assertThat(IdempotencyCache.currentKey()).isEmpty();
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(IdempotencyCache.IDEMPOTENCY_KEY_HEADER, "abc");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        assertThat(IdempotencyCache.currentKey()).hasValue("abc");
+
+        MockHttpServletRequest oversized = new MockHttpServletRequest();
+        oversized.addHeader(IdempotencyCache.IDEMPOTENCY_KEY_HEADER, "k".repeat(IdempotencyCache.MAX_KEY_LENGTH + 1));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(oversized));
+        assertThatThrownBy(IdempotencyCache::currentKey).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Sends a request with the key on another thread and returns once it waits for the request in flight.
+     */
+    private CompletableFuture<IdempotencyCache.Result<String>> waitingRequest(
+            final IdempotencyCache idempotencyCache, final String key) throws InterruptedException {
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        CompletableFuture<IdempotencyCache.Result<String>> request = CompletableFuture.supplyAsync(
+                () -> {
+                    thread.set(Thread.currentThread());
+                    return idempotencyCache.execute(key, "request", this::run);
+                },
+                executor);
+        for (int i = 0; i < 500 && (thread.get() == null || thread.get().getState() != Thread.State.WAITING); i++) {
+            Thread.sleep(10);
+        }
+        return request;
+    }
+
+    private String run() {
+        return "result-" + executions.incrementAndGet();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
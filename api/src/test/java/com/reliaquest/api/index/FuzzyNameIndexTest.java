@@ -0,0 +1,63 @@
+package com.reliaquest.api.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.dto.Employee;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FuzzyNameIndexTest {
+
+    private FuzzyNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = FuzzyNameIndex.of(List.of(
+                employee("John Doe"),
+                employee("Jane Smith"),
+                employee("Bob Johnson"),
+                employee("Jon Snow"),
+                employee("Mary Smyth")));
+    }
+
+    @Test
+    @DisplayName("Should find misspelled names within the edit distance, closest first")
+    void search_ShouldTolerateTypos() {
+        assertThat(names(index.search("jhon", 2))).containsExactly("Jon Snow", "John Doe");
+        assertThat(names(index.search("Smith", 1))).containsExactly("Jane Smith", "Mary Smyth");
+    }
+
+    @Test
+    @DisplayName("Should require every query word to match a name word")
+    void search_WithSeveralWords_ShouldMatchAll() {
+        assertThat(names(index.search("jane smyth", 1))).containsExactly("Jane Smith");
+    }
+
+    @Test
+    @DisplayName("Should match exactly with distance zero")
+    void search_WithZeroDistance_ShouldMatchExactWords() {
+        assertThat(names(index.search("jon", 0))).containsExactly("Jon Snow");
+        assertThat(index.search("xyz", 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should compute Levenshtein distances")
+    void distance_ShouldCountEdits() {
+        assertThat(FuzzyNameIndex.distance("kitten", "sitting")).isEqualTo(3);
+        assertThat(FuzzyNameIndex.distance("john", "jhon")).isEqualTo(2);
+        assertThat(FuzzyNameIndex.distance("", "abc")).isEqualTo(3);
+    }
+
+    private static List<String> names(final List<Employee> employees) {
+        return employees.stream().map(Employee::getName).toList();
+    }
+
+    private static Employee employee(final String name) {
+        Employee employee = new Employee();
+        employee.setId(name);
+        employee.setName(name);
+        return employee;
+    }
+}
@@ -0,0 +1,70 @@
+package com.reliaquest.api.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.dto.Employee;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NameTrieTest {
+
+    private NameTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = NameTrie.of(
+                List.of(
+                        employee("John Doe", 50000),
+                        employee("Jane Smith", 75000),
+                        employee("Bob Johnson", 60000),
+                        employee("Jo Jones", null),
+                        employee("Mary-Jo O'Neil", 90000)),
+                EmployeeMetric.SALARY,
+                3);
+    }
+
+    @Test
+    @DisplayName("Should match a prefix of any name token, highest salary first")
+    void complete_ShouldMatchAnyTokenRankedBySalary() {
+        assertThat(trie.complete("jo", 10)).containsExactly("Mary-Jo O'Neil", "Bob Johnson", "John Doe");
+        assertThat(trie.complete("JOH", 10)).containsExactly("Bob Johnson", "John Doe");
+        assertThat(trie.complete("neil", 10)).containsExactly("Mary-Jo O'Neil");
+    }
+
+    @Test
+    @DisplayName("Should keep only the configured number of employees per prefix")
+    void complete_ShouldKeepTopK() {
+        assertThat(trie.complete("j", 10)).containsExactly("Mary-Jo O'Neil", "Jane Smith", "Bob Johnson");
+        assertThat(trie.complete("j", 1)).containsExactly("Mary-Jo O'Neil");
+    }
+
+    @Test
+    @DisplayName("Should rank employees without a salary last")
+    void complete_ShouldRankMissingValuesLast() {
+        assertThat(trie.complete("jones", 10)).containsExactly("Jo Jones");
+        assertThat(trie.size(trie.find("jo"))).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should return nothing for an unknown prefix")
+    void complete_WhenNoMatch_ShouldReturnEmpty() {
+        assertThat(trie.find("x")).isEqualTo(-1);
+        assertThat(trie.complete("x", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should split names at characters that are not letters or digits")
+    void tokenize_ShouldSplitOnPunctuationAndLowerCase() {
+        assertThat(NameTrie.tokenize("Mary-Jo O'Neil")).containsExactly("mary", "jo", "o", "neil");
+    }
+
+    private static Employee employee(final String name, final Integer salary) {
+        Employee employee = new Employee();
+        employee.setId(name);
+        employee.setName(name);
+        employee.setSalary(salary);
+        return employee;
+    }
+}
@@ -0,0 +1,114 @@
+package com.reliaquest.api.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import com.reliaquest.api.dto.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SalaryColumnTest {
+
+    private final SalaryKernels scalar = new ScalarSalaryKernels();
+
+    /**
+     * The vector kernels when built and enabled with {@code -PvectorKernels}, the scalar kernels otherwise.
+     */
+    private final SalaryKernels best = SalaryKernels.best();
+
+    @Test
+    @DisplayName("Vector kernels should agree with scalar kernels, including the tail after the last full vector")
+    void vectorKernels_ShouldMatchScalarKernels() {
+        assumeFalse(best instanceof ScalarSalaryKernels, "vector kernels are only built with -PvectorKernels");
+        Random random = new Random(7);
+        for (int length : new int[] {1, 3, 15, 16, 17, 63, 64, 65, 1001}) {
+            int[] values = random.ints(length, -1_000_000, 1_000_000).toArray();
+
+            assertThat(best.max(values)).isEqualTo(scalar.max(values));
+            assertThat(best.min(values)).isEqualTo(scalar.min(values));
+            assertThat(best.sum(values)).isEqualTo(scalar.sum(values));
+            assertThat(best.countInRange(values, -1000, 500_000))
+                    .isEqualTo(scalar.countInRange(values, -1000, 500_000));
+            for (int from = 0; from <= length; from++) {
+                assertThat(best.nextAbove(values, from, 900_000)).isEqualTo(scalar.nextAbove(values, from, 900_000));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Vector sum should not overflow on large salaries")
+    void sum_WhenTotalExceedsIntRange_ShouldNotOverflow() {
+        int[] values = IntStream.generate(() -> Integer.MAX_VALUE).limit(100).toArray();
+
+        assertThat(best.sum(values)).isEqualTo(100L * Integer.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Should aggregate salaries and skip employees without one")
+    void aggregates_ShouldIgnoreMissingSalaries() {
+        SalaryColumn column = SalaryColumn.of(
+                List.of(employee("1", 50000), employee("2", null), employee("3", 75000), employee("4", 30000)));
+
+        assertThat(column.size()).isEqualTo(3);
+        assertThat(column.max()).hasValue(75000);
+        assertThat(column.min()).hasValue(30000);
+        assertThat(column.sum()).isEqualTo(155000);
+        assertThat(column.countInRange(30000, 50000)).isEqualTo(2);
+        assertThat(column.countInRange(50000, 30000)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report no extremes for an empty roster")
+    void max_WhenEmpty_ShouldBeEmpty() {
+        SalaryColumn column = SalaryColumn.of(List.of(employee("1", null)));
+
+        assertThat(column.max()).isEmpty();
+        assertThat(column.min()).isEmpty();
+        assertThat(column.topK(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return top earners highest first, ties in roster order")
+    void topK_ShouldReturnHighestSalariesFirst() {
+        SalaryColumn column = SalaryColumn.of(List.of(
+                employee("1", 50000),
+                employee("2", 75000),
+                employee("3", 60000),
+                employee("4", 75000),
+                employee("5", 30000),
+                employee("6", 75000)));
+
+        assertThat(column.topK(3)).extracting(Employee::getId).containsExactly("2", "4", "6");
+        assertThat(column.topK(4)).extracting(Employee::getId).containsExactly("2", "4", "6", "3");
+        assertThat(column.topK(10)).hasSize(6);
+    }
+
+    @Test
+    @DisplayName("Scalar and best available top-K should match a full sort on a large roster")
+    void topK_OnLargeRoster_ShouldMatchFullSort() {
+        Random random = new Random(11);
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            roster.add(employee(String.valueOf(i), random.nextInt(1000)));
+        }
+        List<Employee> expected = roster.stream()
+                .sorted(Comparator.comparing(Employee::getSalary).reversed())
+                .limit(10)
+                .toList();
+
+        assertThat(SalaryColumn.of(roster, scalar).topK(10)).containsExactlyElementsOf(expected);
+        assertThat(SalaryColumn.of(roster, best).topK(10)).containsExactlyElementsOf(expected);
+    }
+
+    private static Employee employee(final String id, final Integer salary) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setSalary(salary);
+        return employee;
+    }
+}
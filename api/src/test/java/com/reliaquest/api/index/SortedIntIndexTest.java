@@ -0,0 +1,86 @@
+package com.reliaquest.api.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.api.dto.Employee;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SortedIntIndexTest {
+
+    private List<Employee> roster;
+
+    private SortedIntIndex salaries;
+
+    @BeforeEach
+    void setUp() {
+        roster = List.of(
+                employee("1", 50000, 30),
+                employee("2", 75000, 35),
+                employee("3", 60000, 28),
+                employee("4", 75000, 41),
+                employee("5", 30000, 22));
+        salaries = SortedIntIndex.of(EmployeeMetric.SALARY, roster);
+    }
+
+    @Test
+    @DisplayName("Should answer min, max and nearest-rank percentiles")
+    void orderStatistics_ShouldMatchSortedValues() {
+        assertThat(salaries.min()).isEqualTo(30000);
+        assertThat(salaries.max()).isEqualTo(75000);
+        assertThat(salaries.percentile(20)).isEqualTo(30000);
+        assertThat(salaries.percentile(50)).isEqualTo(60000);
+        assertThat(salaries.percentile(100)).isEqualTo(75000);
+    }
+
+    @Test
+    @DisplayName("Should count values within inclusive ranges")
+    void countBetween_ShouldIncludeBothBounds() {
+        assertThat(salaries.countBetween(50000, 75000)).isEqualTo(4);
+        assertThat(salaries.countBetween(50001, 74999)).isEqualTo(1);
+        assertThat(salaries.countBetween(Integer.MIN_VALUE, Integer.MAX_VALUE)).isEqualTo(5);
+        assertThat(salaries.countBetween(80000, 10000)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should return top earners highest first, ties in roster order")
+    void top_ShouldReturnHighestValuesFirst() {
+        assertThat(salaries.top(3)).extracting(Employee::getId).containsExactly("2", "4", "3");
+        assertThat(salaries.top(10)).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("Should add and remove employees without rebuilding")
+    void withAddedAndRemoved_ShouldKeepIndexSorted() {
+        SortedIntIndex updated = salaries.withAdded(employee("6", 90000, 50)).withRemoved(roster.get(1));
+
+        assertThat(updated.size()).isEqualTo(5);
+        assertThat(updated.max()).isEqualTo(90000);
+        assertThat(updated.top(3)).extracting(Employee::getId).containsExactly("6", "4", "3");
+        assertThat(salaries.size()).isEqualTo(5);
+        assertThat(salaries.max()).isEqualTo(75000);
+    }
+
+    @Test
+    @DisplayName("Should reject order statistics on an empty index")
+    void percentile_WhenEmpty_ShouldThrow() {
+        SortedIntIndex empty = SortedIntIndex.of(EmployeeMetric.AGE, List.of());
+
+        assertThat(empty.countBetween(0, 100)).isZero();
+        assertThat(empty.top(5)).isEmpty();
+        assertThatThrownBy(() -> empty.percentile(50)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static Employee employee(String id, int salary, int age) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName("Employee " + id);
+        employee.setSalary(salary);
+        employee.setAge(age);
+        employee.setTitle("Developer");
+        return employee;
+    }
+}
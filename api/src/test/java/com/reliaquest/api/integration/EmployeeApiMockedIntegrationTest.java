@@ -3,14 +3,15 @@ package com.reliaquest.api.integration;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.reliaquest.api.client.ApiClient;
 import com.reliaquest.api.dto.CreateEmployeeRequest;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.exception.ResourceNotFoundException;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,9 +25,12 @@ import org.springframework.web.client.RestClient;
 /**
  * Integration Tests with Mocked ApiClient
  * These tests start the full Spring Boot application but mock the ApiClient to avoid
- * rate limiting issues with the external mock server.
+ * rate limiting issues with the external mock server. Background cache priming is disabled so that the only
+ * ApiClient calls are the ones made by the requests under test.
  */
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "api.cache.refresh.enabled=false")
 class EmployeeApiMockedIntegrationTest {
 
     @LocalServerPort
@@ -79,34 +83,44 @@ class EmployeeApiMockedIntegrationTest {
     @DisplayName("DELETE /api/v1/{id} should delete employee and return name via HTTP")
     void deleteEmployeeById_WhenValidId_ShouldDeleteAndReturnName() {
         Employee mockEmployee = new Employee();
-        mockEmployee.setId("employee-to-delete-123");
+        mockEmployee.setId("3f1c2a9e-7b1d-4a8e-9d3c-2f6b8e4a1c57");
         mockEmployee.setName("Employee To Delete");
         mockEmployee.setSalary(50000);
         mockEmployee.setAge(25);
         mockEmployee.setTitle("Temporary");
 
-        when(apiClient.fetchAllEmployees()).thenReturn(List.of(mockEmployee));
-        when(apiClient.deleteEmployee("Employee To Delete")).thenReturn(true);
+        when(apiClient.deleteEmployeeById(mockEmployee.getId())).thenReturn(mockEmployee);
 
         String deletedEmployeeName =
                 restClient.delete().uri("/" + mockEmployee.getId()).retrieve().body(String.class);
 
         assertThat(deletedEmployeeName).isEqualTo("Employee To Delete");
 
-        verify(apiClient).fetchAllEmployees();
-        verify(apiClient).deleteEmployee("Employee To Delete");
+        verify(apiClient).deleteEmployeeById(mockEmployee.getId());
+        verify(apiClient, never()).fetchAllEmployees();
     }
 
     @Test
     @DisplayName("DELETE /api/v1/{id} should return 404 when employee not found via HTTP")
-    void deleteEmployeeById_WhenInvalidId_ShouldReturn404() {
-        when(apiClient.fetchAllEmployees()).thenReturn(List.of());
+    void deleteEmployeeById_WhenUnknownId_ShouldReturn404() {
+        String unknownId = "9b2d4f6a-1c3e-4a5b-8d7f-0e2c4a6b8d9f";
+        when(apiClient.deleteEmployeeById(unknownId)).thenThrow(new ResourceNotFoundException("Employee", unknownId));
+
+        assertThatThrownBy(() ->
+                        restClient.delete().uri("/" + unknownId).retrieve().body(String.class))
+                .isInstanceOf(HttpClientErrorException.NotFound.class);
 
+        verify(apiClient).deleteEmployeeById(unknownId);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/{id} should return 404 without calling the mock API for malformed ids")
+    void deleteEmployeeById_WhenInvalidId_ShouldReturn404() {
         assertThatThrownBy(() ->
                         restClient.delete().uri("/invalid-id-99999").retrieve().body(String.class))
                 .isInstanceOf(HttpClientErrorException.NotFound.class);
 
-        verify(apiClient).fetchAllEmployees();
+        verify(apiClient, never()).deleteEmployeeById(any());
     }
 
     @Test
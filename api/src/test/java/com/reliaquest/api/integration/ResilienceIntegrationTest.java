@@ -0,0 +1,178 @@
+package com.reliaquest.api.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.client.ApiClient;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Integration tests of the Resilience4j isolation between upstream operations, against a stub upstream api.
+ * Admission control and the degraded mode are disabled so that the bulkhead and circuit breaker answer themselves.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+            "api.cache.refresh.enabled=false",
+            "api.cache.snapshot.enabled=false",
+            "api.cache.degraded.enabled=false",
+            "api.admission.enabled=false"
+        })
+class ResilienceIntegrationTest {
+
+    private static final String ROSTER = "{\"data\":[{\"id\":\"3f1c2a9e-7b1d-4a8e-9d3c-2f6b8e4a1c57\","
+            + "\"employee_name\":\"Jane Smith\",\"employee_salary\":75000,\"employee_age\":35,"
+            + "\"employee_title\":\"Senior Developer\",\"employee_email\":\"jane@example.com\"}],"
+            + "\"status\":\"Successfully processed request.\"}";
+
+    private static final HttpServer upstream = startUpstream();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private RestClient restClient;
+
+    @DynamicPropertySource
+    static void upstreamProperties(final DynamicPropertyRegistry registry) {
+        registry.add(
+                "api.mock.base-url",
+                () -> "http://localhost:" + upstream.getAddress().getPort() + "/api/v1/employee");
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        restClient = RestClient.builder()
+                .baseUrl("http://localhost:" + port + "/api/v1")
+                .build();
+        cacheManager.getCache(RosterCache.CACHE_NAME).clear();
+    }
+
+    @Test
+    @DisplayName("A saturated create bulkhead should reject creates with 503 and Retry-After while reads still pass")
+    void createBulkheadFull_ShouldNotAffectReads() {
+        Bulkhead createBulkhead = bulkheadRegistry.bulkhead(ApiClient.CREATE);
+        int permits = createBulkhead.getBulkheadConfig().getMaxConcurrentCalls();
+        for (int i = 0; i < permits; i++) {
+            assertThat(createBulkhead.tryAcquirePermission()).isTrue();
+        }
+        try {
+            ResponseEntity<Void> create = exchange(restClient
+                    .post()
+                    .uri("")
+                    .body(Map.of("name", "New Hire", "salary", 90000, "age", 40, "title", "Developer")));
+            ResponseEntity<Void> read = exchange(restClient.get().uri(""));
+
+            assertThat(create.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(create.getHeaders().getFirst("Retry-After")).isEqualTo("1");
+            assertThat(read.getStatusCode()).isEqualTo(HttpStatus.OK);
+        } finally {
+            for (int i = 0; i < permits; i++) {
+                createBulkhead.onComplete();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A rejected create should report the wait of the create bulkhead while the fetch bulkhead is full too")
+    void createBulkheadFull_ShouldReportItsOwnWait() {
+        Bulkhead fetchBulkhead = bulkheadRegistry.bulkhead(ApiClient.FETCH);
+        Bulkhead createBulkhead = bulkheadRegistry.bulkhead(ApiClient.CREATE);
+        int fetchPermits = fetchBulkhead.getBulkheadConfig().getMaxConcurrentCalls();
+        int createPermits = createBulkhead.getBulkheadConfig().getMaxConcurrentCalls();
+        for (int i = 0; i < fetchPermits; i++) {
+            assertThat(fetchBulkhead.tryAcquirePermission()).isTrue();
+        }
+        for (int i = 0; i < createPermits; i++) {
+            assertThat(createBulkhead.tryAcquirePermission()).isTrue();
+        }
+        try {
+            ResponseEntity<Void> create = exchange(restClient
+                    .post()
+                    .uri("")
+                    .body(Map.of("name", "New Hire", "salary", 90000, "age", 40, "title", "Developer")));
+
+            assertThat(create.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(create.getHeaders().getFirst("Retry-After")).isEqualTo("1");
+        } finally {
+            for (int i = 0; i < fetchPermits; i++) {
+                fetchBulkhead.onComplete();
+            }
+            for (int i = 0; i < createPermits; i++) {
+                createBulkhead.onComplete();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("An open fetch circuit should answer reads with 503 and its wait duration as Retry-After")
+    void fetchCircuitOpen_ShouldReturn503WithRetryAfter() {
+        CircuitBreaker fetchCircuit = circuitBreakerRegistry.circuitBreaker(ApiClient.FETCH);
+        fetchCircuit.transitionToOpenState();
+        try {
+            ResponseEntity<Void> read = exchange(restClient.get().uri(""));
+
+            assertThat(read.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(read.getHeaders().getFirst("Retry-After")).isEqualTo("30");
+        } finally {
+            fetchCircuit.reset();
+        }
+    }
+
+    private static ResponseEntity<Void> exchange(final RestClient.RequestHeadersSpec<?> request) {
+        return request.exchange((clientRequest, response) -> ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .build());
+    }
+
+    private static HttpServer startUpstream() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/api/v1/employee", exchange -> {
+                byte[] body = ROSTER.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+                exchange.close();
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
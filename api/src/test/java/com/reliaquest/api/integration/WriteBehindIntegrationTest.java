@@ -0,0 +1,87 @@
+package com.reliaquest.api.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.dto.CreateEmployeeRequest;
+import com.reliaquest.api.dto.Employee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Integration tests of the responses to writes queued in write-behind mode, with a mocked ApiClient.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"api.cache.refresh.enabled=false", "api.writes.async.enabled=true"})
+class WriteBehindIntegrationTest {
+
+    private static final Map<String, Object> NEW_HIRE =
+            Map.of("name", "New Hire", "salary", 90000, "age", 40, "title", "Developer");
+
+    @LocalServerPort
+    private int port;
+
+    @MockBean
+    private ApiClient apiClient;
+
+    private RestClient restClient;
+
+    @DynamicPropertySource
+    static void journalProperties(final DynamicPropertyRegistry registry) throws IOException {
+        String journal = Files.createTempDirectory("write-behind")
+                .resolve("writes.journal")
+                .toString();
+        registry.add("api.writes.journal-path", () -> journal);
+    }
+
+    @BeforeEach
+    void setUp() {
+        restClient = RestClient.builder()
+                .baseUrl("http://localhost:" + port + "/api/v1")
+                .build();
+        Employee created = new Employee();
+        created.setId("3f1c2a9e-7b1d-4a8e-9d3c-2f6b8e4a1c57");
+        created.setName("New Hire");
+        when(apiClient.createEmployee(any(CreateEmployeeRequest.class))).thenReturn(created);
+    }
+
+    @Test
+    @DisplayName("A queued create should answer 202 with the requested employee and the state of its write")
+    void createEmployee_WhenQueued_ShouldAnswerWithEmployeeAndWrite() {
+        ResponseEntity<JsonNode> response =
+                restClient.post().uri("").body(NEW_HIRE).retrieve().toEntity(JsonNode.class);
+
+        JsonNode body = response.getBody();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(body.get("employee_name").asText()).isEqualTo("New Hire");
+        assertThat(body.get("id").isNull()).isTrue();
+        assertThat(response.getHeaders().getLocation())
+                .hasToString("/api/v1/writes/" + body.get("write").get("id").asText());
+        assertThat(body.get("write").get("operation").asText()).isEqualTo("CREATE");
+    }
+
+    @Test
+    @DisplayName("A queued create should be readable as an employee by typed clients")
+    void createEmployee_WhenQueued_ShouldBeReadableAsEmployee() {
+        Employee employee = restClient.post().uri("").body(NEW_HIRE).retrieve().body(Employee.class);
+
+        assertThat(employee.getName()).isEqualTo("New Hire");
+        assertThat(employee.getSalary()).isEqualTo(90000);
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.api.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class SampledRequestLogFilterTest {
+
+    private static final long FAST = Duration.ofMillis(5).toNanos();
+
+    private static final long SLOW = Duration.ofMillis(800).toNanos();
+
+    private final SampledRequestLogFilter filter = new SampledRequestLogFilter(true, 0.1, Duration.ofMillis(500));
+
+    @Test
+    @DisplayName("Should log only the sampled share of fast successful requests")
+    void shouldLog_WhenFastAndSuccessful_ShouldFollowSample() {
+        assertThat(filter.shouldLog(200, FAST, 0.05)).isTrue();
+        assertThat(filter.shouldLog(200, FAST, 0.5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should always log failed and slow requests")
+    void shouldLog_WhenFailedOrSlow_ShouldIgnoreSample() {
+        assertThat(filter.shouldLog(404, FAST, 0.99)).isTrue();
+        assertThat(filter.shouldLog(503, FAST, 0.99)).isTrue();
+        assertThat(filter.shouldLog(200, SLOW, 0.99)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should pass requests through and rethrow failures")
+    void doFilter_ShouldPassThroughAndRethrow() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThatThrownBy(() -> filter.doFilter(
+                        new MockHttpServletRequest("GET", "/api/v1/employee"),
+                        new MockHttpServletResponse(),
+                        (req, res) -> {
+                            throw new IllegalStateException("boom");
+                        }))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject sample rates outside [0, 1]")
+    void constructor_WhenSampleRateOutOfRange_ShouldThrow() {
+        assertThatThrownBy(() -> new SampledRequestLogFilter(true, 1.5, Duration.ofMillis(500)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
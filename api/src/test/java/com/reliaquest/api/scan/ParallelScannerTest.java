@@ -0,0 +1,62 @@
+package com.reliaquest.api.scan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.dto.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ParallelScannerTest {
+
+    private ParallelScanner parallel;
+
+    private ParallelScanner sequential;
+
+    private List<Employee> roster;
+
+    @BeforeEach
+    void setUp() {
+        parallel = new ParallelScanner(4, 100, 64);
+        sequential = new ParallelScanner(1, Integer.MAX_VALUE, 64);
+        Random random = new Random(42);
+        roster = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Employee employee = new Employee();
+            employee.setId("id-" + i);
+            employee.setName("Employee " + i);
+            employee.setSalary(random.nextInt(1000));
+            roster.add(employee);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallel.shutdown();
+        sequential.shutdown();
+    }
+
+    @Test
+    @DisplayName("filter should return the same employees in roster order as a sequential scan")
+    void filter_ShouldMatchSequentialScan() {
+        List<Employee> expected =
+                roster.stream().filter(e -> e.getSalary() > 990).toList();
+
+        assertThat(parallel.filter(roster, e -> e.getSalary() > 990)).containsExactlyElementsOf(expected);
+        assertThat(sequential.filter(roster, e -> e.getSalary() > 990)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("findFirst should return the first match in roster order")
+    void findFirst_ShouldReturnFirstMatch() {
+        Employee expected =
+                roster.stream().filter(e -> e.getSalary() == 500).findFirst().orElseThrow();
+
+        assertThat(parallel.findFirst(roster, e -> e.getSalary() == 500)).isSameAs(expected);
+        assertThat(parallel.findFirst(roster, e -> e.getSalary() > 1000)).isNull();
+    }
+}
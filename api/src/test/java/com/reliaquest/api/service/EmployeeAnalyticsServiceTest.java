@@ -0,0 +1,120 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.cache.LastKnownGoodRoster;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.HistogramBucket;
+import com.reliaquest.api.dto.TitleStatistics;
+import com.reliaquest.api.index.EmployeeMetric;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeAnalyticsServiceTest {
+
+    @Mock
+    private ApiClient mockApiClient;
+
+    private RosterCache rosterCache;
+
+    private EmployeeAnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(RosterCache.CACHE_NAME);
+        cacheManager
+                .getCache(RosterCache.CACHE_NAME)
+                .put(
+                        RosterCache.ROSTER_KEY,
+                        List.of(
+                                employee("1", "John Doe", 50000, 30, "Developer"),
+                                employee("2", "Jane Smith", 75000, 35, "Senior Developer"),
+                                employee("3", "Bob Johnson", 60000, 28, "Developer")));
+        rosterCache = new RosterCache(cacheManager);
+        analyticsService = new EmployeeAnalyticsService(
+                new RosterReader(mockApiClient, new LastKnownGoodRoster(rosterCache, false, Duration.ZERO)),
+                rosterCache);
+        lenient().when(mockApiClient.fetchAllEmployees()).thenAnswer(invocation -> rosterCache.peek());
+    }
+
+    @Test
+    @DisplayName("getTopEarners should return the n highest earners")
+    void getTopEarners_ShouldReturnHighestEarnersFirst() {
+        List<Employee> result = analyticsService.getTopEarners(2);
+
+        assertThat(result).extracting(Employee::getName).containsExactly("Jane Smith", "Bob Johnson");
+    }
+
+    @Test
+    @DisplayName("getPercentiles should key values by percentile name")
+    void getPercentiles_ShouldReturnNearestRankValues() {
+        Map<String, Integer> result = analyticsService.getPercentiles(EmployeeMetric.AGE, List.of(50.0, 99.9));
+
+        assertThat(result).containsExactly(Map.entry("p50", 30), Map.entry("p99.9", 35));
+    }
+
+    @Test
+    @DisplayName("getHistogram should cover the value range with equal-width buckets")
+    void getHistogram_ShouldCountEveryEmployeeOnce() {
+        List<HistogramBucket> result = analyticsService.getHistogram(EmployeeMetric.SALARY, 5);
+
+        assertThat(result).hasSize(5);
+        assertThat(result.get(0).getFrom()).isEqualTo(50000);
+        assertThat(result).extracting(HistogramBucket::getCount).containsExactly(1, 1, 0, 0, 1);
+    }
+
+    @Test
+    @DisplayName("Analytics should follow roster patches after writes")
+    void analytics_WhenRosterIsPatched_ShouldReflectChanges() {
+        assertThat(analyticsService.countInRange(EmployeeMetric.SALARY, 55000, null))
+                .isEqualTo(2);
+
+        rosterCache.applyCreated(employee("4", "New Hire", 90000, 40, "Developer"));
+        rosterCache.applyDeleted(List.of(employee("2", "Jane Smith", 75000, 35, "Senior Developer")));
+
+        assertThat(analyticsService.countInRange(EmployeeMetric.SALARY, 55000, null))
+                .isEqualTo(2);
+        assertThat(analyticsService.getTopEarners(1))
+                .extracting(Employee::getName)
+                .containsExactly("New Hire");
+        assertThat(analyticsService.getTitleStatistics("Senior Developer")).isEmpty();
+        TitleStatistics developers =
+                analyticsService.getTitleStatistics("Developer").orElseThrow();
+        assertThat(developers.getCount()).isEqualTo(3);
+        assertThat(developers.getMaxSalary()).isEqualTo(90000);
+        assertThat(developers.getAverageSalary()).isEqualTo(200000 / 3.0);
+    }
+
+    @Test
+    @DisplayName("Invalid arguments should be rejected")
+    void analytics_WithInvalidArguments_ShouldThrow() {
+        assertThatThrownBy(() -> analyticsService.getTopEarners(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> analyticsService.getPercentiles(EmployeeMetric.SALARY, List.of(0.0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EmployeeMetric.fromName("height")).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(mockApiClient);
+    }
+
+    private static Employee employee(String id, String name, int salary, int age, String title) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName(name);
+        employee.setSalary(salary);
+        employee.setAge(age);
+        employee.setTitle(title);
+        return employee;
+    }
+}
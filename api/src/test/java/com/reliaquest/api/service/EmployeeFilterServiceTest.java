@@ -0,0 +1,113 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.cache.LastKnownGoodRoster;
+import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeFilter;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeFilterServiceTest {
+
+    @Mock
+    private ApiClient mockApiClient;
+
+    @Mock
+    private LastKnownGoodRoster mockLastKnownGoodRoster;
+
+    private EmployeeFilterService filterService;
+
+    private List<Employee> roster;
+
+    @BeforeEach
+    void setUp() {
+        filterService = new EmployeeFilterService(new RosterReader(mockApiClient, mockLastKnownGoodRoster));
+        roster = List.of(
+                employee("1", 50000, 30, "Developer", "john@example.com"),
+                employee("2", 75000, 35, "Senior Developer", "jane@Example.com"),
+                employee("3", 60000, 28, "Developer", "bob@corp.io"),
+                employee("4", 59999, 41, "Manager", "alice@example.com"),
+                employee("5", 120000, 52, "Director", null));
+    }
+
+    @Test
+    @DisplayName("filterEmployees with no criteria should return the whole roster")
+    void filterEmployees_WithNoCriteria_ShouldReturnAllEmployees() {
+        when(mockApiClient.fetchAllEmployees()).thenReturn(roster);
+
+        List<Employee> result = filterService.filterEmployees(new EmployeeFilter());
+
+        assertThat(result).containsExactlyElementsOf(roster);
+    }
+
+    @Test
+    @DisplayName("filterEmployees should apply salary bounds exactly within partial buckets")
+    void filterEmployees_WithSalaryRange_ShouldIncludeBothBounds() {
+        when(mockApiClient.fetchAllEmployees()).thenReturn(roster);
+        EmployeeFilter filter = new EmployeeFilter();
+        filter.setMinSalary(55000);
+        filter.setMaxSalary(75000);
+
+        List<Employee> result = filterService.filterEmployees(filter);
+
+        assertThat(result).extracting(Employee::getId).containsExactly("2", "3", "4");
+    }
+
+    @Test
+    @DisplayName("filterEmployees should OR titles and AND different criteria")
+    void filterEmployees_WithCombinedCriteria_ShouldMatchAll() {
+        when(mockApiClient.fetchAllEmployees()).thenReturn(roster);
+        EmployeeFilter filter = new EmployeeFilter();
+        filter.setTitle(List.of("Developer", "Manager"));
+        filter.setEmailDomain(List.of("EXAMPLE.com"));
+        filter.setMaxAge(40);
+
+        List<Employee> result = filterService.filterEmployees(filter);
+
+        assertThat(result).extracting(Employee::getId).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("filterEmployees should return nothing for unknown values")
+    void filterEmployees_WithUnknownTitle_ShouldReturnEmptyList() {
+        when(mockApiClient.fetchAllEmployees()).thenReturn(roster);
+        EmployeeFilter filter = new EmployeeFilter();
+        filter.setTitle(List.of("Astronaut"));
+
+        assertThat(filterService.filterEmployees(filter)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("filterEmployees should reject inverted ranges without fetching")
+    void filterEmployees_WithInvertedRange_ShouldThrow() {
+        EmployeeFilter filter = new EmployeeFilter();
+        filter.setMinAge(50);
+        filter.setMaxAge(20);
+
+        assertThatThrownBy(() -> filterService.filterEmployees(filter))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("minAge cannot be greater than maxAge");
+        verifyNoInteractions(mockApiClient);
+    }
+
+    private static Employee employee(String id, int salary, int age, String title, String email) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName("Employee " + id);
+        employee.setSalary(salary);
+        employee.setAge(age);
+        employee.setTitle(title);
+        employee.setEmail(email);
+        return employee;
+    }
+}
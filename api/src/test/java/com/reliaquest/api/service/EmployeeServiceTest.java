@@ -3,18 +3,27 @@ package com.reliaquest.api.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import com.reliaquest.api.cache.LastKnownGoodRoster;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.SearchResultCache;
 import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.client.EmployeeCreateBatcher;
+import com.reliaquest.api.dto.ApiResponse;
 import com.reliaquest.api.dto.CreateEmployeeRequest;
 import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.exception.RateLimitException;
+import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.scan.ParallelScanner;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 /**
@@ -26,7 +35,21 @@ class EmployeeServiceTest {
     @Mock
     private ApiClient mockApiClient;
 
-    @InjectMocks
+    @Mock
+    private EmployeeCreateBatcher mockCreateEmployeeBatcher;
+
+    @Mock
+    private RosterCache mockRosterCache;
+
+    @Mock
+    private LastKnownGoodRoster mockLastKnownGoodRoster;
+
+    @Spy
+    private ParallelScanner scanner = new ParallelScanner(2, 2, 1);
+
+    @Spy
+    private SearchResultCache searchResultCache = new SearchResultCache(scanner, 100, 10);
+
     private EmployeeService employeeService;
 
     private Employee employee1;
@@ -36,6 +59,14 @@ class EmployeeServiceTest {
 
     @BeforeEach
     void setUp() {
+        employeeService = new EmployeeService(
+                mockApiClient,
+                mockCreateEmployeeBatcher,
+                mockRosterCache,
+                new RosterReader(mockApiClient, mockLastKnownGoodRoster),
+                searchResultCache,
+                scanner);
+
         employee1 = new Employee();
         employee1.setId("1");
         employee1.setName("John Doe");
@@ -72,6 +103,18 @@ class EmployeeServiceTest {
         verify(mockApiClient, times(1)).fetchAllEmployees();
     }
 
+    @Test
+    @DisplayName("getAllEmployees should fall back to the last known good roster when the upstream fails")
+    void getAllEmployees_WhenUpstreamRateLimited_ShouldServeLastKnownGoodRoster() {
+        RateLimitException failure = new RateLimitException("Rate limit exceeded", 30);
+        when(mockApiClient.fetchAllEmployees()).thenThrow(failure);
+        when(mockLastKnownGoodRoster.recover(failure)).thenReturn(allEmployees);
+
+        List<Employee> result = employeeService.getAllEmployees();
+
+        assertThat(result).containsExactly(employee1, employee2, employee3);
+    }
+
     @Test
     @DisplayName("searchEmployeesByName should find employees with matching names")
     void searchEmployeesByName_ShouldReturnMatchingEmployees() {
@@ -201,35 +244,67 @@ class EmployeeServiceTest {
         createdEmployee.setAge(32);
         createdEmployee.setTitle("Manager");
 
-        when(mockApiClient.createEmployee(any())).thenReturn(createdEmployee);
+        when(mockCreateEmployeeBatcher.create(any(), any())).thenAnswer(invocation -> {
+            invocation.<Consumer<Employee>>getArgument(1).accept(createdEmployee);
+            return createdEmployee;
+        });
 
         Employee result = employeeService.createEmployee(input);
 
         assertThat(result).isNotNull();
         assertThat(result.getName()).isEqualTo("New Employee");
+        verify(mockRosterCache).applyCreated(createdEmployee);
     }
 
     @Test
     @DisplayName("deleteEmployeeById should delete and return employee name")
     void deleteEmployeeById_ShouldDeleteAndReturnName() {
-        when(mockApiClient.fetchAllEmployees()).thenReturn(allEmployees);
-
-        when(mockApiClient.deleteEmployee("John Doe")).thenReturn(true);
+        String id = "4a3a170b-22cd-4ac2-aad1-9bb5b34a1507";
+        when(mockApiClient.deleteEmployeeById(id)).thenReturn(employee1);
 
-        String result = employeeService.deleteEmployeeById("1");
+        String result = employeeService.deleteEmployeeById(id);
 
         assertThat(result).isNotNull();
         assertThat(result).isEqualTo("John Doe");
+        verify(mockApiClient, never()).fetchAllEmployees();
+        verify(mockRosterCache).applyDeleted(List.of(employee1));
     }
 
     @Test
     @DisplayName("deleteEmployeeById should return null when employee not found")
     void deleteEmployeeById_WhenNotFound_ShouldReturnNull() {
-        when(mockApiClient.fetchAllEmployees()).thenReturn(allEmployees);
+        String id = "4a3a170b-22cd-4ac2-aad1-9bb5b34a1507";
+        when(mockApiClient.deleteEmployeeById(id)).thenThrow(new ResourceNotFoundException("Employee", id));
+
+        String result = employeeService.deleteEmployeeById(id);
 
+        assertThat(result).isNull();
+    }
+
+    @Test
+    @DisplayName("deleteEmployeeById should not call the API for ids that are not UUIDs")
+    void deleteEmployeeById_WhenIdIsNotUuid_ShouldReturnNullWithoutApiCall() {
         String result = employeeService.deleteEmployeeById("999");
 
         assertThat(result).isNull();
+        verifyNoInteractions(mockApiClient);
+    }
+
+    @Test
+    @DisplayName("deleteEmployeesByIds should delete in one API call and return deleted names")
+    void deleteEmployeesByIds_ShouldReturnDeletedNames() {
+        String firstId = "4a3a170b-22cd-4ac2-aad1-9bb5b34a1507";
+        String secondId = "5255f1a5-f9f7-4be5-829a-134bde088d17";
+        ApiResponse<Employee> deleted = new ApiResponse<>();
+        deleted.setData(employee2);
+        ApiResponse<Employee> notFound = new ApiResponse<>();
+        notFound.setError("Employee not found: " + secondId);
+        when(mockApiClient.deleteEmployeesByIds(List.of(firstId, secondId))).thenReturn(List.of(deleted, notFound));
+
+        List<String> result = employeeService.deleteEmployeesByIds(List.of(firstId, secondId, "not-a-uuid"));
+
+        assertThat(result).containsExactly("Jane Smith");
+        verify(mockApiClient, times(1)).deleteEmployeesByIds(anyList());
     }
 
     private Employee createEmployee(String id, String name, Integer salary) {
@@ -0,0 +1,69 @@
+package com.reliaquest.api.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.timing.RequestTimings.Phase;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RequestTimingsTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.end();
+    }
+
+    @Test
+    @DisplayName("Should render recorded phases in a Server-Timing header value")
+    void toHeaderValue_ShouldRenderRecordedPhasesInOrder() {
+        RequestTimings timings = RequestTimings.begin();
+
+        RequestTimings.record(Phase.COMPUTE, 3_040_000);
+        RequestTimings.record(Phase.UPSTREAM, TimeUnit.MILLISECONDS.toNanos(412));
+        RequestTimings.record(Phase.RETRY_WAIT, TimeUnit.SECONDS.toNanos(2));
+        RequestTimings.record(Phase.CACHE, 100_000);
+
+        assertThat(timings.toHeaderValue())
+                .isEqualTo("cache;dur=0.1, upstream;dur=412, retry-wait;dur=2000, compute;dur=3");
+    }
+
+    @Test
+    @DisplayName("Should return empty header value when nothing was recorded")
+    void toHeaderValue_WhenNothingRecorded_ShouldBeEmpty() {
+        RequestTimings timings = RequestTimings.begin();
+
+        assertThat(timings.toHeaderValue()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should subtract nested time from the enclosing span")
+    void start_WhenSpansAreNested_ShouldAttributeExclusiveTime() throws InterruptedException {
+        RequestTimings timings = RequestTimings.begin();
+
+        long started = System.nanoTime();
+        try (RequestTimings.Span ignored = RequestTimings.start(Phase.CACHE)) {
+            try (RequestTimings.Span nested = RequestTimings.start(Phase.UPSTREAM)) {
+                Thread.sleep(20);
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        assertThat(timings.getDuration(Phase.UPSTREAM)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(timings.getDuration(Phase.CACHE) + timings.getDuration(Phase.UPSTREAM))
+                .isLessThanOrEqualTo(elapsed);
+        assertThat(timings.getDuration(Phase.CACHE)).isLessThan(timings.getDuration(Phase.UPSTREAM));
+    }
+
+    @Test
+    @DisplayName("Should ignore timings outside of a request")
+    void record_WhenNoRequestIsTimed_ShouldBeNoOp() {
+        RequestTimings.record(Phase.UPSTREAM, 1_000_000);
+        try (RequestTimings.Span ignored = RequestTimings.start(Phase.CACHE)) {
+            RequestTimings.record(Phase.COMPUTE, 1_000_000);
+        }
+
+        assertThat(RequestTimings.begin().toHeaderValue()).isEmpty();
+    }
+}
@@ -0,0 +1,195 @@
+package com.reliaquest.api.write;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.reliaquest.api.dto.CreateEmployeeRequest;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.exception.ApiClientException;
+import com.reliaquest.api.exception.RateLimitException;
+import com.reliaquest.api.service.EmployeeService;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindQueueTest {
+
+    private final ObjectMapper objectMapper =
+            JsonMapper.builder().findAndAddModules().build();
+
+    @Mock
+    private EmployeeService mockEmployeeService;
+
+    @TempDir
+    private Path tempDir;
+
+    private Path journalPath;
+
+    private WriteBehindQueue queue;
+
+    private CreateEmployeeRequest request;
+
+    @BeforeEach
+    void setUp() {
+        journalPath = tempDir.resolve("writes.journal");
+        queue = newQueue();
+        request = new CreateEmployeeRequest("New Employee", 60000, 28, "Junior Developer");
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("process should create the employee and record the outcome")
+    void process_WhenCreateSucceeds_ShouldRecordEmployee() throws InterruptedException {
+        Employee created = employee("e-1", "New Employee");
+        when(mockEmployeeService.createEmployee(request)).thenReturn(created);
+
+        WriteStatus accepted = queue.submitCreate(request);
+        assertThat(accepted.state()).isEqualTo(WriteStatus.State.PENDING);
+        queue.process(accepted.id());
+
+        WriteStatus status = queue.getStatus(accepted.id()).orElseThrow();
+        assertThat(status.state()).isEqualTo(WriteStatus.State.SUCCEEDED);
+        assertThat(status.employeeId()).isEqualTo("e-1");
+        assertThat(status.attempts()).isEqualTo(1);
+        assertThat(status.completedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("process should retry a rate limited write until it succeeds")
+    void process_WhenRateLimited_ShouldRetry() throws InterruptedException {
+        when(mockEmployeeService.deleteEmployeeById("e-1"))
+                .thenThrow(new RateLimitException("Rate limit exceeded"))
+                .thenReturn("John Doe");
+
+        WriteStatus accepted = queue.submitDelete("e-1");
+        queue.process(accepted.id());
+
+        WriteStatus status = queue.getStatus(accepted.id()).orElseThrow();
+        assertThat(status.state()).isEqualTo(WriteStatus.State.SUCCEEDED);
+        assertThat(status.employeeName()).isEqualTo("John Doe");
+        assertThat(status.attempts()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("process should fail a write rejected by the upstream without retrying")
+    void process_WhenRejected_ShouldFailWithoutRetry() throws InterruptedException {
+        when(mockEmployeeService.createEmployee(request))
+                .thenThrow(new ApiClientException("Invalid employee data provided"));
+
+        WriteStatus accepted = queue.submitCreate(request);
+        queue.process(accepted.id());
+
+        WriteStatus status = queue.getStatus(accepted.id()).orElseThrow();
+        assertThat(status.state()).isEqualTo(WriteStatus.State.FAILED);
+        assertThat(status.error()).isEqualTo("Invalid employee data provided");
+        verify(mockEmployeeService, times(1)).createEmployee(request);
+    }
+
+    @Test
+    @DisplayName("process should not retry a create that timed out, since it may have reached the upstream")
+    void process_WhenCreateTimesOut_ShouldEndUnknownWithoutRetry() throws InterruptedException {
+        when(mockEmployeeService.createEmployee(request))
+                .thenThrow(new ApiClientException("Timed out waiting for the upstream", new TimeoutException()));
+
+        WriteStatus accepted = queue.submitCreate(request);
+        queue.process(accepted.id());
+
+        WriteStatus status = queue.getStatus(accepted.id()).orElseThrow();
+        assertThat(status.state()).isEqualTo(WriteStatus.State.UNKNOWN);
+        assertThat(status.attempts()).isEqualTo(1);
+        assertThat(status.completedAt()).isNotNull();
+        verify(mockEmployeeService, times(1)).createEmployee(request);
+    }
+
+    @Test
+    @DisplayName("process should retry a delete that timed out")
+    void process_WhenDeleteTimesOut_ShouldRetry() throws InterruptedException {
+        when(mockEmployeeService.deleteEmployeeById("e-1"))
+                .thenThrow(new ApiClientException("Timed out waiting for the upstream", new TimeoutException()))
+                .thenReturn("John Doe");
+
+        WriteStatus accepted = queue.submitDelete("e-1");
+        queue.process(accepted.id());
+
+        WriteStatus status = queue.getStatus(accepted.id()).orElseThrow();
+        assertThat(status.state()).isEqualTo(WriteStatus.State.SUCCEEDED);
+        assertThat(status.attempts()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("process should fail the deletion of an unknown employee")
+    void process_WhenEmployeeNotFound_ShouldFail() throws InterruptedException {
+        when(mockEmployeeService.deleteEmployeeById("missing")).thenReturn(null);
+
+        WriteStatus accepted = queue.submitDelete("missing");
+        queue.process(accepted.id());
+
+        WriteStatus status = queue.getStatus(accepted.id()).orElseThrow();
+        assertThat(status.state()).isEqualTo(WriteStatus.State.FAILED);
+        assertThat(status.error()).isEqualTo("Employee not found: missing");
+    }
+
+    @Test
+    @DisplayName("recover should replay pending writes from the journal in acceptance order")
+    void recover_ShouldReplayPendingWritesInOrder() throws InterruptedException {
+        when(mockEmployeeService.createEmployee(any())).thenReturn(employee("e-2", "New Employee"));
+        WriteStatus create = queue.submitCreate(request);
+        WriteStatus delete = queue.submitDelete("e-1");
+        queue.shutdown();
+
+        WriteBehindQueue restarted = newQueue();
+        restarted.recover();
+        assertThat(restarted.getPendingCount()).isEqualTo(2);
+        assertThat(restarted.getStatus(create.id()).orElseThrow().request().getName())
+                .isEqualTo("New Employee");
+
+        restarted.process(create.id());
+        restarted.process(delete.id());
+        restarted.shutdown();
+
+        InOrder inOrder = inOrder(mockEmployeeService);
+        inOrder.verify(mockEmployeeService).createEmployee(any());
+        inOrder.verify(mockEmployeeService).deleteEmployeeById("e-1");
+
+        WriteBehindQueue afterCompletion = newQueue();
+        afterCompletion.recover();
+        assertThat(afterCompletion.getPendingCount()).isZero();
+        assertThat(afterCompletion.getStatus(create.id()).orElseThrow().state()).isEqualTo(WriteStatus.State.SUCCEEDED);
+        afterCompletion.shutdown();
+    }
+
+    private WriteBehindQueue newQueue() {
+        return new WriteBehindQueue(
+                mockEmployeeService,
+                objectMapper,
+                true,
+                journalPath,
+                Duration.ofMillis(1),
+                Duration.ofMillis(10),
+                5,
+                100);
+    }
+
+    private static Employee employee(final String id, final String name) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName(name);
+        return employee;
+    }
+}
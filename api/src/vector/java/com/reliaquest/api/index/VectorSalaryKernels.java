@@ -0,0 +1,108 @@
+package com.reliaquest.api.index;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD loops over the salary column using the widest integer vectors the CPU supports. Each method processes
+ * whole vectors and finishes the remaining tail with scalar code. Only instantiated by
+ * {@link SalaryKernels#best()} when {@code jdk.incubator.vector} is resolved.
+ */
+final class VectorSalaryKernels implements SalaryKernels {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    /**
+     * Longs of the same vector size; each int vector widens into two of them.
+     */
+    private static final VectorSpecies<Long> LONGS = VectorSpecies.of(long.class, INTS.vectorShape());
+
+    @Override
+    public int max(final int[] values) {
+        IntVector accumulator = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+        int i = 0;
+        for (int bound = INTS.loopBound(values.length); i < bound; i += INTS.length()) {
+            accumulator = accumulator.max(IntVector.fromArray(INTS, values, i));
+        }
+        int max = accumulator.reduceLanes(VectorOperators.MAX);
+        for (; i < values.length; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public int min(final int[] values) {
+        IntVector accumulator = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+        int i = 0;
+        for (int bound = INTS.loopBound(values.length); i < bound; i += INTS.length()) {
+            accumulator = accumulator.min(IntVector.fromArray(INTS, values, i));
+        }
+        int min = accumulator.reduceLanes(VectorOperators.MIN);
+        for (; i < values.length; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public long sum(final int[] values) {
+        // Widened to long lanes so that large rosters cannot overflow
+        LongVector accumulator = LongVector.zero(LONGS);
+        int i = 0;
+        for (int bound = INTS.loopBound(values.length); i < bound; i += INTS.length()) {
+            IntVector block = IntVector.fromArray(INTS, values, i);
+            accumulator = accumulator
+                    .add((LongVector) block.convertShape(VectorOperators.I2L, LONGS, 0))
+                    .add((LongVector) block.convertShape(VectorOperators.I2L, LONGS, 1));
+        }
+        long sum = accumulator.reduceLanes(VectorOperators.ADD);
+        for (; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int countInRange(final int[] values, final int min, final int max) {
+        int count = 0;
+        int i = 0;
+        for (int bound = INTS.loopBound(values.length); i < bound; i += INTS.length()) {
+            IntVector block = IntVector.fromArray(INTS, values, i);
+            VectorMask<Integer> inRange =
+                    block.compare(VectorOperators.GE, min).and(block.compare(VectorOperators.LE, max));
+            count += inRange.trueCount();
+        }
+        for (; i < values.length; i++) {
+            if (values[i] >= min && values[i] <= max) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int nextAbove(final int[] values, final int from, final int threshold) {
+        int i = from;
+        for (int bound = from + INTS.loopBound(values.length - from); i < bound; i += INTS.length()) {
+            VectorMask<Integer> above = IntVector.fromArray(INTS, values, i).compare(VectorOperators.GT, threshold);
+            if (above.anyTrue()) {
+                return i + above.firstTrue();
+            }
+        }
+        for (; i < values.length; i++) {
+            if (values[i] > threshold) {
+                return i;
+            }
+        }
+        return values.length;
+    }
+
+    @Override
+    public String toString() {
+        return INTS.length() + " x int lanes";
+    }
+}
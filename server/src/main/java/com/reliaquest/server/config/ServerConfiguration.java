@@ -1,6 +1,10 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.reliaquest.server.fault.FaultInjector;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.web.FaultInjectionInterceptor;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
 import java.util.ArrayList;
 import java.util.List;
@@ -8,6 +12,7 @@ import java.util.Locale;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import net.datafaker.transformations.Field;
@@ -16,15 +21,22 @@ import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private final FaultInjector faultInjector;
+
+    private final ObjectMapper objectMapper;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
@@ -52,8 +64,21 @@ public class ServerConfiguration implements WebMvcConfigurer {
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
+    /*
+     * Clients may exchange application/cbor instead of JSON, negotiated through Accept and Content-Type; JSON stays
+     * the default. Built from the application's Jackson settings, so the naming of MockEmployee applies, and UUIDs
+     * are written as 16 raw bytes.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(
+                builder.factory(new CBORFactory()).build());
+    }
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        registry.addInterceptor(new FaultInjectionInterceptor(faultInjector, objectMapper))
+                .addPathPatterns("/api/v1/employee/**");
+        registry.addInterceptor(new RandomRequestLimitInterceptor()).excludePathPatterns("/admin/**");
     }
 }
@@ -0,0 +1,57 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.fault.FaultInjector;
+import com.reliaquest.server.fault.FaultRule;
+import com.reliaquest.server.model.Response;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+ * Switches latency, error and slow-body injection on MockEmployeeController endpoints at runtime, e.g.
+ * PUT /admin/faults/getEmployees {"latency": "long_tail", "latencyMillis": 50, "errorRate": 0.05}.
+ */
+@RestController
+@RequestMapping("/admin/faults")
+@RequiredArgsConstructor
+public class FaultAdminController {
+
+    private final FaultInjector faultInjector;
+
+    @GetMapping()
+    public Response<Map<String, FaultRule>> getRules() {
+        return Response.handledWith(faultInjector.getRules());
+    }
+
+    @PutMapping("/{endpoint}")
+    public Response<FaultRule> setRule(@PathVariable("endpoint") String endpoint, @RequestBody FaultRule rule) {
+        faultInjector.setRule(endpoint, rule);
+        return Response.handledWith(rule);
+    }
+
+    @DeleteMapping("/{endpoint}")
+    public Response<Boolean> clearRule(@PathVariable("endpoint") String endpoint) {
+        faultInjector.clearRule(endpoint);
+        return Response.handledWith(true);
+    }
+
+    @DeleteMapping()
+    public Response<Boolean> clearRules() {
+        faultInjector.clearRules();
+        return Response.handledWith(true);
+    }
+
+    @ExceptionHandler({IllegalArgumentException.class, HttpMessageNotReadableException.class})
+    protected ResponseEntity<Response<Object>> handleBadRequest(Exception ex) {
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+}
@@ -2,12 +2,17 @@ package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeesInput;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +31,8 @@ public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
 
+    private final Validator validator;
+
     @GetMapping()
     public Response<List<MockEmployee>> getEmployees() {
         return Response.handledWith(mockEmployeeService.getMockEmployees());
@@ -44,8 +51,57 @@ public class MockEmployeeController {
         return Response.handledWith(mockEmployeeService.create(input));
     }
 
+    /*
+     * Items are validated individually so that one bad input does not fail the whole batch. Results are returned
+     * in input order; an empty batch is a bad request.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<Response<List<Response<MockEmployee>>>> createEmployees(
+            @RequestBody List<CreateMockEmployeeInput> inputs) {
+        if (inputs.isEmpty()) {
+            return ResponseEntity.badRequest().body(Response.error("At least one employee input is required."));
+        }
+        return ResponseEntity.ok(Response.handledWith(
+                inputs.stream().map(this::createEmployeeItem).toList()));
+    }
+
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> deleteEmployeeById(@PathVariable("id") UUID uuid) {
+        return mockEmployeeService
+                .deleteById(uuid)
+                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
+
+    /*
+     * Results are returned in input order; ids that did not match an employee get an error item.
+     */
+    @DeleteMapping("/bulk")
+    public Response<List<Response<MockEmployee>>> deleteEmployees(@Valid @RequestBody DeleteMockEmployeesInput input) {
+        final var removed = mockEmployeeService.deleteByIds(new HashSet<>(input.getIds()));
+        return Response.handledWith(input.getIds().stream()
+                .map(uuid -> Objects.nonNull(removed.get(uuid))
+                        ? Response.handledWith(removed.get(uuid))
+                        : Response.<MockEmployee>error("Employee not found: " + uuid))
+                .toList());
+    }
+
+    private Response<MockEmployee> createEmployeeItem(CreateMockEmployeeInput input) {
+        if (Objects.isNull(input)) {
+            return Response.error("Employee input is required.");
+        }
+        final var violations = validator.validate(input);
+        if (!violations.isEmpty()) {
+            return Response.error(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        return Response.handledWith(mockEmployeeService.create(input));
+    }
 }
@@ -0,0 +1,64 @@
+package com.reliaquest.server.fault;
+
+import com.reliaquest.server.controller.MockEmployeeController;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/*
+ * Fault rules per MockEmployeeController endpoint, named after its handler method, e.g. getEmployees. The rule for
+ * "default" applies to endpoints without a rule of their own.
+ */
+@Slf4j
+@Component
+public class FaultInjector {
+
+    public static final String DEFAULT_ENDPOINT = "default";
+
+    public static final Set<String> ENDPOINTS = Arrays.stream(MockEmployeeController.class.getDeclaredMethods())
+            .filter(method -> AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class))
+            .map(Method::getName)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final Map<String, FaultRule> rules = new ConcurrentHashMap<>();
+
+    public Optional<FaultRule> ruleFor(String endpoint) {
+        return Optional.ofNullable(rules.getOrDefault(endpoint, rules.get(DEFAULT_ENDPOINT)));
+    }
+
+    public Map<String, FaultRule> getRules() {
+        return new TreeMap<>(rules);
+    }
+
+    public void setRule(String endpoint, FaultRule rule) {
+        rules.put(validate(endpoint), rule);
+        log.info("Injecting faults into {}: {}", endpoint, rule);
+    }
+
+    public void clearRule(String endpoint) {
+        rules.remove(validate(endpoint));
+        log.info("Stopped injecting faults into {}", endpoint);
+    }
+
+    public void clearRules() {
+        rules.clear();
+        log.info("Stopped injecting faults");
+    }
+
+    private static String validate(String endpoint) {
+        if (!DEFAULT_ENDPOINT.equals(endpoint) && !ENDPOINTS.contains(endpoint)) {
+            throw new IllegalArgumentException("Unknown endpoint '" + endpoint + "', expected default or one of "
+                    + ENDPOINTS.stream().sorted().toList());
+        }
+        return endpoint;
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.server.fault;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+import lombok.Builder;
+
+/*
+ * Faults injected into one endpoint of MockEmployeeController. Omitted fields inject nothing; sampled latencies are
+ * capped at maxLatencyMillis. An injected 429 tells the client to retry after retryAfterSeconds.
+ */
+@Builder
+public record FaultRule(
+        LatencyDistribution latency,
+        long latencyMillis,
+        long stdDevMillis,
+        double tailShape,
+        long maxLatencyMillis,
+        double errorRate,
+        int errorStatus,
+        int retryAfterSeconds,
+        int bodyBytesPerSecond) {
+
+    public static final long DEFAULT_MAX_LATENCY_MILLIS = 30_000;
+
+    public static final double DEFAULT_TAIL_SHAPE = 1.5;
+
+    public static final int DEFAULT_ERROR_STATUS = 500;
+
+    public static final int DEFAULT_RETRY_AFTER_SECONDS = 1;
+
+    public FaultRule {
+        latency = Objects.requireNonNullElse(latency, LatencyDistribution.NONE);
+        tailShape = tailShape == 0 ? DEFAULT_TAIL_SHAPE : tailShape;
+        maxLatencyMillis = maxLatencyMillis == 0 ? DEFAULT_MAX_LATENCY_MILLIS : maxLatencyMillis;
+        errorStatus = errorStatus == 0 ? DEFAULT_ERROR_STATUS : errorStatus;
+        retryAfterSeconds = retryAfterSeconds == 0 ? DEFAULT_RETRY_AFTER_SECONDS : retryAfterSeconds;
+        if (latencyMillis < 0 || stdDevMillis < 0 || maxLatencyMillis < 0 || bodyBytesPerSecond < 0) {
+            throw new IllegalArgumentException("Latencies and body rate cannot be negative");
+        }
+        if (retryAfterSeconds < 0) {
+            throw new IllegalArgumentException("retryAfterSeconds cannot be negative");
+        }
+        if (tailShape <= 0) {
+            throw new IllegalArgumentException("tailShape must be positive");
+        }
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("errorRate must be between 0 and 1");
+        }
+        if (errorStatus < 400 || errorStatus > 599) {
+            throw new IllegalArgumentException("errorStatus must be an HTTP error status");
+        }
+    }
+
+    public long sampleLatencyMillis(RandomGenerator random) {
+        final long sampled =
+                switch (latency) {
+                    case NONE -> 0;
+                    case FIXED -> latencyMillis;
+                    case NORMAL -> Math.round(latencyMillis + stdDevMillis * random.nextGaussian());
+                    case LONG_TAIL -> Math.round(latencyMillis / Math.pow(1 - random.nextDouble(), 1 / tailShape));
+                };
+        return Math.max(0, Math.min(sampled, maxLatencyMillis));
+    }
+
+    public boolean sampleError(RandomGenerator random) {
+        return errorRate > 0 && random.nextDouble() < errorRate;
+    }
+}
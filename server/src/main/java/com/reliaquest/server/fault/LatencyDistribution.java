@@ -0,0 +1,28 @@
+package com.reliaquest.server.fault;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.Locale;
+
+public enum LatencyDistribution {
+    NONE,
+    /*
+     * Always latencyMillis.
+     */
+    FIXED,
+    /*
+     * Gaussian around latencyMillis with a standard deviation of stdDevMillis.
+     */
+    NORMAL,
+    /*
+     * Pareto with a minimum of latencyMillis; the smaller tailShape, the heavier the tail.
+     */
+    LONG_TAIL;
+
+    /*
+     * Rules name the distribution in any case, e.g. long_tail.
+     */
+    @JsonCreator
+    public static LatencyDistribution fromName(String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+}
@@ -4,10 +4,14 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -55,4 +59,27 @@ public class MockEmployeeService {
 
         return false;
     }
+
+    public Optional<MockEmployee> deleteById(@NonNull UUID uuid) {
+        final var mockEmployee = findById(uuid);
+        mockEmployee.ifPresent(employee -> {
+            mockEmployees.remove(employee);
+            log.debug("Removed employee: {}", employee);
+        });
+        return mockEmployee;
+    }
+
+    /*
+     * Removes all matching employees with one scan of the list rather than one lookup per id. The result maps each
+     * removed id to its employee; ids that did not match are absent.
+     */
+    public Map<UUID, MockEmployee> deleteByIds(@NonNull Collection<UUID> uuids) {
+        final var removed = mockEmployees.stream()
+                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId()) && uuids.contains(mockEmployee.getId()))
+                .collect(Collectors.toMap(MockEmployee::getId, Function.identity(), (first, second) -> first));
+        mockEmployees.removeIf(mockEmployee ->
+                Objects.nonNull(mockEmployee.getId()) && removed.get(mockEmployee.getId()) == mockEmployee);
+        removed.values().forEach(mockEmployee -> log.debug("Removed employee: {}", mockEmployee));
+        return removed;
+    }
 }
@@ -0,0 +1,73 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.fault.FaultInjector;
+import com.reliaquest.server.fault.FaultRule;
+import com.reliaquest.server.model.Response;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+
+/*
+ * Applies the fault rule of the endpoint being called: waits for a sampled latency, then either fails the request
+ * with the rule's error status or lets it through, with its body throttled if the rule asks for a slow body.
+ * Injected errors carry the same error envelope as real ones, and an injected 429 carries Retry-After.
+ */
+@RequiredArgsConstructor
+public class FaultInjectionInterceptor implements HandlerInterceptor {
+
+    private final FaultInjector faultInjector;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException, IOException {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        final var rule = faultInjector.ruleFor(handlerMethod.getMethod().getName());
+        if (rule.isEmpty()) {
+            return true;
+        }
+
+        final long latencyMillis = rule.get().sampleLatencyMillis(ThreadLocalRandom.current());
+        if (latencyMillis > 0) {
+            Thread.sleep(latencyMillis);
+        }
+        if (rule.get().sampleError(ThreadLocalRandom.current())) {
+            sendError(response, rule.get());
+            return false;
+        }
+        throttleBody(response, rule.get());
+        return true;
+    }
+
+    private void sendError(HttpServletResponse response, FaultRule rule) throws IOException {
+        response.setStatus(rule.errorStatus());
+        if (rule.errorStatus() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(rule.retryAfterSeconds()));
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(
+                response.getOutputStream(), Response.error("Injected fault: " + rule.errorStatus() + " response"));
+    }
+
+    private static void throttleBody(HttpServletResponse response, FaultRule rule) {
+        if (rule.bodyBytesPerSecond() <= 0) {
+            return;
+        }
+        final var throttled = WebUtils.getNativeResponse(response, SlowBodyFilter.ThrottledResponse.class);
+        if (throttled != null) {
+            throttled.throttle(rule.bodyBytesPerSecond());
+        }
+    }
+}
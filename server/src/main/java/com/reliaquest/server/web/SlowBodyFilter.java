@@ -0,0 +1,118 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/*
+ * Wraps employee responses so that FaultInjectionInterceptor can slow down their bodies. Until then the wrapper
+ * passes everything straight through.
+ */
+@Component
+public class SlowBodyFilter extends OncePerRequestFilter {
+
+    /*
+     * Bytes are written in slices of a twentieth of a second's worth, each flushed and followed by a pause.
+     */
+    private static final int SLICES_PER_SECOND = 20;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/v1/employee");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        filterChain.doFilter(request, new ThrottledResponse(response));
+    }
+
+    public static class ThrottledResponse extends HttpServletResponseWrapper {
+
+        private int bytesPerSecond;
+
+        private ServletOutputStream outputStream;
+
+        ThrottledResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        public void throttle(int bytesPerSecond) {
+            this.bytesPerSecond = bytesPerSecond;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new ThrottledOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        private class ThrottledOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            ThrottledOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                if (bytesPerSecond <= 0) {
+                    delegate.write(b, off, len);
+                    return;
+                }
+                final int slice = Math.max(1, bytesPerSecond / SLICES_PER_SECOND);
+                for (int written = 0; written < len; written += slice) {
+                    final int count = Math.min(slice, len - written);
+                    delegate.write(b, off + written, count);
+                    delegate.flush();
+                    pause(count * 1000L / bytesPerSecond);
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+
+            private static void pause(long millis) throws InterruptedIOException {
+                try {
+                    Thread.sleep(millis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while throttling response body");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.reliaquest.server.fault;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FaultRuleTest {
+
+    private final ObjectMapper objectMapper =
+            JsonMapper.builder().findAndAddModules().build();
+
+    private final RandomGenerator random = new Random(42);
+
+    @Test
+    @DisplayName("Should parse a rule with a case-insensitive latency and default the omitted fields")
+    void parse_ShouldApplyDefaults() throws Exception {
+        FaultRule rule = objectMapper.readValue(
+                "{\"latency\": \"long_tail\", \"latencyMillis\": 50, \"errorRate\": 0.05}", FaultRule.class);
+
+        assertThat(rule.latency()).isEqualTo(LatencyDistribution.LONG_TAIL);
+        assertThat(rule.latencyMillis()).isEqualTo(50);
+        assertThat(rule.tailShape()).isEqualTo(FaultRule.DEFAULT_TAIL_SHAPE);
+        assertThat(rule.maxLatencyMillis()).isEqualTo(FaultRule.DEFAULT_MAX_LATENCY_MILLIS);
+        assertThat(rule.errorStatus()).isEqualTo(FaultRule.DEFAULT_ERROR_STATUS);
+        assertThat(rule.retryAfterSeconds()).isEqualTo(FaultRule.DEFAULT_RETRY_AFTER_SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should inject nothing when no field is set")
+    void parse_WhenEmpty_ShouldInjectNothing() throws Exception {
+        FaultRule rule = objectMapper.readValue("{}", FaultRule.class);
+
+        assertThat(rule.latency()).isEqualTo(LatencyDistribution.NONE);
+        assertThat(rule.sampleLatencyMillis(random)).isZero();
+        assertThat(rule.sampleError(random)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject a rule that fails validation while parsing")
+    void parse_WhenInvalid_ShouldThrow() {
+        assertThatThrownBy(() -> objectMapper.readValue("{\"errorRate\": 1.5}", FaultRule.class))
+                .isInstanceOf(ValueInstantiationException.class)
+                .hasRootCauseInstanceOf(IllegalArgumentException.class)
+                .hasRootCauseMessage("errorRate must be between 0 and 1");
+        assertThatThrownBy(() -> objectMapper.readValue("{\"latency\": \"uniform\"}", FaultRule.class))
+                .isInstanceOf(ValueInstantiationException.class)
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject negative latencies, error rates outside 0..1 and non-error statuses")
+    void constructor_WhenOutOfBounds_ShouldThrow() {
+        assertThatThrownBy(() -> FaultRule.builder().latencyMillis(-1).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FaultRule.builder().tailShape(-0.5).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FaultRule.builder().errorRate(-0.1).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FaultRule.builder().errorRate(1.01).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FaultRule.builder().errorStatus(302).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FaultRule.builder().retryAfterSeconds(-1).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should never fail at error rate 0 and always fail at error rate 1")
+    void sampleError_AtProbabilityBounds_ShouldBeDeterministic() {
+        FaultRule never = FaultRule.builder().errorRate(0).build();
+        FaultRule always = FaultRule.builder().errorRate(1).build();
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(never.sampleError(random)).isFalse();
+            assertThat(always.sampleError(random)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep sampled latencies between zero and the cap for every distribution")
+    void sampleLatencyMillis_ShouldStayWithinBounds() {
+        for (LatencyDistribution latency : LatencyDistribution.values()) {
+            FaultRule rule = FaultRule.builder()
+                    .latency(latency)
+                    .latencyMillis(100)
+                    .stdDevMillis(500)
+                    .tailShape(0.5)
+                    .maxLatencyMillis(1000)
+                    .build();
+
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(rule.sampleLatencyMillis(random)).isBetween(0L, 1000L);
+            }
+        }
+    }
+}
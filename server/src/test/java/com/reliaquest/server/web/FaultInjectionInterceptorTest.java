@@ -0,0 +1,81 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.controller.MockEmployeeController;
+import com.reliaquest.server.fault.FaultInjector;
+import com.reliaquest.server.fault.FaultRule;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class FaultInjectionInterceptorTest {
+
+    private final FaultInjector faultInjector = new FaultInjector();
+
+    private final FaultInjectionInterceptor interceptor =
+            new FaultInjectionInterceptor(faultInjector, new ObjectMapper());
+
+    private HandlerMethod getEmployees;
+
+    @BeforeEach
+    void setUp() {
+        Method method = Arrays.stream(MockEmployeeController.class.getDeclaredMethods())
+                .filter(declared -> declared.getName().equals("getEmployees"))
+                .findFirst()
+                .orElseThrow();
+        getEmployees = new HandlerMethod(new Object(), method);
+    }
+
+    @Test
+    @DisplayName("Should answer an injected 429 with the error envelope and Retry-After")
+    void preHandle_WhenInjecting429_ShouldSendEnvelopeAndRetryAfter() throws Exception {
+        faultInjector.setRule(
+                "getEmployees",
+                FaultRule.builder()
+                        .errorRate(1)
+                        .errorStatus(429)
+                        .retryAfterSeconds(7)
+                        .build());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(new MockHttpServletRequest(), response, getEmployees);
+
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("7");
+        assertThat(response.getContentType()).isEqualTo("application/json");
+        assertThat(response.getContentAsString())
+                .isEqualTo("{\"status\":\"Failed to process request.\",\"error\":\"Injected fault: 429 response\"}");
+    }
+
+    @Test
+    @DisplayName("Should answer other injected errors with the error envelope but no Retry-After")
+    void preHandle_WhenInjecting500_ShouldSendEnvelopeOnly() throws Exception {
+        faultInjector.setRule("default", FaultRule.builder().errorRate(1).build());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(new MockHttpServletRequest(), response, getEmployees);
+
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(500);
+        assertThat(response.getHeader("Retry-After")).isNull();
+        assertThat(response.getContentAsString()).contains("\"error\":\"Injected fault: 500 response\"");
+    }
+
+    @Test
+    @DisplayName("Should let the request through when no rule applies")
+    void preHandle_WithoutRule_ShouldProceed() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, getEmployees))
+                .isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+}